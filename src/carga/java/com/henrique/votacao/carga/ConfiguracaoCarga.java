@@ -0,0 +1,70 @@
+package com.henrique.votacao.carga;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parâmetros do {@link GeradorCarga}, lidos da linha de comando no formato {@code --nome=valor}.
+ *
+ * @param url endereço base da instância (sem {@code /api/v1})
+ * @param taxa votos por segundo, em ritmo fixo
+ * @param duracaoSegundos tempo medido de carga
+ * @param aquecimentoSegundos carga inicial descartada do relatório
+ * @param duplicados fração dos votos que repete um CPF que já votou (0 a 1)
+ * @param pautas quantidade de pautas criadas; os votos são distribuídos entre elas
+ * @param consultasPorSegundo consultas de resultado por segundo, também em ritmo fixo
+ * @param timeoutMs tempo máximo de espera por uma resposta
+ * @param maxPendentes requisições em andamento ao mesmo tempo; acima disso o gerador espera
+ * @param saida diretório onde os histogramas e o resumo são gravados
+ * @author Henrique
+ * @since 1.0
+ */
+public record ConfiguracaoCarga(URI url, int taxa, int duracaoSegundos, int aquecimentoSegundos, double duplicados,
+                                int pautas, int consultasPorSegundo, long timeoutMs, int maxPendentes, Path saida) {
+
+    private static final Set<String> NOMES = Set.of("url", "taxa", "duracao", "aquecimento", "duplicados", "pautas",
+            "consultas", "timeout-ms", "max-pendentes", "saida");
+
+    public ConfiguracaoCarga {
+        if (taxa < 1 || duracaoSegundos < 1 || aquecimentoSegundos < 0 || pautas < 1 || consultasPorSegundo < 0
+                || timeoutMs < 1 || maxPendentes < 1) {
+            throw new IllegalArgumentException("Parâmetros de carga inválidos");
+        }
+        if (duplicados < 0 || duplicados > 1) {
+            throw new IllegalArgumentException("A fração de duplicados deve estar entre 0 e 1");
+        }
+    }
+
+    /**
+     * Lê os parâmetros da linha de comando; os ausentes ficam com o valor padrão.
+     * @param args argumentos no formato {@code --nome=valor}
+     * @return configuração da carga
+     * @throws IllegalArgumentException se um argumento for desconhecido ou inválido
+     */
+    public static ConfiguracaoCarga ler(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            String nome = arg.startsWith("--") && igual > 2 ? arg.substring(2, igual) : null;
+            if (nome == null || !NOMES.contains(nome)) {
+                throw new IllegalArgumentException("Argumento desconhecido: " + arg + " (aceitos: --" + String.join("=, --", NOMES) + "=)");
+            }
+            valores.put(nome, arg.substring(igual + 1));
+        }
+
+        return new ConfiguracaoCarga(
+                URI.create(valores.getOrDefault("url", "http://localhost:8080")),
+                Integer.parseInt(valores.getOrDefault("taxa", "200")),
+                Integer.parseInt(valores.getOrDefault("duracao", "60")),
+                Integer.parseInt(valores.getOrDefault("aquecimento", "10")),
+                Double.parseDouble(valores.getOrDefault("duplicados", "0.1")),
+                Integer.parseInt(valores.getOrDefault("pautas", "1")),
+                Integer.parseInt(valores.getOrDefault("consultas", "5")),
+                Long.parseLong(valores.getOrDefault("timeout-ms", "10000")),
+                Integer.parseInt(valores.getOrDefault("max-pendentes", "10000")),
+                Path.of(valores.getOrDefault("saida", "target/carga")));
+    }
+}
@@ -0,0 +1,240 @@
+package com.henrique.votacao.carga;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga HTTP para medir a capacidade de uma instância da API.
+ *
+ * <p>Cria as pautas, abre as sessões e dispara votos e consultas de resultado em ritmo fixo
+ * (laço aberto): a requisição {@code i} tem horário previsto {@code inicio + i / taxa} e sai nesse
+ * horário mesmo que as anteriores ainda não tenham voltado. A latência é medida a partir do
+ * horário previsto, então um servidor que trava por um segundo aparece em todas as requisições
+ * que deveriam ter saído nesse segundo, e não só na que ficou presa (omissão coordenada).
+ *
+ * <p>Uma fração dos votos repete o CPF de um voto anterior, para exercitar a recusa de voto
+ * duplicado. Votos únicos e duplicados são medidos como endpoints separados.
+ *
+ * <p>Execução, com a aplicação rodando:
+ * {@code mvn -Pcarga test-compile exec:exec -Dcarga.args="--taxa=500 --duracao=60"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public class GeradorCarga {
+
+    private static final int CPFS_RECENTES = 1 << 16;
+    private static final DateTimeFormatter FORMATO_TITULO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ConfiguracaoCarga config;
+    private final RelatorioLatencias relatorio = new RelatorioLatencias();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final Semaphore pendentes;
+
+    private final long baseCpf = 100_000_000L + ThreadLocalRandom.current().nextLong(800_000_000L);
+    // Só a thread que dispara os votos usa estes campos
+    private final String[] cpfsRecentes = new String[CPFS_RECENTES];
+    private final int[] pautasRecentes = new int[CPFS_RECENTES];
+    private long votosUnicos;
+
+    private String[] caminhosPautas;
+    private long inicioMedicaoNs;
+
+    public GeradorCarga(ConfiguracaoCarga config) {
+        this.config = config;
+        this.pendentes = new Semaphore(config.maxPendentes());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.timeoutMs()))
+                .executor(executor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga config = ConfiguracaoCarga.ler(args);
+        new GeradorCarga(config).executar();
+    }
+
+    /**
+     * Prepara as pautas, roda o aquecimento e a carga medida e grava o relatório.
+     * @throws IOException se a preparação falhar ou o relatório não puder ser gravado
+     * @throws InterruptedException se a execução for interrompida
+     */
+    public void executar() throws IOException, InterruptedException {
+        prepararPautas();
+
+        System.out.printf("Carga: %d votos/s (%.0f%% duplicados) e %d consultas/s em %d pauta(s), %ds de aquecimento + %ds medidos%n",
+                config.taxa(), config.duplicados() * 100, config.consultasPorSegundo(), config.pautas(),
+                config.aquecimentoSegundos(), config.duracaoSegundos());
+
+        long inicioNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        inicioMedicaoNs = inicioNs + TimeUnit.SECONDS.toNanos(config.aquecimentoSegundos());
+        long fimNs = inicioMedicaoNs + TimeUnit.SECONDS.toNanos(config.duracaoSegundos());
+
+        Thread consultas = null;
+        if (config.consultasPorSegundo() > 0) {
+            consultas = Thread.ofPlatform().name("carga-consultas").start(
+                    () -> disparar(config.consultasPorSegundo(), inicioNs, fimNs, this::consultarResultado));
+        }
+        disparar(config.taxa(), inicioNs, fimNs, this::votar);
+        if (consultas != null) {
+            consultas.join();
+        }
+
+        // Espera as respostas que ainda estão a caminho antes de fechar os histogramas
+        if (!pendentes.tryAcquire(config.maxPendentes(), config.timeoutMs() * 2, TimeUnit.MILLISECONDS)) {
+            System.out.println("Aviso: requisições ainda pendentes ao final da carga");
+        }
+        executor.shutdownNow();
+
+        relatorio.imprimir(System.out, config.duracaoSegundos());
+        relatorio.gravar(config.saida(), config.duracaoSegundos());
+        System.out.println("Histogramas gravados em " + config.saida().toAbsolutePath());
+    }
+
+    private void prepararPautas() throws IOException, InterruptedException {
+        String prefixo = "Carga " + LocalDateTime.now().format(FORMATO_TITULO);
+        // A sessão precisa continuar aberta até o último voto
+        long duracaoMinutos = TimeUnit.SECONDS.toMinutes(config.aquecimentoSegundos() + config.duracaoSegundos()) + 2;
+
+        caminhosPautas = new String[config.pautas()];
+        for (int i = 0; i < config.pautas(); i++) {
+            String titulo = prefixo + " #" + (i + 1);
+            caminhosPautas[i] = "/api/v1/pautas/" + URLEncoder.encode(titulo, StandardCharsets.UTF_8).replace("+", "%20");
+
+            exigir(enviarAgora("criar-pauta", post("/api/v1/pautas", "{\"tituloPauta\":\"" + titulo + "\"}")), 201);
+            exigir(enviarAgora("abrir-sessao", post(caminhosPautas[i] + "/sessoes", "{\"duracaoMinutos\":" + duracaoMinutos + "}")), 200);
+        }
+    }
+
+    private int enviarAgora(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long envio = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        long duracao = System.nanoTime() - envio;
+        relatorio.registrar(endpoint, String.valueOf(response.statusCode()), duracao, duracao);
+        return response.statusCode();
+    }
+
+    private static void exigir(int status, int esperado) {
+        if (status != esperado) {
+            throw new IllegalStateException("Preparação da carga falhou: HTTP " + status + ", esperado " + esperado);
+        }
+    }
+
+    /**
+     * Chama a ação nos horários previstos pelo ritmo, sem esperar as respostas. Se o gerador se
+     * atrasar (pausa do GC ou limite de pendentes), as requisições atrasadas saem em seguida,
+     * mantendo o horário previsto para o cálculo da latência.
+     */
+    private static void disparar(int porSegundo, long inicioNs, long fimNs, Disparo acao) {
+        long intervaloNs = TimeUnit.SECONDS.toNanos(1) / porSegundo;
+        for (long i = 0; ; i++) {
+            long previstoNs = inicioNs + i * intervaloNs;
+            if (previstoNs >= fimNs) {
+                return;
+            }
+            long espera;
+            while ((espera = previstoNs - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            acao.executar(i, previstoNs);
+        }
+    }
+
+    private void votar(long sequencia, long previstoNs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean duplicado = votosUnicos > 0 && random.nextDouble() < config.duplicados();
+
+        int recente;
+        if (duplicado) {
+            // Repete um voto recente, na mesma pauta em que ele foi dado
+            recente = (int) ((votosUnicos - 1 - random.nextLong(Math.min(votosUnicos, CPFS_RECENTES))) & (CPFS_RECENTES - 1));
+        } else {
+            recente = (int) (votosUnicos & (CPFS_RECENTES - 1));
+            cpfsRecentes[recente] = Cpf.daBase(baseCpf + votosUnicos).toString();
+            pautasRecentes[recente] = (int) (votosUnicos % caminhosPautas.length);
+            votosUnicos++;
+        }
+
+        String corpo = "{\"cpf\":\"" + cpfsRecentes[recente] + "\",\"escolha\":\"" + (random.nextBoolean() ? "SIM" : "NAO") + "\"}";
+        enviar(duplicado ? "votar-duplicado" : "votar-unico",
+                post(caminhosPautas[pautasRecentes[recente]] + "/votos", corpo), previstoNs);
+    }
+
+    private void consultarResultado(long sequencia, long previstoNs) {
+        String caminho = caminhosPautas[(int) (sequencia % caminhosPautas.length)];
+        enviar("resultado", HttpRequest.newBuilder(uri(caminho + "/resultados")).timeout(timeout()).GET().build(), previstoNs);
+    }
+
+    private void enviar(String endpoint, HttpRequest request, long previstoNs) {
+        pendentes.acquireUninterruptibly();
+        long envioNs = System.nanoTime();
+        boolean medir = previstoNs >= inicioMedicaoNs;
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, erro) -> {
+                    long fimNs = System.nanoTime();
+                    pendentes.release();
+                    if (medir) {
+                        String resultado = response != null ? String.valueOf(response.statusCode()) : tipoErro(erro);
+                        relatorio.registrar(endpoint, resultado, fimNs - previstoNs, fimNs - envioNs);
+                    }
+                });
+    }
+
+    private static String tipoErro(Throwable erro) {
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+        if (causa instanceof HttpConnectTimeoutException || causa instanceof ConnectException) {
+            return "conexao";
+        }
+        if (causa instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        if (causa instanceof IOException) {
+            return "io";
+        }
+        return causa.getClass().getSimpleName();
+    }
+
+    private HttpRequest post(String caminho, String corpo) {
+        return HttpRequest.newBuilder(uri(caminho))
+                .timeout(timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private URI uri(String caminho) {
+        return config.url().resolve(caminho);
+    }
+
+    private Duration timeout() {
+        return Duration.ofMillis(config.timeoutMs());
+    }
+
+    @FunctionalInterface
+    private interface Disparo {
+        void executar(long sequencia, long previstoNs);
+    }
+}
@@ -0,0 +1,118 @@
+package com.henrique.votacao.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histogramas de latência do {@link GeradorCarga}, por endpoint e por endpoint e resultado
+ * (código HTTP ou tipo de erro, como {@code timeout}).
+ *
+ * <p>Cada medição guarda dois tempos, em microssegundos:
+ * <ul>
+ *   <li>corrigido: do instante em que a requisição deveria ter saído, pelo ritmo fixo, até a
+ *   resposta. Inclui a espera causada por um servidor lento e corrige a omissão coordenada;</li>
+ *   <li>serviço: do envio efetivo até a resposta, o que um cliente em laço fechado mediria.</li>
+ * </ul>
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+class RelatorioLatencias {
+
+    private static final long MAIOR_LATENCIA_US = TimeUnit.MINUTES.toMicros(10);
+    private static final double[] PERCENTIS = {50, 90, 99, 99.9};
+
+    private final Map<String, Medicoes> medicoes = new ConcurrentHashMap<>();
+
+    /**
+     * Registra uma resposta (ou erro) no histograma do endpoint e no do endpoint com o resultado.
+     * @param endpoint nome do endpoint
+     * @param resultado código HTTP ou tipo do erro
+     * @param corrigidoNs tempo desde o envio previsto, em nanossegundos
+     * @param servicoNs tempo desde o envio efetivo, em nanossegundos
+     */
+    void registrar(String endpoint, String resultado, long corrigidoNs, long servicoNs) {
+        long corrigido = Math.min(TimeUnit.NANOSECONDS.toMicros(corrigidoNs), MAIOR_LATENCIA_US);
+        long servico = Math.min(TimeUnit.NANOSECONDS.toMicros(servicoNs), MAIOR_LATENCIA_US);
+        medicoes.computeIfAbsent(endpoint, k -> new Medicoes()).registrar(corrigido, servico);
+        medicoes.computeIfAbsent(endpoint + " " + resultado, k -> new Medicoes()).registrar(corrigido, servico);
+    }
+
+    /**
+     * Imprime a tabela de percentis, em milissegundos.
+     * @param saida destino
+     * @param segundos duração medida, para calcular a vazão
+     */
+    void imprimir(PrintStream saida, double segundos) {
+        saida.printf("%n%-28s %9s %9s %9s %9s %9s %9s %9s %12s%n", "endpoint / resultado", "total", "req/s",
+                "p50", "p90", "p99", "p99.9", "max", "p99 servico");
+
+        for (Map.Entry<String, Medicoes> entrada : new TreeMap<>(medicoes).entrySet()) {
+            Histogram corrigido = entrada.getValue().corrigido;
+            saida.printf("%-28s %9d %9.1f", entrada.getKey(), corrigido.getTotalCount(), corrigido.getTotalCount() / segundos);
+            for (double percentil : PERCENTIS) {
+                saida.printf(" %9.1f", corrigido.getValueAtPercentile(percentil) / 1000.0);
+            }
+            saida.printf(" %9.1f %12.1f%n", corrigido.getMaxValue() / 1000.0,
+                    entrada.getValue().servico.getValueAtPercentile(99) / 1000.0);
+        }
+        saida.println("(latências em ms; as colunas de percentil são corrigidas pela omissão coordenada)");
+    }
+
+    /**
+     * Grava a distribuição de percentis de cada histograma em um arquivo {@code .hgrm} (o formato
+     * do HdrHistogram, em ms) e um {@code resumo.csv} com uma linha por histograma.
+     * @param diretorio diretório de saída, criado se não existir
+     * @param segundos duração medida, para calcular a vazão
+     * @throws IOException se não for possível gravar
+     */
+    void gravar(Path diretorio, double segundos) throws IOException {
+        Files.createDirectories(diretorio);
+
+        try (PrintStream resumo = new PrintStream(Files.newOutputStream(diretorio.resolve("resumo.csv")), false, "UTF-8")) {
+            resumo.println("endpoint,resultado,total,req_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,p99_servico_ms");
+
+            for (Map.Entry<String, Medicoes> entrada : new TreeMap<>(medicoes).entrySet()) {
+                String nomeArquivo = entrada.getKey().replace(' ', '-');
+                gravarDistribuicao(entrada.getValue().corrigido, diretorio.resolve(nomeArquivo + ".hgrm"));
+                gravarDistribuicao(entrada.getValue().servico, diretorio.resolve(nomeArquivo + "-servico.hgrm"));
+
+                String[] partes = entrada.getKey().split(" ", 2);
+                Histogram corrigido = entrada.getValue().corrigido;
+                resumo.printf(Locale.ROOT, "%s,%s,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        partes[0], partes.length > 1 ? partes[1] : "todos", corrigido.getTotalCount(),
+                        corrigido.getTotalCount() / segundos,
+                        corrigido.getValueAtPercentile(50) / 1000.0, corrigido.getValueAtPercentile(90) / 1000.0,
+                        corrigido.getValueAtPercentile(99) / 1000.0, corrigido.getValueAtPercentile(99.9) / 1000.0,
+                        corrigido.getMaxValue() / 1000.0, entrada.getValue().servico.getValueAtPercentile(99) / 1000.0);
+            }
+        }
+    }
+
+    private static void gravarDistribuicao(Histogram histograma, Path arquivo) throws IOException {
+        try (PrintStream saida = new PrintStream(Files.newOutputStream(arquivo), false, "UTF-8")) {
+            histograma.outputPercentileDistribution(saida, 1000.0);
+        }
+    }
+
+    private static final class Medicoes {
+
+        private final Histogram corrigido = new ConcurrentHistogram(MAIOR_LATENCIA_US, 3);
+        private final Histogram servico = new ConcurrentHistogram(MAIOR_LATENCIA_US, 3);
+
+        void registrar(long corrigidoUs, long servicoUs) {
+            corrigido.recordValue(corrigidoUs);
+            servico.recordValue(servicoUs);
+        }
+    }
+}
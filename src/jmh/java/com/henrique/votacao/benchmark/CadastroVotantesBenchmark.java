@@ -0,0 +1,149 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.infrastructure.cadastro.CadastroVotantes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do {@link CadastroVotantes}: latência da consulta e tempo de carga de um cadastro
+ * de 10 milhões de CPFs em ordem aleatória.
+ *
+ * <p>{@code contemNoHeap} é a referência: a mesma busca em um {@code long[]} no heap, que ocupa
+ * 80 MB de heap para 10 milhões de CPFs. {@code importar} mede a conversão da lista em texto (leitura, validação, ordenação e gravação)
+ * e {@code abrir} o mapeamento de um cadastro já importado, que é o caso da reinicialização. O heap
+ * ocupado depois da carga é impresso no setup.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CadastroVotantes"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx256m"})
+public class CadastroVotantesBenchmark {
+
+    private static final long MAIOR_BASE = 999_999_998L;
+    private static final int CONSULTAS = 1 << 16;
+
+    @Param({"10000000"})
+    private int votantes;
+
+    private Path diretorio;
+    private Path lista;
+    private Path binario;
+    private CadastroVotantes cadastro;
+    private long[] consultas;
+    private int proxima;
+    // Referência: os mesmos CPFs em um long[] no heap
+    private long[] noHeap;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        diretorio = Files.createTempDirectory("cadastro-benchmark");
+        lista = diretorio.resolve("aptos.txt");
+        binario = diretorio.resolve("aptos.bin");
+
+        SplittableRandom random = new SplittableRandom(42);
+        consultas = new long[CONSULTAS];
+        noHeap = new long[votantes];
+        try (BufferedWriter escritor = Files.newBufferedWriter(lista)) {
+            for (int i = 0; i < votantes; i++) {
+                long cpf = cpfAleatorio(random);
+                noHeap[i] = cpf;
+                // Metade das consultas acerta um votante do cadastro, metade procura um CPF qualquer
+                if (i < CONSULTAS / 2) {
+                    consultas[i * 2] = cpf;
+                }
+                escritor.write(String.format("%011d", cpf));
+                escritor.newLine();
+            }
+        }
+        for (int i = 1; i < CONSULTAS; i += 2) {
+            consultas[i] = cpfAleatorio(random);
+        }
+
+        Arrays.sort(noHeap);
+
+        long heapAntes = heapUsado();
+        cadastro = CadastroVotantes.importar(lista, binario);
+        long heapDepois = heapUsado();
+        System.out.printf("%n[cadastro] cpfs=%d arquivo=%d bytes heap=%d bytes%n",
+                cadastro.getQuantidade(), Files.size(binario), heapDepois - heapAntes);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+        Files.deleteIfExists(diretorio);
+    }
+
+    private static long cpfAleatorio(SplittableRandom random) {
+        return Cpf.daBase(1 + random.nextLong(MAIOR_BASE)).getNumero();
+    }
+
+    private static long heapUsado() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public boolean contemNoHeap() {
+        long cpf = consultas[proxima++ & (CONSULTAS - 1)];
+        return Arrays.binarySearch(noHeap, cpf) >= 0;
+    }
+
+    @Benchmark
+    public boolean contem() {
+        long cpf = consultas[proxima++ & (CONSULTAS - 1)];
+        return cadastro.contem(cpf);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public CadastroVotantes importar() throws IOException {
+        return CadastroVotantes.importar(lista, diretorio.resolve("importado.bin"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public CadastroVotantes abrir() throws IOException {
+        return CadastroVotantes.abrir(binario);
+    }
+}
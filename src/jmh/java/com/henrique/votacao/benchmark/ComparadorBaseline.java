@@ -0,0 +1,105 @@
+package com.henrique.votacao.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara o resultado de uma execução do JMH ({@code -rf json}) com uma baseline guardada no
+ * mesmo formato e termina com código 1 se algum benchmark piorou.
+ *
+ * <p>Um benchmark piorou quando a diferença para a baseline passa da tolerância (em %) e também
+ * da soma dos erros (intervalo de 99,9%) das duas medições, para que ruído não conte como
+ * regressão. Nos modos de tempo ({@code avgt}, {@code sample}, {@code ss}) pior é maior; em
+ * {@code thrpt}, pior é menor. Benchmarks presentes em só um dos arquivos são listados, mas não
+ * reprovam a comparação.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec@comparar}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public final class ComparadorBaseline {
+
+    private ComparadorBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: ComparadorBaseline <baseline.json> <resultado.json> [tolerancia-%]");
+            System.exit(2);
+        }
+
+        Map<String, Medicao> baseline = ler(Path.of(args[0]));
+        Map<String, Medicao> atual = ler(Path.of(args[1]));
+        double tolerancia = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+
+        int regressoes = 0;
+        System.out.printf("%-75s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Atual", "Variacao", "Situacao");
+
+        for (Map.Entry<String, Medicao> entrada : atual.entrySet()) {
+            Medicao medicao = entrada.getValue();
+            Medicao referencia = baseline.get(entrada.getKey());
+            if (referencia == null) {
+                System.out.printf("%-75s %14s %14.3f %9s  %s%n", entrada.getKey(), "-", medicao.score(), "-", "sem baseline");
+                continue;
+            }
+
+            double variacao = (medicao.score() - referencia.score()) / referencia.score();
+            double piora = medicao.maiorMelhor() ? -variacao : variacao;
+            boolean acimaDoRuido = Math.abs(medicao.score() - referencia.score()) > medicao.erro() + referencia.erro();
+
+            String situacao = "ok";
+            if (piora > tolerancia && acimaDoRuido) {
+                situacao = "REGRESSAO";
+                regressoes++;
+            } else if (-piora > tolerancia && acimaDoRuido) {
+                situacao = "melhorou";
+            }
+
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%%  %s %s%n", entrada.getKey(), referencia.score(),
+                    medicao.score(), variacao * 100, situacao, medicao.unidade());
+        }
+
+        for (String benchmark : baseline.keySet()) {
+            if (!atual.containsKey(benchmark)) {
+                System.out.printf("%-75s %14.3f %14s %9s  %s%n", benchmark, baseline.get(benchmark).score(), "-", "-",
+                        "nao executado");
+            }
+        }
+
+        System.out.printf("%n%d regressao(oes) acima de %.0f%%%n", regressoes, tolerancia * 100);
+        if (regressoes > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Medicao> ler(Path arquivo) throws IOException {
+        Map<String, Medicao> medicoes = new LinkedHashMap<>();
+
+        for (JsonNode resultado : new ObjectMapper().readTree(arquivo.toFile())) {
+            StringBuilder nome = new StringBuilder(resultado.get("benchmark").asText()
+                    .replace("com.henrique.votacao.benchmark.", ""));
+            JsonNode parametros = resultado.get("params");
+            if (parametros != null) {
+                parametros.fields().forEachRemaining(p -> nome.append(':').append(p.getKey()).append('=').append(p.getValue().asText()));
+            }
+
+            JsonNode metrica = resultado.get("primaryMetric");
+            double erro = metrica.get("scoreError").asDouble();
+            medicoes.put(nome.toString(), new Medicao(
+                    metrica.get("score").asDouble(),
+                    Double.isNaN(erro) ? 0 : erro,
+                    metrica.get("scoreUnit").asText(),
+                    "thrpt".equals(resultado.get("mode").asText())));
+        }
+        return medicoes;
+    }
+
+    private record Medicao(double score, double erro, String unidade, boolean maiorMelhor) {
+    }
+}
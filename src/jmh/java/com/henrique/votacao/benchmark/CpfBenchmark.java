@@ -0,0 +1,73 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da conversão e validação de CPF: a validação antiga por regex
+ * ({@code numero.matches("\\d{11}")}, sem dígitos verificadores) contra o parser do {@link Cpf}.
+ *
+ * <p>Use {@code -prof gc} para ver a alocação por operação.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CpfBenchmark -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    private String[] cpfs;
+    private int proximo;
+
+    @Setup
+    public void gerar() {
+        cpfs = new String[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            cpfs[i] = Cpf.daBase(100_000_000L + i * 7919L).toString();
+        }
+    }
+
+    private String proximoCpf() {
+        return cpfs[proximo++ & (QUANTIDADE - 1)];
+    }
+
+    @Benchmark
+    public boolean regexString() {
+        return proximoCpf().matches("\\d{11}");
+    }
+
+    @Benchmark
+    public long parseLong() {
+        return Cpf.parse(proximoCpf());
+    }
+
+    @Benchmark
+    public boolean valido() {
+        return Cpf.valido(proximoCpf());
+    }
+
+    @Benchmark
+    public Cpf novoCpf() {
+        return new Cpf(proximoCpf());
+    }
+}
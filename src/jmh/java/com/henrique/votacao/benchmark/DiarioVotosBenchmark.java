@@ -0,0 +1,81 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.infrastructure.diario.DiarioVotos;
+import com.henrique.votacao.infrastructure.diario.RegistroVoto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do commit em grupo do {@link DiarioVotos}: tempo para anexar um grupo de votos e
+ * sincronizá-lo com o disco, por tamanho de grupo.
+ *
+ * <p>Com {@code grupo=1} cada voto paga um {@code fsync} inteiro; com grupos maiores o custo do
+ * {@code fsync} é dividido entre os votos que chegaram juntos na fila do gravador. O diário é
+ * recriado a cada iteração para não crescer sem limite.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="DiarioVotos"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiarioVotosBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int grupo;
+
+    private Path diretorio;
+    private DiarioVotos diario;
+    private long cpf = 10_000_000_000L;
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+        diretorio = Files.createTempDirectory("diario-benchmark");
+        diario = DiarioVotos.abrir(diretorio, 1 << 20);
+    }
+
+    @TearDown(Level.Iteration)
+    public void limpar() throws IOException {
+        diario.close();
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+        Files.deleteIfExists(diretorio);
+    }
+
+    @Benchmark
+    public long anexarESincronizar() {
+        long posicao = 0;
+        for (int i = 0; i < grupo; i++) {
+            posicao = diario.anexar(new RegistroVoto(1, cpf++, Escolha.SIM, 1_700_000_000_000L));
+        }
+        diario.sincronizar();
+        return posicao;
+    }
+}
@@ -0,0 +1,127 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.service.ExportacaoVotosService;
+import com.henrique.votacao.service.PautaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark da exportação de todos os votos de uma pauta, do cursor JDBC até a saída (descartada),
+ * com e sem gzip.
+ *
+ * <p>O heap do fork é limitado a 128 MB, menos do que as entidades {@code Voto} de um milhão de
+ * votos ocupariam em uma lista: a exportação só termina se a memória usada não cresce com a
+ * quantidade de votos. O banco é um H2 em arquivo, para que as linhas não fiquem no heap.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ExportacaoVotos -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ExportacaoVotosBenchmark {
+
+    private static final String PAUTA = "Pauta Benchmark Exportacao";
+    private static final int LOTE = 10_000;
+
+    @Param({"1000000"})
+    private int votos;
+
+    private Path diretorio;
+    private ConfigurableApplicationContext contexto;
+    private ExportacaoVotosService exportacaoVotosService;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        diretorio = Files.createTempDirectory("exportacao-votos");
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:file:" + diretorio.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--votacao.snapshot.habilitado=false");
+
+        PautaService pautaService = contexto.getBean(PautaService.class);
+        VotoJdbcRepository votoJdbcRepository = contexto.getBean(VotoJdbcRepository.class);
+        long pautaId = pautaService.criarPauta(new Pauta(new TituloPauta(PAUTA))).getId();
+
+        // Em lotes, para que a carga também caiba no heap do fork
+        List<NovoVoto> lote = new ArrayList<>(LOTE);
+        for (int i = 0; i < votos; i++) {
+            lote.add(new NovoVoto(pautaId, Cpf.daBase(100_000_000L + i).getNumero(), i % 2 == 0 ? Escolha.SIM : Escolha.NAO));
+            if (lote.size() == LOTE) {
+                votoJdbcRepository.inserirEmLote(lote);
+                lote.clear();
+            }
+        }
+        votoJdbcRepository.inserirEmLote(lote);
+        exportacaoVotosService = contexto.getBean(ExportacaoVotosService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        contexto.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public long ndjson() throws IOException {
+        return exportacaoVotosService.exportarPorTitulo(PAUTA, "ndjson", null, formato -> OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public long ndjsonGzip() throws IOException {
+        return exportacaoVotosService.exportarPorTitulo(PAUTA, "ndjson", null,
+                formato -> new GZIPOutputStream(OutputStream.nullOutputStream(), 64 * 1024));
+    }
+
+    @Benchmark
+    public long csv() throws IOException {
+        return exportacaoVotosService.exportarPorTitulo(PAUTA, "csv", null, formato -> OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,113 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.application.dto.request.VotoRequestDTO;
+import com.henrique.votacao.application.dto.response.VotoResponseDTO;
+import com.henrique.votacao.controller.PautaController;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.service.PautaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do voto aceito, do {@link PautaController} até o insert, com a aplicação inteira sobre
+ * um H2 em memória. Cada chamada vota com um CPF novo, apto no cadastro de aptos, para medir o
+ * caminho de gravação e não o de recusa.
+ *
+ * <p>Com {@code -prof gc}, o {@code gc.alloc.rate.norm} é a alocação por voto (aplicação mais o H2
+ * embutido, que roda no mesmo processo).
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="GravacaoVoto -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GravacaoVotoBenchmark {
+
+    private static final String PAUTA = "Pauta Benchmark Gravacao";
+    private static final int CPFS = 1_000_000;
+
+    private Path diretorio;
+    private ConfigurableApplicationContext contexto;
+    private PautaController controller;
+    private String[] cpfs;
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        diretorio = Files.createTempDirectory("gravacao-voto");
+        Path aptos = diretorio.resolve("aptos.txt");
+        cpfs = new String[CPFS];
+        try (BufferedWriter escritor = Files.newBufferedWriter(aptos)) {
+            for (int i = 0; i < CPFS; i++) {
+                cpfs[i] = Cpf.daBase(200_000_000L + i).toString();
+                escritor.write(cpfs[i]);
+                escritor.newLine();
+            }
+        }
+
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--votacao.snapshot.habilitado=false",
+                        "--votacao.elegibilidade.modo=cadastro",
+                        "--votacao.elegibilidade.cadastro.arquivo=" + aptos,
+                        "--votacao.elegibilidade.cadastro.diretorio=" + diretorio.resolve("cadastro"));
+
+        PautaService pautaService = contexto.getBean(PautaService.class);
+        pautaService.criarPauta(new Pauta(new TituloPauta(PAUTA)));
+        pautaService.abrirSessao(PAUTA, 600);
+        controller = contexto.getBean(PautaController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        contexto.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<VotoResponseDTO> votar() {
+        return controller.votar(PAUTA, new VotoRequestDTO(cpfs[proximo++], "SIM"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do índice {@code uk_cpf_pauta} no H2 com a coluna {@code cpf_id} como VARCHAR(11)
+ * (antes) e como BIGINT (depois).
+ *
+ * <p>O tamanho do índice é medido pela diferença do arquivo do banco, compactado, com e sem o
+ * índice, e impresso no setup. O benchmark mede a consulta por CPF e pauta que usa o índice.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="IndiceCpfBenchmark"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndiceCpfBenchmark {
+
+    private static final int PAUTAS = 10;
+    private static final int CONSULTAS = 1 << 12;
+
+    @Param({"1000000"})
+    private int votos;
+
+    @Param({"VARCHAR", "BIGINT"})
+    private String tipoColuna;
+
+    private Path diretorio;
+    private Connection conexao;
+    private PreparedStatement consulta;
+    private long[] cpfsConsultados;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void carregar() throws IOException, SQLException {
+        diretorio = Files.createTempDirectory("indice-cpf");
+        String url = "jdbc:h2:file:" + diretorio.resolve("votos");
+        boolean varchar = "VARCHAR".equals(tipoColuna);
+        SplittableRandom random = new SplittableRandom(42);
+        cpfsConsultados = new long[CONSULTAS];
+
+        try (Connection c = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement st = c.createStatement()) {
+                st.execute("CREATE TABLE voto (id BIGINT AUTO_INCREMENT PRIMARY KEY, cpf_id "
+                        + (varchar ? "VARCHAR(11)" : "BIGINT") + " NOT NULL, escolha VARCHAR(3) NOT NULL, pauta_id BIGINT NOT NULL)");
+            }
+            c.setAutoCommit(false);
+            try (PreparedStatement insert = c.prepareStatement("INSERT INTO voto (cpf_id, escolha, pauta_id) VALUES (?, 'SIM', ?)")) {
+                for (int i = 0; i < votos; i++) {
+                    Cpf cpf = Cpf.daBase(1 + random.nextLong(999_999_998L));
+                    if (varchar) {
+                        insert.setString(1, cpf.toString());
+                    } else {
+                        insert.setLong(1, cpf.getNumero());
+                    }
+                    insert.setLong(2, i % PAUTAS);
+                    insert.addBatch();
+                    if (i % 10_000 == 9_999) {
+                        insert.executeBatch();
+                    }
+                    if (i < CONSULTAS) {
+                        cpfsConsultados[i] = cpf.getNumero() * PAUTAS + i % PAUTAS;
+                    }
+                }
+                insert.executeBatch();
+            }
+            c.commit();
+            compactar(c);
+        }
+        long semIndice = tamanhoDoBanco();
+
+        try (Connection c = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement st = c.createStatement()) {
+                // A unicidade não é exigida aqui: CPFs aleatórios podem repetir na mesma pauta
+                st.execute("CREATE INDEX uk_cpf_pauta ON voto (cpf_id, pauta_id)");
+            }
+            compactar(c);
+        }
+        long comIndice = tamanhoDoBanco();
+
+        System.out.printf("%n[tamanho] coluna=%s votos=%d banco=%d bytes indice=%d bytes (%.1f bytes/voto)%n",
+                tipoColuna, votos, comIndice, comIndice - semIndice, (double) (comIndice - semIndice) / votos);
+
+        conexao = DriverManager.getConnection(url, "sa", "");
+        consulta = conexao.prepareStatement("SELECT COUNT(*) FROM voto WHERE cpf_id = ? AND pauta_id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException, SQLException {
+        conexao.close();
+        try (var arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                Files.delete(arquivo);
+            }
+        }
+        Files.delete(diretorio);
+    }
+
+    @Benchmark
+    public long buscarPorCpfEPauta() throws SQLException {
+        long chave = cpfsConsultados[proxima++ & (CONSULTAS - 1)];
+        long cpf = chave / PAUTAS;
+        if ("VARCHAR".equals(tipoColuna)) {
+            consulta.setString(1, new Cpf(cpf).toString());
+        } else {
+            consulta.setLong(1, cpf);
+        }
+        consulta.setLong(2, chave % PAUTAS);
+        try (ResultSet rs = consulta.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void compactar(Connection c) throws SQLException {
+        try (Statement st = c.createStatement()) {
+            st.execute("SHUTDOWN COMPACT");
+        }
+    }
+
+    private long tamanhoDoBanco() throws IOException {
+        return Files.size(diretorio.resolve("votos.mv.db"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.infrastructure.apuracao.IndiceVotantes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do {@link IndiceVotantes}: memória ocupada por milhão de votantes e custo da consulta
+ * "já votou", com CPFs sequenciais (melhor caso para o bitmap) e aleatórios (pior caso).
+ *
+ * <p>A memória é impressa no setup de cada combinação de parâmetros.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="IndiceVotantes"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndiceVotantesBenchmark {
+
+    private static final long MAIOR_BASE = 999_999_998L;
+    private static final int CONSULTAS = 1 << 16;
+
+    @Param({"1000000"})
+    private int votantes;
+
+    @Param({"SEQUENCIAL", "ALEATORIO"})
+    private String distribuicao;
+
+    private IndiceVotantes indice;
+    private long[] consultas;
+    private int proxima;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        SplittableRandom random = new SplittableRandom(42);
+        indice = new IndiceVotantes();
+        long[] cpfs = new long[votantes];
+
+        for (int i = 0; i < votantes; i++) {
+            cpfs[i] = "SEQUENCIAL".equals(distribuicao) ? Cpf.daBase(100_000_000L + i).getNumero() : cpfAleatorio(random);
+            indice.adicionar(cpfs[i]);
+        }
+        indice.compactar();
+
+        // Metade das consultas acerta um votante, metade procura um CPF qualquer
+        consultas = new long[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = i % 2 == 0 ? cpfs[random.nextInt(votantes)] : cpfAleatorio(random);
+        }
+
+        long bytes = indice.getTamanhoEmBytes();
+        System.out.printf("%n[memoria] distribuicao=%s votantes=%d bytes=%d bytes/votante=%.2f MiB/milhao=%.2f%n",
+                distribuicao, votantes, bytes, (double) bytes / votantes,
+                bytes * (1_000_000.0 / votantes) / (1024 * 1024));
+    }
+
+    private static long cpfAleatorio(SplittableRandom random) {
+        return Cpf.daBase(1 + random.nextLong(MAIOR_BASE)).getNumero();
+    }
+
+    @Benchmark
+    public boolean contem() {
+        long cpf = consultas[proxima++ & (CONSULTAS - 1)];
+        return indice.contem(cpf);
+    }
+}
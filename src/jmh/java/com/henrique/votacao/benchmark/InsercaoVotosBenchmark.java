@@ -0,0 +1,111 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.repository.PautaRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark dos inserts de votos pelo Hibernate, com IDs da sequência {@code voto_seq} (pooled-lo),
+ * por tamanho de batch JDBC ({@code hibernate.jdbc.batch_size}).
+ *
+ * <p>Cada operação persiste {@value #VOTOS_POR_TRANSACAO} votos em uma transação, com a aplicação
+ * inteira sobre um H2 em memória acessado pelo servidor TCP do H2, para que cada ida ao banco custe
+ * uma viagem de rede como em um banco de verdade (no H2 embutido o batch não economiza nada). O
+ * resultado é em inserts por segundo. Com {@code lote=1} cada voto é uma ida ao banco; com lotes
+ * maiores, uma ida leva o lote inteiro.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="InsercaoVotos"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsercaoVotosBenchmark {
+
+    private static final int VOTOS_POR_TRANSACAO = 500;
+
+    @Param({"1", "50", "500"})
+    private int lote;
+
+    private Server servidor;
+    private ConfigurableApplicationContext contexto;
+    private TransactionTemplate transacao;
+    private EntityManager entityManager;
+    private Long pautaId;
+    private long proximaBase = 100_000_000L;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws SQLException {
+        servidor = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:tcp://localhost:" + servidor.getPort() + "/mem:insercao;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--votacao.snapshot.habilitado=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + lote);
+
+        transacao = contexto.getBean(TransactionTemplate.class);
+        entityManager = contexto.getBean(EntityManager.class);
+        pautaId = contexto.getBean(PautaRepository.class).save(new Pauta(new TituloPauta("Pauta Benchmark Insercao"))).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+        servidor.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VOTOS_POR_TRANSACAO)
+    public long persistirVotos() {
+        return transacao.execute(status -> {
+            Pauta pauta = entityManager.getReference(Pauta.class, pautaId);
+            Voto voto = null;
+            for (int i = 0; i < VOTOS_POR_TRANSACAO; i++) {
+                voto = new Voto(Cpf.daBase(proximaBase++), i % 2 == 0 ? Escolha.SIM : Escolha.NAO, pauta);
+                entityManager.persist(voto);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return voto.getId();
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.henrique.votacao.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
+import com.henrique.votacao.application.dto.response.VotoResponseDTO;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da serialização JSON das respostas de voto e de resultado, com o {@link ObjectMapper}
+ * montado pelo mesmo builder usado pelo Spring MVC.
+ *
+ * <ul>
+ *   <li>{@code votoResponse} e {@code resultadoResponse}: apenas a serialização do DTO pronto;</li>
+ *   <li>{@code votoResponseComMensagem}: montagem da mensagem e serialização, o que é feito a cada voto.</li>
+ * </ul>
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="JsonRespostas -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonRespostasBenchmark {
+
+    private static final String TITULO = "Devemos distribuir sacolinhas no Pet Place?";
+
+    private ObjectMapper objectMapper;
+    private VotoResponseDTO voto;
+    private ResultadoVotacaoResponseDTO resultado;
+
+    @Setup(Level.Trial)
+    public void montar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        voto = VotoResponseDTO.criarMensagem(TITULO, "12345678909", "SIM");
+        resultado = ResultadoVotacaoResponseDTO.criar(TITULO, ResultadoPauta.apurar(1L, 12, 6, 0L));
+    }
+
+    @Benchmark
+    public byte[] votoResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(voto);
+    }
+
+    @Benchmark
+    public byte[] votoResponseComMensagem() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(VotoResponseDTO.criarMensagem(TITULO, "12345678909", "SIM"));
+    }
+
+    @Benchmark
+    public byte[] resultadoResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(resultado);
+    }
+}
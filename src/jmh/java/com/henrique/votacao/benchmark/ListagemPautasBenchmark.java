@@ -0,0 +1,149 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.application.dto.response.PautaPaginaResponseDTO;
+import com.henrique.votacao.service.PautaService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de uma página (20 pautas) da listagem de pautas por filtro, com 100 e com 1 milhão
+ * de pautas no banco. Com a paginação por cursor e os índices da listagem, o tempo de uma página
+ * deve ser o mesmo nos dois tamanhos e nas duas distribuições:
+ * <ul>
+ *   <li>DENSA: uma em cada dez pautas não tem sessão, as {@value #ABERTAS} últimas estão com a
+ *       sessão aberta e as demais já foram encerradas;</li>
+ *   <li>ESPARSA: uma em cada mil pautas está encerrada e outra em cada mil está aberta; as demais
+ *       não têm sessão. Uma consulta que filtrasse a chave primária leria mil pautas por pauta da
+ *       página.</li>
+ * </ul>
+ *
+ * <p>O banco é um H2 em arquivo, para que as pautas não fiquem no heap.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ListagemPautas"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListagemPautasBenchmark {
+
+    private static final int ABERTAS = 50;
+    private static final int TAMANHO = 20;
+
+    @Param({"100", "1000000"})
+    private int pautas;
+
+    @Param({"DENSA", "ESPARSA"})
+    private String cenario;
+
+    private Path diretorio;
+    private ConfigurableApplicationContext contexto;
+    private PautaService pautaService;
+    private long cursorFinal;
+    private long cursorAberta;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        diretorio = Files.createTempDirectory("listagem-pautas");
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:file:" + diretorio.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--votacao.snapshot.habilitado=false");
+
+        // As pautas entram direto por SQL, já com a sessão de cada uma: o encerramento não tem o que agendar.
+        // A situação de cada pauta: 0 sem sessão, 1 aberta, 2 encerrada
+        String situacao = cenario.equals("DENSA")
+                ? "CASE WHEN MOD(X, 10) = 0 THEN 0 WHEN X > " + (pautas - ABERTAS) + " THEN 1 ELSE 2 END"
+                : "CASE MOD(X, 1000) WHEN 1 THEN 2 WHEN 2 THEN 1 ELSE 0 END";
+        long agora = System.currentTimeMillis();
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+                "INSERT INTO pauta (id, titulo_pauta, abertura_epoch_ms, fechamento_epoch_ms, duracao_minutos, encerrada) "
+                        + "SELECT X, 'Pauta ' || X, "
+                        + "CASE WHEN S = 0 THEN NULL ELSE ? END, "
+                        + "CASE S WHEN 0 THEN NULL WHEN 1 THEN ? + X ELSE ? END, "
+                        + "CASE WHEN S = 0 THEN NULL ELSE 60 END, "
+                        + "CASE S WHEN 0 THEN NULL WHEN 1 THEN FALSE ELSE TRUE END "
+                        + "FROM (SELECT X, " + situacao + " S FROM SYSTEM_RANGE(1, ?))",
+                agora - 3_600_000, agora + 3_600_000, agora, pautas);
+        jdbcTemplate.execute("ANALYZE");
+
+        pautaService = contexto.getBean(PautaService.class);
+        cursorFinal = pautas - ABERTAS - 2L * TAMANHO;
+        cursorAberta = jdbcTemplate.queryForObject("SELECT MIN(id) FROM pauta WHERE encerrada = FALSE", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        contexto.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO todas() {
+        return pautaService.listarPautas(null, null, TAMANHO);
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO todasPaginaFinal() {
+        return pautaService.listarPautas(null, cursorFinal, TAMANHO);
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO abertas() {
+        return pautaService.listarPautas("ABERTA", null, TAMANHO);
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO abertasPaginaSeguinte() {
+        return pautaService.listarPautas("ABERTA", cursorAberta, TAMANHO);
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO semSessao() {
+        return pautaService.listarPautas("SEM_SESSAO", cursorFinal, TAMANHO);
+    }
+
+    @Benchmark
+    public PautaPaginaResponseDTO encerradas() {
+        return pautaService.listarPautas("ENCERRADA", cursorFinal, TAMANHO);
+    }
+}
@@ -0,0 +1,110 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.GeradorSnapshotApuracao;
+import com.henrique.votacao.infrastructure.diario.DiarioVotos;
+import com.henrique.votacao.infrastructure.diario.FonteVotosDiario;
+import com.henrique.votacao.infrastructure.diario.RegistroVoto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark da subida da apuração com 10 milhões de votos no diário, em 10 pautas: reconstrução
+ * completa a partir do diário contra a recuperação pelo snapshot mais os votos gravados depois dele.
+ *
+ * <p>As duas medidas terminam com o placar e o índice de votantes de todas as pautas em memória,
+ * prontos para aceitar votos. O snapshot é gerado antes dos últimos {@value #VOTOS_DEPOIS_DO_SNAPSHOT}
+ * votos, que a recuperação relê do diário.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="RecuperacaoApuracao"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RecuperacaoApuracaoBenchmark {
+
+    private static final int VOTOS = 10_000_000;
+    private static final int PAUTAS = 10;
+    private static final int VOTOS_DEPOIS_DO_SNAPSHOT = 10_000;
+
+    private Path diretorio;
+    private Path snapshot;
+    private DiarioVotos diario;
+    private FonteVotosDiario fonte;
+
+    @Setup
+    public void gravarVotos() throws IOException {
+        diretorio = Files.createTempDirectory("recuperacao-benchmark");
+        snapshot = diretorio.resolve("apuracao.snapshot");
+        diario = DiarioVotos.abrir(diretorio.resolve("diario"), 1 << 22);
+        fonte = new FonteVotosDiario(diario, null, Clock.systemUTC());
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < VOTOS; i++) {
+            if (i == VOTOS - VOTOS_DEPOIS_DO_SNAPSHOT) {
+                diario.sincronizar();
+                new GeradorSnapshotApuracao(fonte, snapshot, 60_000).gerar();
+            }
+            long cpf = Cpf.daBase(1 + random.nextInt(999_999_998)).getNumero();
+            diario.anexar(new RegistroVoto(1 + i % PAUTAS, cpf, random.nextBoolean() ? Escolha.SIM : Escolha.NAO,
+                    1_700_000_000_000L));
+        }
+        diario.sincronizar();
+    }
+
+    @TearDown
+    public void limpar() throws IOException {
+        diario.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public long reconstruirPeloDiario() {
+        return recuperar(new ApuracaoEmMemoria(fonte, false, snapshot, 0));
+    }
+
+    @Benchmark
+    public long recuperarPeloSnapshot() {
+        return recuperar(new ApuracaoEmMemoria(fonte, true, snapshot, 0));
+    }
+
+    private static long recuperar(ApuracaoEmMemoria apuracao) {
+        apuracao.reconstruir();
+        long votantes = 0;
+        for (long pautaId = 1; pautaId <= PAUTAS; pautaId++) {
+            votantes += apuracao.porPauta(pautaId).jaVotou(0) ? 1 : 0;
+        }
+        return votantes + apuracao.placar(1L).getTotal();
+    }
+}
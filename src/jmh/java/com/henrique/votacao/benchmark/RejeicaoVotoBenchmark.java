@@ -0,0 +1,139 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.domain.exception.SessaoFechadaException;
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.exception.GlobalExceptionHandler;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.service.EncerramentoSessaoService;
+import com.henrique.votacao.service.PautaService;
+import com.henrique.votacao.service.VotoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão das recusas de voto esperadas, do {@link VotoService} até o corpo de erro montado pelo
+ * {@link GlobalExceptionHandler}, com a aplicação inteira sobre um H2 em memória.
+ *
+ * <ul>
+ *   <li>{@code votoDuplicado}: CPF que já votou na pauta aberta (409);</li>
+ *   <li>{@code sessaoFechada}: voto em pauta com a sessão encerrada (400).</li>
+ * </ul>
+ *
+ * <p>{@code profundidade} empilha quadros antes da chamada: numa requisição real o serviço roda
+ * embaixo de cerca de 100 quadros do Tomcat e do Spring MVC, e o custo de preencher a pilha de uma
+ * exceção cresce com ela. Os logs de aviso ficam ligados, como em produção.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="RejeicaoVoto"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejeicaoVotoBenchmark {
+
+    private static final String PAUTA_ABERTA = "Pauta Rejeicao Aberta";
+    private static final String PAUTA_ENCERRADA = "Pauta Rejeicao Encerrada";
+
+    @Param({"0", "100"})
+    private int profundidade;
+
+    private ConfigurableApplicationContext contexto;
+    private VotoService votoService;
+    private GlobalExceptionHandler handler;
+    private String cpfQueJaVotou;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false");
+
+        votoService = contexto.getBean(VotoService.class);
+        handler = contexto.getBean(GlobalExceptionHandler.class);
+        PautaService pautaService = contexto.getBean(PautaService.class);
+        VotoJdbcRepository votoJdbcRepository = contexto.getBean(VotoJdbcRepository.class);
+
+        popular(pautaService, votoJdbcRepository, PAUTA_ABERTA);
+        Pauta encerrada = popular(pautaService, votoJdbcRepository, PAUTA_ENCERRADA);
+        contexto.getBean(EncerramentoSessaoService.class).encerrar(encerrada.getId());
+        cpfQueJaVotou = Cpf.daBase(100_000_000L).toString();
+    }
+
+    private Pauta popular(PautaService pautaService, VotoJdbcRepository votoJdbcRepository, String titulo) {
+        pautaService.criarPauta(new Pauta(new TituloPauta(titulo)));
+        Pauta pauta = pautaService.abrirSessao(titulo, 60);
+
+        List<NovoVoto> lote = new ArrayList<>(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            lote.add(new NovoVoto(pauta.getId(), Cpf.daBase(100_000_000L + i).getNumero(), Escolha.SIM));
+        }
+        votoJdbcRepository.inserirEmLote(lote);
+        return pauta;
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> votoDuplicado() {
+        return naProfundidade(profundidade, PAUTA_ABERTA);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> sessaoFechada() {
+        return naProfundidade(profundidade, PAUTA_ENCERRADA);
+    }
+
+    private ResponseEntity<?> naProfundidade(int restante, String titulo) {
+        return restante == 0 ? votar(titulo) : naProfundidade(restante - 1, titulo);
+    }
+
+    private ResponseEntity<?> votar(String titulo) {
+        try {
+            votoService.registrarVotoPorTitulo(titulo, cpfQueJaVotou, "SIM");
+            throw new IllegalStateException("Voto deveria ter sido recusado");
+        } catch (VotoDuplicadoException e) {
+            return handler.handleVotoDuplicadoException(e);
+        } catch (SessaoFechadaException e) {
+            return handler.handleSessaoFechadaException(e);
+        }
+    }
+}
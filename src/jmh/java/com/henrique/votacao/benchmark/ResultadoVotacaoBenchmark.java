@@ -0,0 +1,119 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.service.EncerramentoSessaoService;
+import com.henrique.votacao.service.PautaService;
+import com.henrique.votacao.service.VotoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do {@link VotoService#calcularResultadoPorTitulo(String)} com a aplicação inteira
+ * sobre um H2 em memória, populado no setup com {@code votos} votos por pauta.
+ *
+ * <ul>
+ *   <li>{@code sessaoAberta}: resultado parcial, apurado a partir do placar em memória;</li>
+ *   <li>{@code sessaoEncerrada}: resultado final, lido da tabela de resultados a cada chamada.</li>
+ * </ul>
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResultadoVotacao"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultadoVotacaoBenchmark {
+
+    private static final String PAUTA_ABERTA = "Pauta Benchmark Aberta";
+    private static final String PAUTA_ENCERRADA = "Pauta Benchmark Encerrada";
+
+    @Param({"10000"})
+    private int votos;
+
+    private ConfigurableApplicationContext contexto;
+    private VotoService votoService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false");
+
+        votoService = contexto.getBean(VotoService.class);
+        PautaService pautaService = contexto.getBean(PautaService.class);
+        VotoJdbcRepository votoJdbcRepository = contexto.getBean(VotoJdbcRepository.class);
+
+        Pauta aberta = popular(pautaService, votoJdbcRepository, PAUTA_ABERTA);
+        Pauta encerrada = popular(pautaService, votoJdbcRepository, PAUTA_ENCERRADA);
+        contexto.getBean(EncerramentoSessaoService.class).encerrar(encerrada.getId());
+
+        System.out.printf("%n[resultado] aberta=%s encerrada=%s%n",
+                votoService.calcularResultadoPorTitulo(PAUTA_ABERTA).resultado(),
+                votoService.calcularResultadoPorTitulo(PAUTA_ENCERRADA).resultado());
+    }
+
+    private Pauta popular(PautaService pautaService, VotoJdbcRepository votoJdbcRepository, String titulo) {
+        pautaService.criarPauta(new Pauta(new TituloPauta(titulo)));
+        Pauta pauta = pautaService.abrirSessao(titulo, 60);
+
+        // Os votos entram direto no banco; o placar é carregado dele no primeiro resultado
+        List<NovoVoto> lote = new ArrayList<>(votos);
+        for (int i = 0; i < votos; i++) {
+            Escolha escolha = i % 5 < 3 ? Escolha.SIM : Escolha.NAO;
+            lote.add(new NovoVoto(pauta.getId(), Cpf.daBase(100_000_000L + i).getNumero(), escolha));
+        }
+        votoJdbcRepository.inserirEmLote(lote);
+        return pauta;
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public ResultadoVotacaoResponseDTO sessaoAberta() {
+        return votoService.calcularResultadoPorTitulo(PAUTA_ABERTA);
+    }
+
+    @Benchmark
+    public ResultadoVotacaoResponseDTO sessaoEncerrada() {
+        return votoService.calcularResultadoPorTitulo(PAUTA_ENCERRADA);
+    }
+}
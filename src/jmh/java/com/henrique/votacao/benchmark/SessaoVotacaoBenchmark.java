@@ -0,0 +1,92 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.infrastructure.tempo.RelogioGrosso;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da verificação "sessão aberta" feita em todo voto.
+ *
+ * <ul>
+ *   <li>{@code textoFormatado}: lógica anterior, com abertura e fechamento guardados como texto
+ *   e interpretados a cada chamada, comparados com {@code LocalDateTime.now()};</li>
+ *   <li>{@code epochRelogioSistema}: {@link Pauta#podeReceberVoto(long)} com {@link Clock#systemUTC()};</li>
+ *   <li>{@code epochRelogioGrosso}: {@link Pauta#podeReceberVoto(long)} com o {@link RelogioGrosso}.</li>
+ * </ul>
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SessaoVotacao -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessaoVotacaoBenchmark {
+
+    private static final DateTimeFormatter FORMATADOR = DateTimeFormatter.ofPattern("dd/MM/yyyy - HH'h'mm'm'ss's'");
+
+    private String abertura;
+    private String fechamento;
+
+    private Pauta pauta;
+    private Clock relogioSistema;
+    private RelogioGrosso relogioGrosso;
+
+    @Setup(Level.Trial)
+    public void abrirSessao() {
+        LocalDateTime agora = LocalDateTime.now();
+        abertura = agora.format(FORMATADOR);
+        fechamento = agora.plusMinutes(60).format(FORMATADOR);
+
+        relogioSistema = Clock.systemUTC();
+        relogioGrosso = new RelogioGrosso(10);
+        pauta = new Pauta(new TituloPauta("Pauta Benchmark"));
+        pauta.abrirSessao(60, relogioSistema.millis());
+    }
+
+    @TearDown(Level.Trial)
+    public void pararRelogio() {
+        relogioGrosso.parar();
+    }
+
+    @Benchmark
+    public boolean textoFormatado() {
+        LocalDateTime dataAbertura = LocalDateTime.parse(abertura, FORMATADOR);
+        LocalDateTime dataFechamento = LocalDateTime.parse(fechamento, FORMATADOR);
+        LocalDateTime agora = LocalDateTime.now();
+
+        return !agora.isBefore(dataAbertura) && !agora.isAfter(dataFechamento);
+    }
+
+    @Benchmark
+    public boolean epochRelogioSistema() {
+        return pauta.podeReceberVoto(relogioSistema.millis());
+    }
+
+    @Benchmark
+    public boolean epochRelogioGrosso() {
+        return pauta.podeReceberVoto(relogioGrosso.millis());
+    }
+}
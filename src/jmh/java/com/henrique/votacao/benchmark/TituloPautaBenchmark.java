@@ -0,0 +1,76 @@
+package com.henrique.votacao.benchmark;
+
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do {@link TituloPauta}: criação com validação, hash e busca em mapa com uma
+ * instância nova a cada consulta, como acontece quando o título chega pela URL.
+ *
+ * <p>Execução: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="TituloPauta -prof gc"}
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TituloPautaBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    private String[] textos;
+    private TituloPauta[] titulos;
+    private Map<TituloPauta, Integer> pautas;
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        textos = new String[QUANTIDADE];
+        titulos = new TituloPauta[QUANTIDADE];
+        pautas = new HashMap<>();
+
+        for (int i = 0; i < QUANTIDADE; i++) {
+            textos[i] = "Devemos aprovar a proposta " + i + " da assembleia de " + (2000 + i % 25) + "?";
+            titulos[i] = new TituloPauta(textos[i]);
+            pautas.put(titulos[i], i);
+        }
+    }
+
+    private int proximoIndice() {
+        return proximo++ & (QUANTIDADE - 1);
+    }
+
+    @Benchmark
+    public TituloPauta novoTitulo() {
+        return new TituloPauta(textos[proximoIndice()]);
+    }
+
+    @Benchmark
+    public int hashCodeTitulo() {
+        return titulos[proximoIndice()].hashCode();
+    }
+
+    @Benchmark
+    public Integer buscarNoMapa() {
+        return pautas.get(new TituloPauta(textos[proximoIndice()]));
+    }
+}
@@ -0,0 +1,44 @@
+package com.henrique.votacao.application.dto.request;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * O texto deve ser um CPF válido: 11 dígitos numéricos com dígitos verificadores válidos.
+ *
+ * <p>A validação é a do {@link Cpf#valido(CharSequence)}, sem expressão regular, a mesma que o
+ * serviço aplica depois. Null é aceito: a obrigatoriedade fica com {@code @NotBlank}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Documented
+@Constraint(validatedBy = CpfValido.Validador.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CpfValido {
+
+    String message() default "O CPF deve conter 11 números e dígitos verificadores válidos";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validador implements ConstraintValidator<CpfValido, CharSequence> {
+
+        @Override
+        public boolean isValid(CharSequence cpf, ConstraintValidatorContext context) {
+            return cpf == null || Cpf.valido(cpf);
+        }
+    }
+}
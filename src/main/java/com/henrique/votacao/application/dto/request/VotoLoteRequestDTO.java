@@ -0,0 +1,16 @@
+package com.henrique.votacao.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request para registrar um lote de votos coletados em quiosques ou offline")
+public record VotoLoteRequestDTO(
+        @Schema(description = "Votos do lote. Cada voto é validado individualmente e recebe seu próprio status na resposta")
+        @NotEmpty(message = "O lote deve conter ao menos um voto")
+        @Size(max = 100_000, message = "O lote pode conter no máximo 100000 votos")
+        List<VotoRequestDTO> votos
+) {}
@@ -7,9 +7,9 @@ import jakarta.validation.constraints.Pattern;
 
 @Schema(description = "Request para registrar votação")
 public record VotoRequestDTO(
-        @Schema(description = "ID do associado", example = "12345678900")
+        @Schema(description = "ID do associado", example = "12345678909")
         @NotBlank(message = "O ID do associado é obrigatório")
-        @Pattern(regexp = "\\d{11}", message = "O CPF deve conter exatamente 11 números")
+        @CpfValido
         String cpf,
 
         @Schema(description = "Escolha do voto (SIM/NAO)", example = "SIM")
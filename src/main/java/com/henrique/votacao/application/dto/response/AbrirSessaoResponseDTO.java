@@ -2,14 +2,25 @@ package com.henrique.votacao.application.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.Instant;
+
 @Schema(description = "Response para abrir sessão de votação")
 public record AbrirSessaoResponseDTO(
         @Schema(description = "Mensagem de aviso para a sessão aberta",
                 example = "Sessão de votação aberta por 1 minuto(s) para a pauta: 'Devemos distribuir sacolinhas no Pet Place?'")
-        String mensagem
+        String mensagem,
+        @Schema(description = "Abertura da sessão (ISO-8601, UTC)", example = "2025-01-10T14:30:00Z")
+        String abertura,
+        @Schema(description = "Fechamento da sessão (ISO-8601, UTC)", example = "2025-01-10T14:31:00Z")
+        String fechamento
 ) {
-    public static AbrirSessaoResponseDTO criarMensagem(String titulo, Integer duracaoMinutos) {
+    public static AbrirSessaoResponseDTO criarMensagem(String titulo, Integer duracaoMinutos,
+                                                       Long aberturaEpochMs, Long fechamentoEpochMs) {
         String mensagem = "Sessão de votação aberta por " + duracaoMinutos + " minuto(s) para a pauta: '" + titulo + "'";
-        return new AbrirSessaoResponseDTO(mensagem);
+        return new AbrirSessaoResponseDTO(mensagem, formatar(aberturaEpochMs), formatar(fechamentoEpochMs));
+    }
+
+    private static String formatar(Long epochMs) {
+        return epochMs != null ? Instant.ofEpochMilli(epochMs).toString() : null;
     }
 }
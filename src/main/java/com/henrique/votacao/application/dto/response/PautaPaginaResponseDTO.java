@@ -0,0 +1,34 @@
+package com.henrique.votacao.application.dto.response;
+
+import com.henrique.votacao.domain.model.pauta.StatusSessao;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Response com uma página da listagem de pautas, em ordem de criação (abertas: em ordem de fechamento)")
+public record PautaPaginaResponseDTO(
+        @Schema(description = "Pautas da página")
+        List<ItemDTO> pautas,
+
+        @Schema(description = "Cursor da próxima página (parâmetro cursor); null na última página", example = "1050")
+        Long proximoCursor
+) {
+    @Schema(description = "Resumo de uma pauta")
+    public record ItemDTO(
+            @Schema(description = "Título da pauta", example = "Devemos distribuir sacolinhas no Pet Place?")
+            String tituloPauta,
+
+            @Schema(description = "Situação da sessão de votação", example = "ABERTA")
+            StatusSessao status,
+
+            @Schema(description = "Fechamento da sessão (ISO-8601, UTC); null sem sessão", example = "2025-01-10T14:31:00Z")
+            String fechamento
+    ) {
+        public static ItemDTO criar(String tituloPauta, StatusSessao status, Long fechamentoEpochMs) {
+            String fechamento = fechamentoEpochMs != null ? Instant.ofEpochMilli(fechamentoEpochMs).toString() : null;
+            return new ItemDTO(tituloPauta, status, fechamento);
+        }
+    }
+}
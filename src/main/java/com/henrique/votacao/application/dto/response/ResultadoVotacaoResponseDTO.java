@@ -1,5 +1,7 @@
 package com.henrique.votacao.application.dto.response;
 
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Request para contabilizar resultados das votações de uma pauta")
@@ -12,6 +14,20 @@ public record ResultadoVotacaoResponseDTO(
         ResultadoDTO resultado
 
 ) {
+    public static ResultadoVotacaoResponseDTO criar(String tituloPauta, ResultadoPauta resultado) {
+        long totalVotos = resultado.getTotalVotos();
+
+        if (totalVotos == 0) {
+            return new ResultadoVotacaoResponseDTO("Nenhum voto registrado para a pauta '" + tituloPauta + "'"
+                    , new ResultadoDTO(0, 0, resultado.getStatus().name()));
+        }
+
+        double percSim = (int) ((resultado.getVotosSim() * 100) / totalVotos);
+        double percNao = (int) ((resultado.getVotosNao() * 100) / totalVotos);
+
+        return new ResultadoVotacaoResponseDTO(tituloPauta, new ResultadoDTO(percSim, percNao, resultado.getStatus().name()));
+    }
+
     @Schema(description = "Resultado das votações")
     public record ResultadoDTO(
             @Schema(description = "Quantidade de 'SIM'", example = "12")
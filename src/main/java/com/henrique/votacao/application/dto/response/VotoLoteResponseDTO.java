@@ -0,0 +1,39 @@
+package com.henrique.votacao.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response com o status de cada voto de um lote, na mesma ordem do request")
+public record VotoLoteResponseDTO(
+        @Schema(description = "Título da pauta", example = "Devemos distribuir sacolinhas no Pet Place?")
+        String tituloPauta,
+
+        @Schema(description = "Quantidade de votos aceitos", example = "2")
+        int aceitos,
+
+        @Schema(description = "Quantidade de votos rejeitados", example = "1")
+        int rejeitados,
+
+        @Schema(description = "Status de cada voto do lote")
+        List<ItemDTO> votos
+) {
+    @Schema(description = "Status de um voto do lote")
+    public record ItemDTO(
+            @Schema(description = "CPF informado no voto", example = "12345678909")
+            String cpf,
+
+            @Schema(description = "Status do voto", example = "ACEITO")
+            StatusVotoLote status
+    ) {}
+
+    @Schema(description = "Status de um voto do lote")
+    public enum StatusVotoLote {
+        ACEITO,
+        DUPLICADO,
+        NAO_AUTORIZADO,
+        INDISPONIVEL,
+        CPF_INVALIDO,
+        ESCOLHA_INVALIDA
+    }
+}
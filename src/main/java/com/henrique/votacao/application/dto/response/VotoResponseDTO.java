@@ -5,7 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "Response para registrar votação")
 public record VotoResponseDTO(
         @Schema(description = "Mensagem de aviso para a contagem de voto",
-                example = "Voto 'SIM' registrado com sucesso para pauta 'Devemos distribuir sacolinhas no Pet Place?' no CPF de '12345678900'")
+                example = "Voto 'SIM' registrado com sucesso para pauta 'Devemos distribuir sacolinhas no Pet Place?' no CPF de '12345678909'")
         String mensagem
 ) {
     public static VotoResponseDTO criarMensagem(String titulo, String cpf, String escolha) {
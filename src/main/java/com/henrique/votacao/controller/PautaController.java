@@ -2,7 +2,7 @@ package com.henrique.votacao.controller;
 
 import com.henrique.votacao.domain.model.pauta.Pauta;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
-import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
 import com.henrique.votacao.domain.exception.PautaNaoEncontradaException;
 import com.henrique.votacao.application.dto.request.*;
 import com.henrique.votacao.application.dto.response.*;
@@ -14,13 +14,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(name = "Assembleia", description = "Endpoints para gerenciamento de Pautas e Votações em uma Assembleia")
 @RestController
@@ -31,10 +39,13 @@ public class PautaController {
 
     private final PautaService pautaService;
     private final VotoService votoService;
+    private final ExportacaoVotosService exportacaoVotosService;
 
-    public PautaController(PautaService pautaService, VotoService votoService) {
+    public PautaController(PautaService pautaService, VotoService votoService,
+                           ExportacaoVotosService exportacaoVotosService) {
         this.pautaService = pautaService;
         this.votoService = votoService;
+        this.exportacaoVotosService = exportacaoVotosService;
     }
 
     @Operation(summary = "Cria uma nova pauta")
@@ -58,6 +69,28 @@ public class PautaController {
                 .body(new PautaDTO(criada.getTituloPauta()));
     }
 
+    @Operation(summary = "Lista as pautas em ordem de criação, paginadas por cursor",
+            description = "Para a próxima página, repita a requisição com cursor = proximoCursor da resposta. "
+                    + "Com status=ABERTA, as pautas vêm em ordem de fechamento")
+    @ApiResponse(responseCode = "200", description = "Página retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = PautaPaginaResponseDTO.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Status, cursor ou tamanho inválidos")
+    @GetMapping
+    public ResponseEntity<PautaPaginaResponseDTO> listarPautas(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int tamanho) {
+
+        logger.info("Recebida requisição de listagem de pautas: status={}, cursor={}, tamanho={}", status, cursor, tamanho);
+
+        PautaPaginaResponseDTO pagina = pautaService.listarPautas(status, cursor, tamanho);
+
+        logger.info("Pautas listadas: quantidade={}, proximoCursor={}", pagina.pautas().size(), pagina.proximoCursor());
+
+        return ResponseEntity.ok(pagina);
+    }
+
     @Operation(summary = "Abre uma sessão de votação em uma pauta")
     @ApiResponse(responseCode = "200", description = "Sessão aberta com sucesso",
             content = @Content(schema = @Schema(implementation = AbrirSessaoResponseDTO.class))
@@ -73,11 +106,12 @@ public class PautaController {
         Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
                 .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
 
-        pautaService.abrirSessao(pauta.getTituloPauta(), request.duracaoMinutos());
+        Pauta aberta = pautaService.abrirSessao(pauta.getTituloPauta(), request.duracaoMinutos());
 
-        logger.info("Sessão aberta com sucesso: pautaID={}, duracao={}min", pauta.getId(), request.duracaoMinutos());
+        logger.info("Sessão aberta com sucesso: pautaID={}, duracao={}min", aberta.getId(), request.duracaoMinutos());
 
-        AbrirSessaoResponseDTO response = AbrirSessaoResponseDTO.criarMensagem(pauta.getTituloPauta(), pauta.getDuracaoMinutos());
+        AbrirSessaoResponseDTO response = AbrirSessaoResponseDTO.criarMensagem(aberta.getTituloPauta(), aberta.getDuracaoMinutos(),
+                aberta.getAberturaEpochMs(), aberta.getFechamentoEpochMs());
 
         return ResponseEntity.ok(response);
     }
@@ -97,17 +131,85 @@ public class PautaController {
         logger.info("Recebida requisição de voto: titulo={}, cpf={}, escolha={}",
                 tituloPauta, request.cpf(), request.escolha());
 
-        Voto voto = votoService.registrarVotoPorTitulo(tituloPauta, request.cpf(), request.escolha());
+        NovoVoto voto = votoService.registrarVotoPorTitulo(tituloPauta, request.cpf(), request.escolha());
 
         logger.info("Voto registrado com sucesso: titulo={}, cpf={}, escolha={}",
-                voto.getPauta().getTituloPauta(), voto.getCpfId(), voto.getEscolha());
+                tituloPauta, request.cpf(), voto.escolha());
 
-        VotoResponseDTO response = VotoResponseDTO.criarMensagem(voto.getPauta().getTituloPauta(), voto.getCpfId(), voto.getEscolha().name());
+        // O título e o CPF da requisição já foram validados contra a pauta e o CPF gravados: nada é recarregado
+        VotoResponseDTO response = VotoResponseDTO.criarMensagem(tituloPauta, request.cpf(), voto.escolha().name());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(response);
     }
 
+    @Operation(summary = "Registra um lote de votos em uma pauta",
+            description = "Usado por quiosques e coletas offline. Cada voto recebe seu próprio status na resposta")
+    @ApiResponse(responseCode = "200", description = "Lote processado",
+            content = @Content(schema = @Schema(implementation = VotoLoteResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Lote vazio ou sessão não aberta/fechada")
+    @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    @PostMapping("/{tituloPauta}/votos/lote")
+    public ResponseEntity<VotoLoteResponseDTO> votarEmLote(
+            @PathVariable String tituloPauta,
+            @Valid @RequestBody VotoLoteRequestDTO request) {
+
+        logger.info("Recebida requisição de lote de votos: titulo={}, quantidade={}",
+                tituloPauta, request.votos().size());
+
+        VotoLoteResponseDTO response = votoService.registrarVotosEmLote(tituloPauta, request.votos());
+
+        logger.info("Lote de votos registrado: titulo={}, aceitos={}, rejeitados={}",
+                tituloPauta, response.aceitos(), response.rejeitados());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Exporta todos os votos de uma pauta (NDJSON ou CSV), em ordem de ID",
+            description = "Os votos são enviados conforme são lidos do banco. Com Accept-Encoding: gzip a resposta vem "
+                    + "compactada. Para retomar uma exportação interrompida, envie Range: id=<ID seguinte ao da última "
+                    + "linha completa>- (resposta 206, sem o cabeçalho do CSV)")
+    @ApiResponse(responseCode = "200", description = "Exportação completa",
+            content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")})
+    @ApiResponse(responseCode = "206", description = "Exportação retomada a partir do ID pedido")
+    @ApiResponse(responseCode = "400", description = "Formato inválido")
+    @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    @ApiResponse(responseCode = "416", description = "Range em IDs malformado")
+    @ApiResponse(responseCode = "503", description = "Exportações demais em andamento")
+    @GetMapping("/{tituloPauta}/votos/export")
+    public void exportarVotos(
+            @PathVariable String tituloPauta,
+            @RequestParam(name = "format", defaultValue = "ndjson") String formato,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String intervalo,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String codificacoes,
+            HttpServletResponse response) throws IOException {
+
+        logger.info("Recebida requisição de exportação de votos: titulo={}, formato={}, range={}",
+                tituloPauta, formato, intervalo);
+
+        Long aPartirDoId = ExportacaoVotosService.inicioDoIntervalo(intervalo);
+        boolean gzip = codificacoes != null && codificacoes.toLowerCase().contains("gzip");
+
+        // Status e cabeçalhos só são definidos depois que a exportação foi aceita: até lá, uma recusa vira o erro comum
+        exportacaoVotosService.exportarPorTitulo(tituloPauta, formato, aPartirDoId, formatoAceito -> {
+            response.setStatus(aPartirDoId != null ? HttpStatus.PARTIAL_CONTENT.value() : HttpStatus.OK.value());
+            response.setContentType(formatoAceito.getTipoConteudo());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, ExportacaoVotosService.UNIDADE_INTERVALO);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"votos." + formatoAceito.getExtensao() + "\"");
+            if (aPartirDoId != null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, ExportacaoVotosService.UNIDADE_INTERVALO + " " + aPartirDoId + "-*");
+            }
+            OutputStream saida = response.getOutputStream();
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                saida = new GZIPOutputStream(saida, 64 * 1024);
+            }
+            return saida;
+        });
+    }
+
     @Operation(summary = "Obtém o resultado da votação de uma pauta")
     @ApiResponse(responseCode = "200", description = "Resultado retornado com sucesso",
             content = @Content(schema = @Schema(implementation = ResultadoVotacaoResponseDTO.class))
@@ -123,4 +225,19 @@ public class PautaController {
 
         return ResponseEntity.ok(resultadoVotacao);
     }
+
+    @Operation(summary = "Acompanha o resultado da votação de uma pauta em tempo real (Server-Sent Events)",
+            description = "Envia o evento 'resultado' a cada mudança no placar e o evento 'resultado-final' "
+                    + "quando a sessão é encerrada, fechando a conexão em seguida")
+    @ApiResponse(responseCode = "200", description = "Conexão aberta",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = ResultadoVotacaoResponseDTO.class))
+    )
+    @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    @GetMapping(value = "/{tituloPauta}/resultados/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharResultado(@PathVariable String tituloPauta) {
+        logger.info("Recebida inscrição no resultado: titulo={}", tituloPauta);
+
+        return votoService.acompanharResultadoPorTitulo(tituloPauta);
+    }
 }
@@ -7,12 +7,10 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class AssociadoNaoAutorizadoException extends DomainException {
+
+    public static final String MENSAGEM = "Associado não autorizado a votar";
     
     public AssociadoNaoAutorizadoException() {
-        super("Associado não autorizado a votar");
-    }
-    
-    public AssociadoNaoAutorizadoException(String cpf) {
-        super("Associado com CPF " + cpf + " não está autorizado a votar");
+        super(MENSAGEM);
     }
 }
@@ -5,6 +5,10 @@ package com.henrique.votacao.domain.exception;
  * 
  * <p>Exceções de domínio representam violações de regras de negócio
  * e devem ser tratadas pela camada de apresentação (controller).
+ *
+ * <p>São recusas esperadas (voto duplicado, sessão fechada...), que numa votação concorrida
+ * chegam a milhares por segundo. Por isso não preenchem a pilha de chamadas nem aceitam
+ * exceções suprimidas: a mensagem já identifica a regra violada.
  * 
  * @author Henrique
  * @since 1.0
@@ -12,10 +16,10 @@ package com.henrique.votacao.domain.exception;
 public abstract class DomainException extends RuntimeException {
     
     protected DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     protected DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -7,9 +7,11 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class PautaDuplicadaException extends DomainException {
+
+    public static final String MENSAGEM = "Já existe uma pauta com esse título";
     
     public PautaDuplicadaException() {
-        super("Já existe uma pauta com esse título");
+        super(MENSAGEM);
     }
     
     public PautaDuplicadaException(String titulo) {
@@ -7,12 +7,14 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class PautaNaoEncontradaException extends DomainException {
+
+    public static final String MENSAGEM = "Pauta não encontrada";
     
     public PautaNaoEncontradaException() {
-        super("Pauta não encontrada");
+        super(MENSAGEM);
     }
     
     public PautaNaoEncontradaException(String titulo) {
-        super("Pauta não encontrada: " + titulo);
+        super(MENSAGEM + ": " + titulo);
     }
 }
@@ -8,9 +8,11 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class SessaoFechadaException extends DomainException {
+
+    public static final String MENSAGEM = "Sessão de votação fechada";
     
     public SessaoFechadaException() {
-        super("Sessão de votação fechada");
+        super(MENSAGEM);
     }
     
     public SessaoFechadaException(String message) {
@@ -7,8 +7,10 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class SessaoJaAbertaException extends DomainException {
+
+    public static final String MENSAGEM = "Sessão de votação já foi aberta para esta pauta";
     
     public SessaoJaAbertaException() {
-        super("Sessão de votação já foi aberta para esta pauta");
+        super(MENSAGEM);
     }
 }
@@ -8,8 +8,10 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class SessaoNaoAbertaException extends DomainException {
+
+    public static final String MENSAGEM = "Sessão de votação não foi aberta";
     
     public SessaoNaoAbertaException() {
-        super("Sessão de votação não foi aberta");
+        super(MENSAGEM);
     }
 }
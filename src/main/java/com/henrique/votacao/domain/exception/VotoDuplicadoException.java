@@ -7,12 +7,10 @@ package com.henrique.votacao.domain.exception;
  * @since 1.0
  */
 public class VotoDuplicadoException extends DomainException {
+
+    public static final String MENSAGEM = "Associado já votou";
     
     public VotoDuplicadoException() {
-        super("Associado já votou");
-    }
-    
-    public VotoDuplicadoException(String cpf) {
-        super("Associado com CPF " + cpf + " já votou nesta pauta");
+        super(MENSAGEM);
     }
 }
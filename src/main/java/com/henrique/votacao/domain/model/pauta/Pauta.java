@@ -1,6 +1,7 @@
 package com.henrique.votacao.domain.model.pauta;
 
 import com.henrique.votacao.domain.exception.SessaoJaAbertaException;
+import com.henrique.votacao.domain.exception.SessaoNaoAbertaException;
 
 import jakarta.persistence.*;
 
@@ -17,6 +18,7 @@ import org.springframework.util.Assert;
  *   <li>Título deve ser único no sistema</li>
  *   <li>Sessão de votação só pode ser aberta uma vez</li>
  *   <li>Votos só podem ser registrados quando a sessão estiver aberta</li>
+ *   <li>Depois de encerrada, a sessão não volta a receber votos</li>
  * </ul>
  * 
  * @author Henrique
@@ -24,12 +26,15 @@ import org.springframework.util.Assert;
  */
 @Entity
 @Table(name = "pauta", indexes = {
-    @Index(name = "idx_titulo_pauta", columnList = "titulo_pauta")
+    @Index(name = "idx_titulo_pauta", columnList = "titulo_pauta"),
+    @Index(name = "idx_pauta_encerrada", columnList = "encerrada, id"),
+    @Index(name = "idx_pauta_situacao", columnList = "encerrada, fechamento_epoch_ms, id")
 })
 public class Pauta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pauta_seq")
+    @SequenceGenerator(name = "pauta_seq", sequenceName = "pauta_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
@@ -60,22 +65,46 @@ public class Pauta {
      * Abre uma sessão de votação para esta pauta.
      * 
      * @param duracaoMinutos duração da sessão em minutos (null ou < 1 resulta em 1 minuto)
+     * @param agoraEpochMs instante de abertura, em milissegundos desde a época
      * @throws SessaoJaAbertaException se a sessão já foi aberta
      */
-    public void abrirSessao(Integer duracaoMinutos) {
+    public void abrirSessao(Integer duracaoMinutos, long agoraEpochMs) {
         if (this.sessao != null) {
             throw new SessaoJaAbertaException();
         }
-        this.sessao = SessaoVotacao.abrir(duracaoMinutos);
+        this.sessao = SessaoVotacao.abrir(duracaoMinutos, agoraEpochMs);
     }
 
     /**
-     * Verifica se a pauta pode receber votos no momento atual.
+     * Verifica se a pauta pode receber votos no instante informado.
      * 
+     * @param agoraEpochMs instante atual, em milissegundos desde a época
      * @return true se a sessão está aberta, false caso contrário
      */
-    public boolean podeReceberVoto() {
-        return sessao != null && sessao.estaAberta();
+    public boolean podeReceberVoto(long agoraEpochMs) {
+        return sessao != null && sessao.estaAberta(agoraEpochMs);
+    }
+
+    /**
+     * Encerra a sessão de votação, depois que o resultado final foi apurado.
+     * A partir daqui a pauta não recebe votos, mesmo antes do fechamento.
+     * 
+     * @throws SessaoNaoAbertaException se a sessão não foi aberta
+     */
+    public void encerrarSessao() {
+        if (this.sessao == null) {
+            throw new SessaoNaoAbertaException();
+        }
+        this.sessao = sessao.encerrar();
+    }
+
+    /**
+     * Verifica se a sessão já foi encerrada e teve o resultado final apurado.
+     * 
+     * @return true se a sessão foi encerrada, false caso contrário
+     */
+    public boolean sessaoEncerrada() {
+        return sessao != null && sessao.estaEncerrada();
     }
 
     /**
@@ -111,21 +140,21 @@ public class Pauta {
     }
 
     /**
-     * Retorna a abertura da sessão como String para compatibilidade.
+     * Retorna a abertura da sessão.
      * 
-     * @return data/hora de abertura ou null se não houver sessão
+     * @return instante de abertura em milissegundos desde a época, ou null se não houver sessão
      */
-    public String getAbertura() {
-        return sessao != null ? sessao.getAbertura() : null;
+    public Long getAberturaEpochMs() {
+        return sessao != null ? sessao.getAberturaEpochMs() : null;
     }
 
     /**
-     * Retorna o fechamento da sessão como String para compatibilidade.
+     * Retorna o fechamento da sessão.
      * 
-     * @return data/hora de fechamento ou null se não houver sessão
+     * @return instante de fechamento em milissegundos desde a época, ou null se não houver sessão
      */
-    public String getFechamento() {
-        return sessao != null ? sessao.getFechamento() : null;
+    public Long getFechamentoEpochMs() {
+        return sessao != null ? sessao.getFechamentoEpochMs() : null;
     }
 
     /**
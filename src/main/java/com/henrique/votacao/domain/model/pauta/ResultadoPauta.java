@@ -0,0 +1,107 @@
+package com.henrique.votacao.domain.model.pauta;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity com o resultado da votação de uma pauta.
+ * 
+ * <p>Gravado uma única vez, quando a sessão é encerrada, e lido pela chave da pauta a partir
+ * daí. Enquanto a sessão está aberta o resultado é apurado a partir do placar em memória,
+ * sem ser gravado.
+ * 
+ * @author Henrique
+ * @since 1.0
+ */
+@Entity
+@Table(name = "resultado_pauta")
+public class ResultadoPauta {
+
+    @Id
+    @Column(name = "pauta_id")
+    private Long pautaId;
+
+    @Column(name = "votos_sim", nullable = false)
+    private long votosSim;
+
+    @Column(name = "votos_nao", nullable = false)
+    private long votosNao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusResultado status;
+
+    @Column(name = "apurado_em_epoch_ms", nullable = false)
+    private long apuradoEmEpochMs;
+
+    /**
+     * Construtor padrão JPA.
+     * Não utilizar diretamente - use o factory method {@link #apurar(Long, long, long, long)}.
+     */
+    protected ResultadoPauta() {
+    }
+
+    private ResultadoPauta(Long pautaId, long votosSim, long votosNao, StatusResultado status, long apuradoEmEpochMs) {
+        this.pautaId = pautaId;
+        this.votosSim = votosSim;
+        this.votosNao = votosNao;
+        this.status = status;
+        this.apuradoEmEpochMs = apuradoEmEpochMs;
+    }
+
+    /**
+     * Apura o resultado a partir da contagem de votos.
+     * 
+     * @param pautaId ID da pauta
+     * @param votosSim quantidade de votos SIM
+     * @param votosNao quantidade de votos NAO
+     * @param agoraEpochMs instante da apuração, em milissegundos desde a época
+     * @return resultado apurado
+     */
+    public static ResultadoPauta apurar(Long pautaId, long votosSim, long votosNao, long agoraEpochMs) {
+        StatusResultado status;
+        if (votosSim + votosNao == 0) {
+            status = StatusResultado.SEM_VOTOS;
+        } else if (votosSim > votosNao) {
+            status = StatusResultado.APROVADA;
+        } else if (votosNao > votosSim) {
+            status = StatusResultado.REPROVADA;
+        } else {
+            status = StatusResultado.EMPATE;
+        }
+        return new ResultadoPauta(pautaId, votosSim, votosNao, status, agoraEpochMs);
+    }
+
+    public Long getPautaId() {
+        return pautaId;
+    }
+
+    public long getVotosSim() {
+        return votosSim;
+    }
+
+    public long getVotosNao() {
+        return votosNao;
+    }
+
+    public long getTotalVotos() {
+        return votosSim + votosNao;
+    }
+
+    public StatusResultado getStatus() {
+        return status;
+    }
+
+    public long getApuradoEmEpochMs() {
+        return apuradoEmEpochMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoPauta{" +
+                "pautaId=" + pautaId +
+                ", votosSim=" + votosSim +
+                ", votosNao=" + votosNao +
+                ", status=" + status +
+                '}';
+    }
+}
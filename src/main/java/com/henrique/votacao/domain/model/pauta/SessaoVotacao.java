@@ -3,9 +3,8 @@ package com.henrique.votacao.domain.model.pauta;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Value Object representando uma sessão de votação.
@@ -13,6 +12,10 @@ import java.util.Objects;
  * <p>Encapsula as informações de abertura, fechamento e duração de uma sessão,
  * bem como a lógica para determinar se a sessão está aberta.
  * 
+ * <p>Abertura e fechamento são instantes em milissegundos desde a época (UTC), sem fuso
+ * horário. A verificação de sessão aberta é uma comparação de números; a formatação para
+ * exibição fica nos DTOs.
+ * 
  * <p>Imutável e thread-safe.
  * 
  * @author Henrique
@@ -21,72 +24,89 @@ import java.util.Objects;
 @Embeddable
 public class SessaoVotacao {
 
-    private static final DateTimeFormatter FORMATADOR = DateTimeFormatter.ofPattern("dd/MM/yyyy - HH'h'mm'm'ss's'");
     private static final int DURACAO_PADRAO_MINUTOS = 1;
 
-    @Column(name = "abertura")
-    private String abertura;
+    @Column(name = "abertura_epoch_ms")
+    private Long aberturaEpochMs;
 
-    @Column(name = "fechamento")
-    private String fechamento;
+    @Column(name = "fechamento_epoch_ms")
+    private Long fechamentoEpochMs;
 
     @Column(name = "duracao_minutos")
     private Integer duracaoMinutos;
 
+    @Column(name = "encerrada")
+    private Boolean encerrada;
+
     /**
      * Construtor padrão JPA.
-     * Não utilizar diretamente - use o factory method {@link #abrir(Integer)}.
+     * Não utilizar diretamente - use o factory method {@link #abrir(Integer, long)}.
      */
     protected SessaoVotacao() {
     }
 
-    private SessaoVotacao(String abertura, String fechamento, Integer duracaoMinutos) {
-        this.abertura = abertura;
-        this.fechamento = fechamento;
+    private SessaoVotacao(long aberturaEpochMs, long fechamentoEpochMs, Integer duracaoMinutos, boolean encerrada) {
+        this.aberturaEpochMs = aberturaEpochMs;
+        this.fechamentoEpochMs = fechamentoEpochMs;
         this.duracaoMinutos = duracaoMinutos;
+        this.encerrada = encerrada;
     }
 
     /**
      * Factory method para criar uma nova sessão de votação.
      * 
      * @param duracaoMinutos duração em minutos (null ou menor que 1 resulta em 1 minuto)
+     * @param agoraEpochMs instante de abertura, em milissegundos desde a época
      * @return nova sessão de votação aberta
      */
-    public static SessaoVotacao abrir(Integer duracaoMinutos) {
+    public static SessaoVotacao abrir(Integer duracaoMinutos, long agoraEpochMs) {
         if (duracaoMinutos == null || duracaoMinutos < 1) {
             duracaoMinutos = DURACAO_PADRAO_MINUTOS;
         }
 
-        LocalDateTime agora = LocalDateTime.now();
-        String abertura = agora.format(FORMATADOR);
-        String fechamento = agora.plusMinutes(duracaoMinutos).format(FORMATADOR);
+        long fechamento = agoraEpochMs + TimeUnit.MINUTES.toMillis(duracaoMinutos);
 
-        return new SessaoVotacao(abertura, fechamento, duracaoMinutos);
+        return new SessaoVotacao(agoraEpochMs, fechamento, duracaoMinutos, false);
     }
 
     /**
-     * Verifica se a sessão está atualmente aberta.
+     * Retorna a mesma sessão marcada como encerrada, depois que o resultado final foi apurado.
      * 
+     * @return sessão encerrada
+     */
+    public SessaoVotacao encerrar() {
+        return new SessaoVotacao(aberturaEpochMs, fechamentoEpochMs, duracaoMinutos, true);
+    }
+
+    /**
+     * Verifica se a sessão está aberta no instante informado.
+     * 
+     * @param agoraEpochMs instante atual, em milissegundos desde a época
      * @return true se a sessão está aberta, false caso contrário
      */
-    public boolean estaAberta() {
-        if (abertura == null || fechamento == null) {
+    public boolean estaAberta(long agoraEpochMs) {
+        if (aberturaEpochMs == null || fechamentoEpochMs == null || estaEncerrada()) {
             return false;
         }
 
-        LocalDateTime dataAbertura = LocalDateTime.parse(abertura, FORMATADOR);
-        LocalDateTime dataFechamento = LocalDateTime.parse(fechamento, FORMATADOR);
-        LocalDateTime agora = LocalDateTime.now();
+        return agoraEpochMs >= aberturaEpochMs && agoraEpochMs <= fechamentoEpochMs;
+    }
 
-        return !agora.isBefore(dataAbertura) && !agora.isAfter(dataFechamento);
+    /**
+     * Verifica se a sessão já foi encerrada e teve o resultado final apurado.
+     * 
+     * @return true se a sessão foi encerrada, false caso contrário
+     */
+    public boolean estaEncerrada() {
+        return Boolean.TRUE.equals(encerrada);
     }
 
-    public String getAbertura() {
-        return abertura;
+    public Long getAberturaEpochMs() {
+        return aberturaEpochMs;
     }
 
-    public String getFechamento() {
-        return fechamento;
+    public Long getFechamentoEpochMs() {
+        return fechamentoEpochMs;
     }
 
     public Integer getDuracaoMinutos() {
@@ -98,22 +118,24 @@ public class SessaoVotacao {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         SessaoVotacao that = (SessaoVotacao) o;
-        return Objects.equals(abertura, that.abertura) &&
-                Objects.equals(fechamento, that.fechamento) &&
-                Objects.equals(duracaoMinutos, that.duracaoMinutos);
+        return Objects.equals(aberturaEpochMs, that.aberturaEpochMs) &&
+                Objects.equals(fechamentoEpochMs, that.fechamentoEpochMs) &&
+                Objects.equals(duracaoMinutos, that.duracaoMinutos) &&
+                Objects.equals(encerrada, that.encerrada);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(abertura, fechamento, duracaoMinutos);
+        return Objects.hash(aberturaEpochMs, fechamentoEpochMs, duracaoMinutos, encerrada);
     }
 
     @Override
     public String toString() {
         return "SessaoVotacao{" +
-                "abertura='" + abertura + '\'' +
-                ", fechamento='" + fechamento + '\'' +
+                "aberturaEpochMs=" + aberturaEpochMs +
+                ", fechamentoEpochMs=" + fechamentoEpochMs +
                 ", duracaoMinutos=" + duracaoMinutos +
+                ", encerrada=" + encerrada +
                 '}';
     }
 }
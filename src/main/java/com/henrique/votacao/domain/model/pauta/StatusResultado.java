@@ -0,0 +1,30 @@
+package com.henrique.votacao.domain.model.pauta;
+
+/**
+ * Status do resultado da votação de uma pauta.
+ * 
+ * @author Henrique
+ * @since 1.0
+ */
+public enum StatusResultado {
+
+    /**
+     * Mais votos SIM do que NAO.
+     */
+    APROVADA,
+
+    /**
+     * Mais votos NAO do que SIM.
+     */
+    REPROVADA,
+
+    /**
+     * Mesma quantidade de votos SIM e NAO.
+     */
+    EMPATE,
+
+    /**
+     * Nenhum voto registrado.
+     */
+    SEM_VOTOS
+}
@@ -0,0 +1,43 @@
+package com.henrique.votacao.domain.model.pauta;
+
+/**
+ * Situação da sessão de votação de uma pauta em um instante.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public enum StatusSessao {
+
+    /**
+     * A sessão ainda não foi aberta.
+     */
+    SEM_SESSAO,
+
+    /**
+     * A sessão está recebendo votos.
+     */
+    ABERTA,
+
+    /**
+     * A sessão passou do fechamento ou foi encerrada.
+     */
+    ENCERRADA;
+
+    /**
+     * Mesma regra de {@link SessaoVotacao#estaAberta(long)}, a partir das colunas da sessão.
+     *
+     * @param fechamentoEpochMs fechamento da sessão, ou null se ela não foi aberta
+     * @param encerrada se a sessão já foi encerrada (pode ser null)
+     * @param agoraEpochMs instante atual, em milissegundos desde a época
+     * @return situação da sessão no instante
+     */
+    public static StatusSessao de(Long fechamentoEpochMs, Boolean encerrada, long agoraEpochMs) {
+        if (fechamentoEpochMs == null) {
+            return SEM_SESSAO;
+        }
+        if (Boolean.TRUE.equals(encerrada) || agoraEpochMs > fechamentoEpochMs) {
+            return ENCERRADA;
+        }
+        return ABERTA;
+    }
+}
@@ -3,25 +3,29 @@ package com.henrique.votacao.domain.model.voto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
-import java.util.Objects;
-
 /**
  * Value Object representando um CPF.
- * 
- * <p>Garante que o CPF possua exatamente 11 dígitos numéricos.
- * Para validação completa com dígitos verificadores, pode-se
- * implementar o algoritmo de validação de CPF futuramente.
- * 
+ *
+ * <p>O CPF é guardado como número ({@code long}) e persistido em uma coluna BIGINT.
+ * O texto informado precisa ter exatamente 11 dígitos numéricos e dígitos verificadores
+ * válidos; CPFs com todos os dígitos iguais são rejeitados.
+ *
+ * <p>A validação não usa expressão regular nem aloca objetos no caminho feliz.
+ *
  * <p>Imutável e thread-safe.
- * 
+ *
  * @author Henrique
  * @since 1.0
  */
 @Embeddable
 public class Cpf {
 
-    @Column(name = "cpf_id", nullable = false, length = 11)
-    private String numero;
+    private static final int DIGITOS = 11;
+    private static final long FORMATO_INVALIDO = -1;
+    private static final long DIGITO_VERIFICADOR_INVALIDO = -2;
+
+    @Column(name = "cpf_id", nullable = false)
+    private long numero;
 
     /**
      * Construtor padrão JPA.
@@ -32,26 +36,159 @@ public class Cpf {
 
     /**
      * Cria um novo CPF com validação.
-     * 
+     *
      * @param numero o número do CPF (11 dígitos)
      * @throws IllegalArgumentException se o CPF for inválido
      */
     public Cpf(String numero) {
-        validar(numero);
+        this.numero = parse(numero);
+    }
+
+    /**
+     * Cria um CPF a partir do valor numérico, com validação dos dígitos verificadores.
+     *
+     * @param numero o número do CPF
+     * @throws IllegalArgumentException se o CPF for inválido
+     */
+    public Cpf(long numero) {
+        if (numero < 0 || numero > 99_999_999_999L) {
+            throw new IllegalArgumentException("O CPF deve conter exatamente 11 dígitos numéricos");
+        }
+        if (!valido(numero)) {
+            throw new IllegalArgumentException("O CPF possui dígitos verificadores inválidos");
+        }
         this.numero = numero;
     }
 
-    private void validar(String numero) {
-        if (numero == null || numero.isBlank()) {
+    /**
+     * Converte o texto em número de CPF.
+     *
+     * @param numero o número do CPF (11 dígitos)
+     * @return o CPF como número
+     * @throws IllegalArgumentException se o CPF for inválido
+     */
+    public static long parse(CharSequence numero) {
+        if (numero == null || numero.isEmpty() || numero.toString().isBlank()) {
             throw new IllegalArgumentException("O CPF não pode ser nulo ou vazio");
         }
-        
-        if (!numero.matches("\\d{11}")) {
+
+        long valor = converter(numero);
+        if (valor == FORMATO_INVALIDO) {
             throw new IllegalArgumentException("O CPF deve conter exatamente 11 dígitos numéricos");
         }
+        if (valor == DIGITO_VERIFICADOR_INVALIDO) {
+            throw new IllegalArgumentException("O CPF possui dígitos verificadores inválidos");
+        }
+        return valor;
     }
 
-    public String getNumero() {
+    /**
+     * Verifica se o texto é um CPF válido, sem lançar exceção.
+     *
+     * @param numero o número do CPF
+     * @return true se o CPF for válido
+     */
+    public static boolean valido(CharSequence numero) {
+        return numero != null && converter(numero) >= 0;
+    }
+
+    /**
+     * Verifica se o número é um CPF válido, sem lançar exceção.
+     *
+     * @param numero o CPF como número
+     * @return true se o CPF tiver até 11 dígitos e dígitos verificadores válidos
+     */
+    public static boolean valido(long numero) {
+        if (numero < 0 || numero > 99_999_999_999L || todosIguais(numero)) {
+            return false;
+        }
+        long base = numero / 100;
+        int primeiro = (int) (numero / 10 % 10);
+        int segundo = (int) (numero % 10);
+        return digitoVerificador(base, 10) == primeiro
+                && digitoVerificador(base * 10 + primeiro, 11) == segundo;
+    }
+
+    /**
+     * Monta um CPF válido a partir da base de 9 dígitos, calculando os dígitos verificadores.
+     *
+     * @param base os 9 primeiros dígitos do CPF
+     * @return o CPF completo
+     * @throws IllegalArgumentException se a base não tiver até 9 dígitos ou gerar um CPF inválido
+     */
+    public static Cpf daBase(long base) {
+        if (base < 0 || base > 999_999_999L) {
+            throw new IllegalArgumentException("A base do CPF deve ter até 9 dígitos");
+        }
+        int primeiro = digitoVerificador(base, 10);
+        int segundo = digitoVerificador(base * 10 + primeiro, 11);
+        return new Cpf(base * 100 + primeiro * 10 + segundo);
+    }
+
+    /**
+     * Converte os 11 dígitos em número, validando os dígitos verificadores na mesma passada.
+     *
+     * @return o CPF como número, {@link #FORMATO_INVALIDO} ou {@link #DIGITO_VERIFICADOR_INVALIDO}
+     */
+    private static long converter(CharSequence numero) {
+        if (numero.length() != DIGITOS) {
+            return FORMATO_INVALIDO;
+        }
+
+        long valor = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        boolean todosIguais = true;
+        char primeiroCaractere = numero.charAt(0);
+
+        for (int i = 0; i < DIGITOS; i++) {
+            char c = numero.charAt(i);
+            if (c < '0' || c > '9') {
+                return FORMATO_INVALIDO;
+            }
+            int digito = c - '0';
+            valor = valor * 10 + digito;
+            todosIguais &= c == primeiroCaractere;
+
+            if (i < 9) {
+                somaPrimeiro += digito * (10 - i);
+            }
+            if (i < 10) {
+                somaSegundo += digito * (11 - i);
+            }
+        }
+
+        if (todosIguais
+                || numero.charAt(9) - '0' != restoParaDigito(somaPrimeiro)
+                || numero.charAt(10) - '0' != restoParaDigito(somaSegundo)) {
+            return DIGITO_VERIFICADOR_INVALIDO;
+        }
+        return valor;
+    }
+
+    /**
+     * Calcula um dígito verificador: os dígitos de {@code prefixo} são multiplicados por pesos
+     * decrescentes a partir de {@code pesoInicial}, da esquerda para a direita.
+     */
+    private static int digitoVerificador(long prefixo, int pesoInicial) {
+        int soma = 0;
+        for (int peso = 2; peso <= pesoInicial; peso++) {
+            soma += (int) (prefixo % 10) * peso;
+            prefixo /= 10;
+        }
+        return restoParaDigito(soma);
+    }
+
+    private static int restoParaDigito(int soma) {
+        int resto = soma * 10 % 11;
+        return resto == 10 ? 0 : resto;
+    }
+
+    private static boolean todosIguais(long numero) {
+        return numero % 11_111_111_111L == 0;
+    }
+
+    public long getNumero() {
         return numero;
     }
 
@@ -60,16 +197,20 @@ public class Cpf {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Cpf cpf = (Cpf) o;
-        return Objects.equals(numero, cpf.numero);
+        return numero == cpf.numero;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numero);
+        return Long.hashCode(numero);
     }
 
+    /**
+     * @return o CPF com 11 dígitos, incluindo zeros à esquerda
+     */
     @Override
     public String toString() {
-        return numero;
+        String digitos = Long.toString(numero);
+        return "0".repeat(DIGITOS - digitos.length()) + digitos;
     }
 }
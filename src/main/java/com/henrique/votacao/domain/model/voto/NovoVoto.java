@@ -0,0 +1,22 @@
+package com.henrique.votacao.domain.model.voto;
+
+import org.springframework.util.Assert;
+
+/**
+ * Voto já validado, pronto para ser gravado: o ID da pauta, o CPF como número e a escolha.
+ *
+ * <p>É tudo o que o insert precisa. Ao contrário de {@link Voto}, não referencia a entidade
+ * {@link com.henrique.votacao.domain.model.pauta.Pauta} nem passa pelo contexto de persistência.
+ *
+ * @param pautaId ID da pauta
+ * @param cpf CPF do associado, como número
+ * @param escolha escolha do voto
+ * @author Henrique
+ * @since 1.0
+ */
+public record NovoVoto(long pautaId, long cpf, Escolha escolha) {
+
+    public NovoVoto {
+        Assert.notNull(escolha, "Escolha não pode ser nula");
+    }
+}
@@ -11,14 +11,17 @@ import org.springframework.util.Assert;
  * 
  * <p>Cada voto é único por CPF e pauta, garantido por constraint no banco.
  * 
+ * <p>O ID vem da sequência {@code voto_seq} em blocos (pooled-lo): o Hibernate não precisa ler a
+ * chave gerada a cada insert e pode agrupá-los em batches JDBC.
+ * 
  * @author Henrique
  * @since 1.0
  */
 @Entity
 @Table(name = "voto", 
     indexes = {
-        @Index(name = "idx_cpf_pauta", columnList = "cpf_id, pauta_id"),
-        @Index(name = "idx_pauta_escolha", columnList = "pauta_id, escolha")
+        @Index(name = "idx_pauta_escolha", columnList = "pauta_id, escolha"),
+        @Index(name = "idx_pauta_id_voto", columnList = "pauta_id, id")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_cpf_pauta", columnNames = {"cpf_id", "pauta_id"})
@@ -27,7 +30,8 @@ import org.springframework.util.Assert;
 public class Voto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voto_seq")
+    @SequenceGenerator(name = "voto_seq", sequenceName = "voto_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
@@ -77,12 +81,12 @@ public class Voto {
     }
 
     /**
-     * Retorna o CPF como String para compatibilidade.
+     * Retorna o CPF como String (11 dígitos) para compatibilidade.
      * 
      * @return número do CPF
      */
     public String getCpfId() {
-        return cpf != null ? cpf.getNumero() : null;
+        return cpf != null ? cpf.toString() : null;
     }
 
     public Escolha getEscolha() {
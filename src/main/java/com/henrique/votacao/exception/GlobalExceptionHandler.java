@@ -4,7 +4,9 @@ import com.henrique.votacao.domain.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,23 +14,45 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final String ERRO_INESPERADO = "Erro inesperado";
+    private static final String CORPO_INVALIDO = "Request Body inválido ou malformado";
+
+    // Corpos imutáveis das mensagens fixas, montados uma vez e reaproveitados em toda recusa
+    private static final Map<String, Map<String, String>> CORPOS_PRONTOS = Stream.of(
+                    VotoDuplicadoException.MENSAGEM, AssociadoNaoAutorizadoException.MENSAGEM,
+                    SessaoFechadaException.MENSAGEM, SessaoNaoAbertaException.MENSAGEM,
+                    SessaoJaAbertaException.MENSAGEM, PautaNaoEncontradaException.MENSAGEM,
+                    PautaDuplicadaException.MENSAGEM, ERRO_INESPERADO, CORPO_INVALIDO)
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), msg -> Map.of("error", msg)));
+
+    private final LogLimitado logLimitado;
+
+    public GlobalExceptionHandler(@Value("${votacao.erros.log.maximo-por-intervalo:5}") int maximoPorIntervalo,
+                                  @Value("${votacao.erros.log.intervalo-ms:10000}") long intervaloMs) {
+        this.logLimitado = new LogLimitado(log, maximoPorIntervalo, intervaloMs);
+    }
+
     private Map<String, String> buildBody(String msg) {
-        Map<String, String> body = new HashMap<>();
-        body.put("error", msg);
-        return body;
+        Map<String, String> pronto = msg != null ? CORPOS_PRONTOS.get(msg) : null;
+        // Mensagens variáveis (título da pauta, validação do CPF) ganham um corpo próprio
+        return pronto != null ? pronto : Collections.singletonMap("error", msg);
     }
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<Map<String, String>> handleBusinessException(BusinessException ex) {
-        log.warn("BusinessException: {}", ex.getMessage());
+        logLimitado.warn(BusinessException.class, "BusinessException: {}", ex.getMessage());
         return ResponseEntity.badRequest().body(buildBody(ex.getMessage()));
     }
 
@@ -37,63 +61,65 @@ public class GlobalExceptionHandler {
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getFieldErrors()
                 .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
-        log.warn("Validation errors: {}", errors);
+        logLimitado.warn(MethodArgumentNotValidException.class, "Validation errors: {}", errors);
         return ResponseEntity.badRequest().body(errors);
     }
 
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException ex) {
-        log.warn("ResponseStatusException: {}", ex.getReason());
+        logLimitado.warn(ResponseStatusException.class, "ResponseStatusException: {}", ex.getReason());
         return ResponseEntity.status(ex.getStatusCode())
-                .body(buildBody(ex.getReason() != null ? ex.getReason() : "Erro inesperado"));
+                .body(buildBody(ex.getReason() != null ? ex.getReason() : ERRO_INESPERADO));
     }
 
     // Domain Exception Handlers
     @ExceptionHandler(PautaNaoEncontradaException.class)
     public ResponseEntity<Map<String, String>> handlePautaNaoEncontradaException(PautaNaoEncontradaException ex) {
-        log.warn("PautaNaoEncontradaException: {}", ex.getMessage());
+        logLimitado.warn(PautaNaoEncontradaException.class, "PautaNaoEncontradaException: {}", ex.getMessage());
+        // Content-Type explícito: o stream de resultados é pedido com Accept: text/event-stream
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(PautaDuplicadaException.class)
     public ResponseEntity<Map<String, String>> handlePautaDuplicadaException(PautaDuplicadaException ex) {
-        log.warn("PautaDuplicadaException: {}", ex.getMessage());
+        logLimitado.warn(PautaDuplicadaException.class, "PautaDuplicadaException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(VotoDuplicadoException.class)
     public ResponseEntity<Map<String, String>> handleVotoDuplicadoException(VotoDuplicadoException ex) {
-        log.warn("VotoDuplicadoException: {}", ex.getMessage());
+        logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(AssociadoNaoAutorizadoException.class)
     public ResponseEntity<Map<String, String>> handleAssociadoNaoAutorizadoException(AssociadoNaoAutorizadoException ex) {
-        log.warn("AssociadoNaoAutorizadoException: {}", ex.getMessage());
+        logLimitado.warn(AssociadoNaoAutorizadoException.class, "AssociadoNaoAutorizadoException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(SessaoFechadaException.class)
     public ResponseEntity<Map<String, String>> handleSessaoFechadaException(SessaoFechadaException ex) {
-        log.warn("SessaoFechadaException: {}", ex.getMessage());
+        logLimitado.warn(SessaoFechadaException.class, "SessaoFechadaException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(SessaoNaoAbertaException.class)
     public ResponseEntity<Map<String, String>> handleSessaoNaoAbertaException(SessaoNaoAbertaException ex) {
-        log.warn("SessaoNaoAbertaException: {}", ex.getMessage());
+        logLimitado.warn(SessaoNaoAbertaException.class, "SessaoNaoAbertaException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(buildBody(ex.getMessage()));
     }
 
     @ExceptionHandler(SessaoJaAbertaException.class)
     public ResponseEntity<Map<String, String>> handleSessaoJaAbertaException(SessaoJaAbertaException ex) {
-        log.warn("SessaoJaAbertaException: {}", ex.getMessage());
+        logLimitado.warn(SessaoJaAbertaException.class, "SessaoJaAbertaException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(buildBody(ex.getMessage()));
     }
@@ -102,13 +128,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         log.error("Erro inesperado", ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(buildBody("Erro inesperado"));
+                .body(buildBody(ERRO_INESPERADO));
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Map<String, String>> handleJsonParseException(HttpMessageNotReadableException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "Request Body inválido ou malformado");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(buildBody(CORPO_INVALIDO));
     }
 }
@@ -0,0 +1,84 @@
+package com.henrique.votacao.exception;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Avisos com limite por tipo: cada tipo escreve no máximo {@code maximo} linhas por intervalo.
+ * As demais ocorrências só são contadas, e o total aparece numa linha de resumo na primeira
+ * ocorrência do intervalo seguinte.
+ *
+ * <p>Numa enxurrada de votos duplicados o log não vira gargalo nem esconde o resto; a contagem
+ * exata das recusas fica nas métricas {@code votacao.votos.rejeitados}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public class LogLimitado {
+
+    private final Logger log;
+    private final int maximo;
+    private final long intervaloNs;
+    private final LongSupplier relogioNs;
+    private final Map<Class<?>, Janela> janelas = new ConcurrentHashMap<>();
+
+    public LogLimitado(Logger log, int maximo, long intervaloMs) {
+        this(log, maximo, intervaloMs, System::nanoTime);
+    }
+
+    LogLimitado(Logger log, int maximo, long intervaloMs, LongSupplier relogioNs) {
+        this.log = log;
+        this.maximo = maximo;
+        this.intervaloNs = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        this.relogioNs = relogioNs;
+    }
+
+    /**
+     * Escreve o aviso se o tipo ainda não atingiu o limite do intervalo.
+     * @param tipo tipo da ocorrência, que tem o próprio limite
+     * @param formato mensagem no formato do SLF4J
+     * @param argumento argumento da mensagem
+     * @return se a linha foi escrita
+     */
+    public boolean warn(Class<?> tipo, String formato, Object argumento) {
+        if (!log.isWarnEnabled()) {
+            return false;
+        }
+
+        long agora = relogioNs.getAsLong();
+        Janela janela = janelas.computeIfAbsent(tipo, t -> new Janela(agora));
+        long inicio = janela.inicio.get();
+        if (agora - inicio >= intervaloNs && janela.inicio.compareAndSet(inicio, agora)) {
+            janela.escritas.set(0);
+            long suprimidas = janela.suprimidas.sumThenReset();
+            if (suprimidas > 0) {
+                log.warn("{}: {} ocorrência(s) suprimida(s) no último intervalo", tipo.getSimpleName(), suprimidas);
+            }
+        }
+
+        // Passado o limite, só o LongAdder é tocado: sem disputa num contador único
+        if (janela.escritas.get() >= maximo || janela.escritas.incrementAndGet() > maximo) {
+            janela.suprimidas.increment();
+            return false;
+        }
+        log.warn(formato, argumento);
+        return true;
+    }
+
+    private static final class Janela {
+        private final AtomicLong inicio;
+        private final AtomicInteger escritas = new AtomicInteger();
+        private final LongAdder suprimidas = new LongAdder();
+
+        private Janela(long inicio) {
+            this.inicio = new AtomicLong(inicio);
+        }
+    }
+}
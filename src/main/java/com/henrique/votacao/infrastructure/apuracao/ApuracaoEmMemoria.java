@@ -0,0 +1,302 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.repository.ContagemVotos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Apuração em memória dos votos, com uma {@link ApuracaoPauta} por pauta.
+ *
+ * <p>Os placares são reconstruídos a partir da {@link FonteVotos} (a tabela {@code voto}, ou o
+ * diário de votos no modo {@code diario}) na inicialização, em uma thread de fundo. Enquanto isso o
+ * readiness fica fora ({@link ApuracaoHealthIndicator}) e quem consulta a apuração espera até
+ * {@code votacao.apuracao.recuperacao.espera-ms} antes de receber 503. Pautas que não tinham votos
+ * nesse momento têm o placar carregado no primeiro acesso. O índice de votantes de cada pauta é
+ * carregado sob demanda, na primeira verificação de voto duplicado.
+ *
+ * <p>Com {@code votacao.snapshot.habilitado}, a reconstrução parte do último {@link SnapshotApuracao}
+ * e relê da fonte só os votos gravados depois dele; os índices de votantes vêm do snapshot em vez de
+ * uma leitura de todos os votos da pauta.
+ *
+ * <p>No modo {@code diario} não há constraint no banco para barrar o voto duplicado: quem grava
+ * reserva o CPF com {@link ApuracaoPauta#reservar(long)}, que verifica e marca sob o mesmo lock.
+ *
+ * <p>Para manter o placar consistente com a fonte, quem grava um voto deve obter a apuração
+ * com {@link #porPauta(Long)} <b>antes</b> da gravação e chamar {@link ApuracaoPauta#registrar}
+ * somente depois que ela for confirmada. Assim a carga do placar nunca enxerga um voto
+ * que também será incrementado.
+ */
+@Component
+public class ApuracaoEmMemoria implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApuracaoEmMemoria.class);
+    private static final long ESPERA_APOS_FALHA_MS = 1000;
+
+    private final FonteVotos fonteVotos;
+    private final Path arquivoSnapshot;
+    private final long esperaRecuperacaoMs;
+    private final ConcurrentMap<Long, ApuracaoPauta> apuracoes = new ConcurrentHashMap<>();
+    private final CountDownLatch recuperada = new CountDownLatch(1);
+    private final ReentrantLock reconstrucao = new ReentrantLock();
+
+    private volatile boolean executando;
+
+    public ApuracaoEmMemoria(FonteVotos fonteVotos,
+                             @Value("${votacao.snapshot.habilitado:false}") boolean snapshotHabilitado,
+                             @Value("${votacao.snapshot.arquivo:./data/apuracao.snapshot}") Path arquivoSnapshot,
+                             @Value("${votacao.apuracao.recuperacao.espera-ms:5000}") long esperaRecuperacaoMs) {
+        this.fonteVotos = fonteVotos;
+        this.arquivoSnapshot = snapshotHabilitado ? arquivoSnapshot : null;
+        this.esperaRecuperacaoMs = esperaRecuperacaoMs;
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        Thread recuperacao = new Thread(this::recuperar, "recuperacao-apuracao");
+        recuperacao.setDaemon(true);
+        recuperacao.start();
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * @return true quando a apuração já foi reconstruída e pode ser consultada
+     */
+    public boolean isRecuperada() {
+        return recuperada.getCount() == 0;
+    }
+
+    /**
+     * Espera, sem limite de tempo, a apuração terminar de ser reconstruída.
+     * @throws InterruptedException se a espera for interrompida
+     */
+    public void aguardarRecuperada() throws InterruptedException {
+        recuperada.await();
+    }
+
+    /**
+     * Reconstrói todos os placares: a partir do snapshot, se houver, ou da fonte de votos, em uma
+     * única passada agrupada.
+     */
+    public void reconstruir() {
+        reconstrucao.lock();
+        try {
+            long inicio = System.currentTimeMillis();
+            fonteVotos.preparar();
+            apuracoes.clear();
+
+            SnapshotApuracao snapshot = arquivoSnapshot != null ? abrirSnapshot(arquivoSnapshot, fonteVotos) : null;
+            if (snapshot != null) {
+                long marca = restaurar(snapshot, fonteVotos, apuracoes, this::carregarVotantes);
+                logger.info("Apuração em memória recuperada do snapshot: {} pauta(s), marca {} -> {}, em {}ms",
+                        apuracoes.size(), snapshot.getMarca(), marca, System.currentTimeMillis() - inicio);
+            } else {
+                for (ContagemVotos contagem : fonteVotos.contarPorPautaEEscolha()) {
+                    apuracoes.computeIfAbsent(contagem.pautaId(), this::novaApuracao)
+                            .getPlacar()
+                            .adicionar(contagem.escolha(), contagem.total());
+                }
+                logger.info("Apuração em memória reconstruída: {} pauta(s) em {}ms",
+                        apuracoes.size(), System.currentTimeMillis() - inicio);
+            }
+            recuperada.countDown();
+        } finally {
+            reconstrucao.unlock();
+        }
+    }
+
+    /**
+     * Retorna a apuração da pauta, carregando o placar do banco no primeiro acesso.
+     * @param pautaId ID da pauta
+     * @return apuração da pauta
+     * @throws ResponseStatusException 503 se a apuração ainda está sendo recuperada
+     */
+    public ApuracaoPauta porPauta(Long pautaId) {
+        aguardarRecuperacao();
+        ApuracaoPauta apuracao = apuracoes.get(pautaId);
+        if (apuracao != null) {
+            return apuracao;
+        }
+
+        // A consulta roda fora do lock do mapa; se outra thread carregar antes, usamos a dela
+        ApuracaoPauta carregada = carregar(pautaId);
+        ApuracaoPauta existente = apuracoes.putIfAbsent(pautaId, carregada);
+        return existente != null ? existente : carregada;
+    }
+
+    /**
+     * Retorna o placar da pauta, carregando-o do banco no primeiro acesso.
+     * @param pautaId ID da pauta
+     * @return placar da pauta
+     */
+    public PlacarPauta placar(Long pautaId) {
+        return porPauta(pautaId).getPlacar();
+    }
+
+    /**
+     * Libera o índice de votantes de uma pauta cuja sessão foi encerrada.
+     * @param pautaId ID da pauta
+     */
+    public void liberarVotantes(Long pautaId) {
+        ApuracaoPauta apuracao = apuracoes.get(pautaId);
+        if (apuracao != null) {
+            apuracao.liberarVotantes();
+        }
+    }
+
+    /**
+     * Abre o snapshot e confere se ele é da mesma fonte: uma marca além do último voto indica um
+     * snapshot de outro banco ou diário.
+     * @return snapshot válido, ou null se não existe ou não pode ser usado
+     */
+    static SnapshotApuracao abrirSnapshot(Path arquivo, FonteVotos fonteVotos) {
+        if (!Files.exists(arquivo)) {
+            return null;
+        }
+        try {
+            SnapshotApuracao snapshot = SnapshotApuracao.abrir(arquivo);
+            long marcaFinal = fonteVotos.getMarcaFinal();
+            if (snapshot.getMarca() > marcaFinal) {
+                logger.warn("Snapshot da apuração ignorado: marca {} além do último voto da fonte ({})",
+                        snapshot.getMarca(), marcaFinal);
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Snapshot da apuração ignorado, reconstruindo pela fonte: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Restaura as apurações do snapshot e aplica os votos gravados na fonte depois dele.
+     *
+     * <p>Os votos relidos pela {@link FonteVotos#getMargemReleitura() margem} que já estão no índice
+     * de votantes são descartados; sem índice (CPF sem dígito verificador válido), só contam os
+     * votos depois da marca do snapshot.
+     *
+     * @param recarga carrega da fonte o índice de uma pauta depois de ele ter sido liberado
+     * @return marca do último voto aplicado
+     */
+    static long restaurar(SnapshotApuracao snapshot, FonteVotos fonteVotos, Map<Long, ApuracaoPauta> apuracoes,
+                          Function<Long, IndiceVotantes> recarga) {
+        for (Long pautaId : snapshot.getPautas()) {
+            PlacarPauta placar = new PlacarPauta();
+            for (Escolha escolha : Escolha.values()) {
+                placar.adicionar(escolha, snapshot.getVotos(pautaId, escolha));
+            }
+            apuracoes.put(pautaId, restaurada(placar, () -> snapshot.votantes(pautaId), () -> recarga.apply(pautaId)));
+        }
+
+        long marca = snapshot.getMarca();
+        long inicio = Math.max(0, marca - fonteVotos.getMargemReleitura());
+        long ultima = fonteVotos.percorrerDesde(inicio, (marcaVoto, pautaId, cpf, escolha) -> {
+            // Pauta sem votos até o snapshot: o índice começa vazio
+            ApuracaoPauta apuracao = apuracoes.computeIfAbsent(pautaId,
+                    id -> restaurada(new PlacarPauta(), IndiceVotantes::new, () -> recarga.apply(id)));
+            boolean novo = Cpf.valido(cpf) ? apuracao.reservar(cpf) : marcaVoto > marca;
+            if (novo) {
+                apuracao.getPlacar().registrar(escolha);
+            }
+        });
+        return Math.max(marca, ultima);
+    }
+
+    private void recuperar() {
+        while (executando) {
+            try {
+                reconstruir();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Falha ao recuperar a apuração em memória, tentando novamente", e);
+                try {
+                    Thread.sleep(ESPERA_APOS_FALHA_MS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void aguardarRecuperacao() {
+        if (recuperada.getCount() == 0) {
+            return;
+        }
+        try {
+            if (recuperada.await(esperaRecuperacaoMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Apuração em recuperação, tente novamente");
+    }
+
+    /**
+     * Apuração cujo índice vem primeiro do snapshot; se for liberado, volta a ser carregado da fonte.
+     */
+    private static ApuracaoPauta restaurada(PlacarPauta placar, Supplier<IndiceVotantes> primeiraCarga,
+                                            Supplier<IndiceVotantes> recarga) {
+        AtomicReference<Supplier<IndiceVotantes>> proximaCarga = new AtomicReference<>(primeiraCarga);
+        return new ApuracaoPauta(placar, () -> proximaCarga.getAndSet(recarga).get());
+    }
+
+    private ApuracaoPauta carregar(Long pautaId) {
+        ApuracaoPauta apuracao = novaApuracao(pautaId);
+        for (ContagemVotos contagem : fonteVotos.contarPorPauta(pautaId)) {
+            apuracao.getPlacar().adicionar(contagem.escolha(), contagem.total());
+        }
+        return apuracao;
+    }
+
+    private ApuracaoPauta novaApuracao(Long pautaId) {
+        return new ApuracaoPauta(new PlacarPauta(), () -> carregarVotantes(pautaId));
+    }
+
+    private IndiceVotantes carregarVotantes(Long pautaId) {
+        long inicio = System.currentTimeMillis();
+        IndiceVotantes votantes = new IndiceVotantes();
+        fonteVotos.percorrerCpfsDaPauta(pautaId, cpf -> {
+            // Votos antigos podem ter CPF sem dígito verificador válido; o índice só guarda CPFs válidos
+            if (Cpf.valido(cpf)) {
+                votantes.adicionar(cpf);
+            }
+        });
+        votantes.compactar();
+
+        logger.info("Índice de votantes carregado: pautaId={}, votantes={}, bytes={}, tempo={}ms",
+                pautaId, votantes.getQuantidade(), votantes.getTamanhoEmBytes(), System.currentTimeMillis() - inicio);
+        return votantes;
+    }
+}
@@ -0,0 +1,31 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador {@code apuracao} do health: fora de serviço enquanto a {@link ApuracaoEmMemoria} é
+ * recuperada. Faz parte do grupo de readiness, então a instância só recebe tráfego depois da
+ * recuperação, sem que a liveness falhe por uma subida longa.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class ApuracaoHealthIndicator implements HealthIndicator {
+
+    private final ApuracaoEmMemoria apuracao;
+
+    public ApuracaoHealthIndicator(ApuracaoEmMemoria apuracao) {
+        this.apuracao = apuracao;
+    }
+
+    @Override
+    public Health health() {
+        if (apuracao.isRecuperada()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("motivo", "Apuração em recuperação").build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Estado em memória da votação de uma pauta: o {@link PlacarPauta} e o {@link IndiceVotantes}.
+ *
+ * <p>O índice de votantes é carregado da {@link FonteVotos} na primeira consulta e pode ser
+ * liberado quando a sessão fecha, já que depois disso nenhum voto novo é aceito. O placar
+ * continua disponível para o resultado.
+ *
+ * <p>O registro de um voto atualiza índice e placar sob o mesmo lock de escrita. Não usamos
+ * {@code synchronized} para não prender threads virtuais durante a carga do índice.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public class ApuracaoPauta {
+
+    private final PlacarPauta placar;
+    private final Supplier<IndiceVotantes> carregadorVotantes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IndiceVotantes votantes;
+
+    /**
+     * @param placar placar da pauta
+     * @param carregadorVotantes carrega da fonte os CPFs que já votaram na pauta
+     */
+    public ApuracaoPauta(PlacarPauta placar, Supplier<IndiceVotantes> carregadorVotantes) {
+        this.placar = placar;
+        this.carregadorVotantes = carregadorVotantes;
+    }
+
+    /**
+     * Verifica se o CPF já votou na pauta, carregando o índice de votantes se necessário.
+     * @param cpf CPF do associado
+     * @return true se já votou
+     */
+    public boolean jaVotou(long cpf) {
+        lock.readLock().lock();
+        try {
+            if (votantes != null) {
+                return votantes.contem(cpf);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (votantes == null) {
+                votantes = carregadorVotantes.get();
+            }
+            return votantes.contem(cpf);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marca o CPF como votante se ele ainda não votou, numa única operação sob o lock de escrita.
+     * Usado quando não há constraint no banco para barrar o voto duplicado concorrente.
+     * @param cpf CPF do associado
+     * @return true se o CPF foi marcado agora, false se já tinha votado
+     */
+    public boolean reservar(long cpf) {
+        lock.writeLock().lock();
+        try {
+            if (votantes == null) {
+                votantes = carregadorVotantes.get();
+            }
+            if (votantes.contem(cpf)) {
+                return false;
+            }
+            votantes.adicionar(cpf);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Desfaz uma {@link #reservar(long) reserva} cujo voto não chegou a ser gravado.
+     * @param cpf CPF do associado
+     */
+    public void desfazerReserva(long cpf) {
+        lock.writeLock().lock();
+        try {
+            if (votantes != null) {
+                votantes.remover(cpf);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Contabiliza um voto já gravado, no placar e no índice de votantes.
+     *
+     * <p>Se o índice ainda não foi carregado, só o placar é atualizado: a carga posterior
+     * lê o voto da fonte. Adicionar um CPF que já está no índice não tem efeito.
+     * @param cpf CPF do associado
+     * @param escolha escolha do voto
+     */
+    public void registrar(long cpf, Escolha escolha) {
+        lock.writeLock().lock();
+        try {
+            if (votantes != null) {
+                votantes.adicionar(cpf);
+            }
+            placar.registrar(escolha);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Descarta o índice de votantes. Uma consulta posterior volta a carregá-lo da fonte.
+     */
+    public void liberarVotantes() {
+        lock.writeLock().lock();
+        try {
+            votantes = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Serializa o índice de votantes, se carregado, para o snapshot.
+     * @return bitmap serializado (posição 0), ou null se o índice não está carregado
+     */
+    public ByteBuffer serializarVotantes() {
+        lock.readLock().lock();
+        try {
+            if (votantes == null) {
+                return null;
+            }
+            ByteBuffer serializado = ByteBuffer.allocate(votantes.getTamanhoSerializado());
+            votantes.gravar(serializado);
+            return serializado.flip();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PlacarPauta getPlacar() {
+        return placar;
+    }
+
+    /**
+     * @return memória ocupada pelo índice de votantes, em bytes (0 se não carregado)
+     */
+    public long getTamanhoVotantesEmBytes() {
+        lock.readLock().lock();
+        try {
+            return votantes != null ? votantes.getTamanhoEmBytes() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.repository.ConsumidorVoto;
+import com.henrique.votacao.repository.ContagemVotos;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Registro oficial dos votos, de onde a apuração em memória e o resultado final são reconstruídos.
+ *
+ * <p>Acompanha o modo de ingestão ({@code votacao.ingestao.modo}): nos modos {@code direta} e
+ * {@code lote} é a tabela {@code voto}; no modo {@code diario} é o diário de votos, e a tabela
+ * vira um modelo de leitura preenchido em segundo plano.
+ *
+ * <p>Cada voto tem uma marca crescente (o ID na tabela, a posição no diário), usada pelo
+ * {@link SnapshotApuracao} para reler só os votos gravados depois do snapshot.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public interface FonteVotos {
+
+    /**
+     * Prepara a fonte antes da primeira reconstrução da apuração.
+     */
+    default void preparar() {
+    }
+
+    /**
+     * @return contagens de todas as pautas, por pauta e escolha
+     */
+    List<ContagemVotos> contarPorPautaEEscolha();
+
+    /**
+     * @param pautaId ID da pauta
+     * @return contagens da pauta, por escolha
+     */
+    List<ContagemVotos> contarPorPauta(Long pautaId);
+
+    /**
+     * Percorre os CPFs que votaram na pauta sem materializar a lista em memória.
+     *
+     * @param pautaId ID da pauta
+     * @param consumidor recebe cada CPF como número
+     */
+    void percorrerCpfsDaPauta(Long pautaId, LongConsumer consumidor);
+
+    /**
+     * Percorre, na ordem das marcas, os votos com marca maior que a informada.
+     *
+     * @param marca marca a partir da qual ler (0 para todos os votos)
+     * @param consumidor recebe cada voto com a sua marca
+     * @return marca do último voto lido, ou a própria marca se não havia votos depois dela
+     */
+    long percorrerDesde(long marca, ConsumidorVoto consumidor);
+
+    /**
+     * @return marca do último voto gravado (0 se não há votos)
+     */
+    long getMarcaFinal();
+
+    /**
+     * Quantas marcas antes da última já processada precisam ser relidas, porque votos gravados em
+     * paralelo podem ficar visíveis fora da ordem das marcas. Os votos relidos são descartados pelo
+     * índice de votantes.
+     *
+     * @return margem de releitura, em marcas
+     */
+    default long getMargemReleitura() {
+        return 0;
+    }
+}
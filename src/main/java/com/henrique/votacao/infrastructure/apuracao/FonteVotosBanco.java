@@ -0,0 +1,72 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.repository.ConsumidorVoto;
+import com.henrique.votacao.repository.ContagemVotos;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.repository.VotoRepository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Votos lidos da tabela {@code voto}, nos modos de ingestão que gravam direto no banco.
+ *
+ * <p>A marca de cada voto é o seu ID. O ID é reservado no insert e o voto só fica visível no commit,
+ * então um voto pode aparecer depois de outro com ID maior (no modo {@code lote}, até o lote inteiro
+ * ficar pendente). Por isso os últimos {@value #MARGEM_RELEITURA} IDs antes da marca são relidos.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+@ConditionalOnExpression("'${votacao.ingestao.modo:direta}' != 'diario'")
+public class FonteVotosBanco implements FonteVotos {
+
+    static final long MARGEM_RELEITURA = 10_000;
+
+    private final VotoRepository votoRepository;
+    private final VotoJdbcRepository votoJdbcRepository;
+
+    public FonteVotosBanco(VotoRepository votoRepository, VotoJdbcRepository votoJdbcRepository) {
+        this.votoRepository = votoRepository;
+        this.votoJdbcRepository = votoJdbcRepository;
+    }
+
+    @Override
+    public List<ContagemVotos> contarPorPautaEEscolha() {
+        return votoRepository.contarAgrupadoPorPautaEEscolha();
+    }
+
+    @Override
+    public List<ContagemVotos> contarPorPauta(Long pautaId) {
+        return votoRepository.contarPorPautaAgrupadoPorEscolha(pautaId);
+    }
+
+    @Override
+    public void percorrerCpfsDaPauta(Long pautaId, LongConsumer consumidor) {
+        votoJdbcRepository.percorrerCpfsDaPauta(pautaId, consumidor);
+    }
+
+    @Override
+    public long percorrerDesde(long marca, ConsumidorVoto consumidor) {
+        long[] ultima = {marca};
+        votoJdbcRepository.percorrerVotosDesde(marca, (id, pautaId, cpf, escolha) -> {
+            ultima[0] = id;
+            consumidor.aceitar(id, pautaId, cpf, escolha);
+        });
+        return ultima[0];
+    }
+
+    @Override
+    public long getMarcaFinal() {
+        return votoJdbcRepository.maiorId();
+    }
+
+    @Override
+    public long getMargemReleitura() {
+        return MARGEM_RELEITURA;
+    }
+}
@@ -0,0 +1,116 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Grava o {@link SnapshotApuracao} a cada {@code votacao.snapshot.intervalo-ms} e no desligamento.
+ *
+ * <p>O snapshot não é copiado da apuração em memória, que recebe votos enquanto é lida: cada novo
+ * snapshot é o anterior mais os votos gravados na {@link FonteVotos} depois da marca dele. Só os
+ * índices das pautas que receberam votos são lidos para o heap; os demais são copiados do arquivo
+ * anterior sem conversão.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.snapshot.habilitado", havingValue = "true")
+public class GeradorSnapshotApuracao implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorSnapshotApuracao.class);
+
+    private final FonteVotos fonteVotos;
+    private final Path arquivo;
+    private final long intervaloMs;
+
+    private volatile boolean executando;
+    private Thread gerador;
+
+    public GeradorSnapshotApuracao(FonteVotos fonteVotos,
+                                   @Value("${votacao.snapshot.arquivo:./data/apuracao.snapshot}") Path arquivo,
+                                   @Value("${votacao.snapshot.intervalo-ms:60000}") long intervaloMs) {
+        this.fonteVotos = fonteVotos;
+        this.arquivo = arquivo;
+        this.intervaloMs = intervaloMs;
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        gerador = new Thread(this::gerarPeriodicamente, "snapshot-apuracao");
+        gerador.setDaemon(true);
+        gerador.start();
+    }
+
+    /**
+     * Grava um último snapshot, para que a próxima subida releia o mínimo de votos.
+     */
+    @Override
+    public void stop() {
+        executando = false;
+        gerador.interrupt();
+        try {
+            gerador.join();
+            gerar();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao gravar o snapshot da apuração no desligamento", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Grava um snapshot com os votos da fonte até agora, se houver votos depois do snapshot anterior.
+     * @return marca do snapshot gravado (ou do anterior, se não havia votos novos)
+     */
+    public long gerar() throws IOException {
+        long inicio = System.currentTimeMillis();
+        SnapshotApuracao anterior = ApuracaoEmMemoria.abrirSnapshot(arquivo, fonteVotos);
+        boolean existia = anterior != null;
+        if (!existia) {
+            anterior = SnapshotApuracao.vazio();
+        }
+
+        Map<Long, ApuracaoPauta> apuracoes = new HashMap<>();
+        long marca = ApuracaoEmMemoria.restaurar(anterior, fonteVotos, apuracoes, pautaId -> {
+            throw new IllegalStateException("Índice de votantes liberado durante o snapshot");
+        });
+        if (existia && marca == anterior.getMarca()) {
+            return marca;
+        }
+
+        long bytes = SnapshotApuracao.gravar(arquivo, marca, apuracoes, anterior);
+        logger.info("Snapshot da apuração gravado: marca={}, pautas={}, bytes={}, tempo={}ms",
+                marca, apuracoes.size(), bytes, System.currentTimeMillis() - inicio);
+        return marca;
+    }
+
+    private void gerarPeriodicamente() {
+        while (executando) {
+            try {
+                Thread.sleep(intervaloMs);
+                gerar();
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.error("Falha ao gravar o snapshot da apuração, tentando no próximo intervalo", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Conjunto compacto dos CPFs que já votaram em uma pauta.
+ *
+ * <p>Os dois últimos dígitos de um CPF válido são calculados a partir dos 9 primeiros, então
+ * o índice guarda só a base ({@code cpf / 100}), que cabe em um {@code int}. A base fica em
+ * um bitmap comprimido (Roaring) de 32 bits, que ocupa bem menos memória que um
+ * {@code Set<String>} e responde "já votou?" sem ir ao banco.
+ *
+ * <p>Só CPFs com dígitos verificadores válidos devem ser adicionados.
+ *
+ * <p>O bitmap é gravado no formato portável do Roaring, que o {@link SnapshotApuracao} copia sem
+ * conversão.
+ *
+ * <p>Não é thread-safe: o acesso é coordenado por {@link ApuracaoPauta}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public class IndiceVotantes {
+
+    private final RoaringBitmap bases = new RoaringBitmap();
+
+    public boolean contem(long cpf) {
+        return bases.contains(base(cpf));
+    }
+
+    public void adicionar(long cpf) {
+        bases.add(base(cpf));
+    }
+
+    public void remover(long cpf) {
+        bases.remove(base(cpf));
+    }
+
+    /**
+     * Compacta os containers do bitmap. Útil depois de uma carga em massa.
+     */
+    public void compactar() {
+        bases.runOptimize();
+    }
+
+    public long getQuantidade() {
+        return bases.getLongCardinality();
+    }
+
+    /**
+     * @return estimativa da memória ocupada pelo bitmap, em bytes
+     */
+    public long getTamanhoEmBytes() {
+        return bases.getLongSizeInBytes();
+    }
+
+    /**
+     * @return tamanho do bitmap serializado, em bytes
+     */
+    public int getTamanhoSerializado() {
+        return bases.serializedSizeInBytes();
+    }
+
+    /**
+     * Grava o bitmap na posição atual do buffer, avançando-a.
+     * @param destino buffer com pelo menos {@link #getTamanhoSerializado()} bytes restantes
+     */
+    public void gravar(ByteBuffer destino) {
+        bases.serialize(destino);
+    }
+
+    /**
+     * Lê um índice gravado por {@link #gravar(ByteBuffer)}, a partir da posição atual do buffer.
+     * @param origem buffer com o bitmap serializado
+     * @return índice independente do buffer
+     */
+    public static IndiceVotantes ler(ByteBuffer origem) {
+        IndiceVotantes indice = new IndiceVotantes();
+        try {
+            indice.bases.deserialize(origem);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return indice;
+    }
+
+    private static int base(long cpf) {
+        return (int) (cpf / 100);
+    }
+}
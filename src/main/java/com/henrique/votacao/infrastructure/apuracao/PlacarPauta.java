@@ -0,0 +1,64 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Placar em memória dos votos de uma pauta.
+ *
+ * <p>Os contadores são {@link LongAdder}, que distribuem os incrementos em células
+ * independentes e evitam contenção quando muitos votos chegam ao mesmo tempo.
+ * A leitura soma as células, sem consultar o banco.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public class PlacarPauta {
+
+    private final LongAdder sim = new LongAdder();
+    private final LongAdder nao = new LongAdder();
+
+    /**
+     * Contabiliza um voto.
+     *
+     * @param escolha escolha do voto (SIM/NAO)
+     */
+    public void registrar(Escolha escolha) {
+        adicionar(escolha, 1);
+    }
+
+    /**
+     * Soma uma quantidade de votos a uma escolha.
+     *
+     * @param escolha escolha do voto (SIM/NAO)
+     * @param quantidade quantidade de votos
+     */
+    public void adicionar(Escolha escolha, long quantidade) {
+        if (escolha == Escolha.SIM) {
+            sim.add(quantidade);
+        } else {
+            nao.add(quantidade);
+        }
+    }
+
+    public long getSim() {
+        return sim.sum();
+    }
+
+    public long getNao() {
+        return nao.sum();
+    }
+
+    public long getTotal() {
+        return getSim() + getNao();
+    }
+
+    @Override
+    public String toString() {
+        return "PlacarPauta{" +
+                "sim=" + getSim() +
+                ", nao=" + getNao() +
+                '}';
+    }
+}
@@ -0,0 +1,221 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot binário da apuração: o placar e o índice de votantes de cada pauta, e a marca do último
+ * voto da {@link FonteVotos} incluído nele.
+ *
+ * <p>Formato (little-endian): cabeçalho de {@value #TAMANHO_CABECALHO} bytes (assinatura, versão,
+ * marca e quantidade de pautas), uma entrada por pauta (ID, votos SIM, votos NAO, tamanho do índice
+ * e o índice no formato portável do Roaring) e, no fim, o CRC32C de todo o resto.
+ *
+ * <p>O arquivo é escrito de uma vez, com uma escrita sequencial em um arquivo temporário que é
+ * sincronizado e renomeado por cima do anterior. A leitura mapeia o arquivo em memória: só os
+ * índices das pautas consultadas são copiados para o heap.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public final class SnapshotApuracao {
+
+    static final int TAMANHO_CABECALHO = 24;
+    private static final int TAMANHO_ENTRADA = 32;
+    private static final int TAMANHO_CRC = Integer.BYTES;
+    private static final int ASSINATURA = 0x52555041; // "APUR"
+    private static final int VERSAO = 1;
+
+    private static final SnapshotApuracao VAZIO = new SnapshotApuracao(0, null, Collections.emptyMap());
+
+    private final long marca;
+    private final ByteBuffer conteudo;
+    private final Map<Long, Entrada> entradas;
+
+    private SnapshotApuracao(long marca, ByteBuffer conteudo, Map<Long, Entrada> entradas) {
+        this.marca = marca;
+        this.conteudo = conteudo;
+        this.entradas = entradas;
+    }
+
+    /**
+     * @return snapshot sem pautas e com marca 0, para reconstruir tudo a partir da fonte
+     */
+    public static SnapshotApuracao vazio() {
+        return VAZIO;
+    }
+
+    /**
+     * Mapeia o snapshot em memória e confere assinatura, versão e CRC.
+     *
+     * @param arquivo arquivo do snapshot
+     * @return snapshot pronto para consulta
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws IllegalStateException se o arquivo não é um snapshot válido
+     */
+    public static SnapshotApuracao abrir(Path arquivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO + TAMANHO_CRC || tamanho > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot da apuração com tamanho inválido: " + tamanho);
+            }
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+        }
+        ByteBuffer conteudo = mapa.order(ByteOrder.LITTLE_ENDIAN);
+        int fim = conteudo.limit() - TAMANHO_CRC;
+
+        if (conteudo.getInt(0) != ASSINATURA || conteudo.getInt(4) != VERSAO) {
+            throw new IllegalStateException("Arquivo não é um snapshot da apuração na versão " + VERSAO + ": " + arquivo);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(conteudo.slice(0, fim));
+        if ((int) crc.getValue() != conteudo.getInt(fim)) {
+            throw new IllegalStateException("Snapshot da apuração corrompido (CRC): " + arquivo);
+        }
+
+        long marca = conteudo.getLong(8);
+        int pautas = conteudo.getInt(16);
+        Map<Long, Entrada> entradas = new LinkedHashMap<>(pautas * 2);
+        int posicao = TAMANHO_CABECALHO;
+        for (int i = 0; i < pautas; i++) {
+            int tamanhoIndice = conteudo.getInt(posicao + 24);
+            Entrada entrada = new Entrada(conteudo.getLong(posicao + 8), conteudo.getLong(posicao + 16),
+                    posicao + TAMANHO_ENTRADA, tamanhoIndice);
+            entradas.put(conteudo.getLong(posicao), entrada);
+            posicao += TAMANHO_ENTRADA + tamanhoIndice;
+        }
+        if (posicao != fim) {
+            throw new IllegalStateException("Snapshot da apuração com entradas inconsistentes: " + arquivo);
+        }
+        return new SnapshotApuracao(marca, conteudo, entradas);
+    }
+
+    /**
+     * Grava o snapshot das apurações, substituindo o arquivo anterior de forma atômica.
+     *
+     * <p>O índice de uma pauta é o carregado na apuração; se ele não foi carregado, é copiado sem
+     * conversão do snapshot anterior.
+     *
+     * @param arquivo arquivo do snapshot
+     * @param marca marca do último voto incluído nas apurações
+     * @param apuracoes apurações por pauta
+     * @param anterior snapshot de onde vêm os índices não carregados
+     * @return tamanho do snapshot, em bytes
+     * @throws IOException se o arquivo não puder ser gravado
+     * @throws IllegalStateException se o índice de uma pauta não está carregado nem no snapshot anterior
+     */
+    public static long gravar(Path arquivo, long marca, Map<Long, ApuracaoPauta> apuracoes, SnapshotApuracao anterior)
+            throws IOException {
+        List<ByteBuffer> partes = new ArrayList<>(apuracoes.size() * 2 + 2);
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(ASSINATURA).putInt(VERSAO).putLong(marca).putInt(apuracoes.size()).putInt(0)
+                .flip();
+        partes.add(cabecalho);
+
+        long tamanho = TAMANHO_CABECALHO + TAMANHO_CRC;
+        for (Map.Entry<Long, ApuracaoPauta> apuracao : apuracoes.entrySet()) {
+            Long pautaId = apuracao.getKey();
+            ByteBuffer votantes = apuracao.getValue().serializarVotantes();
+            if (votantes == null) {
+                votantes = anterior.votantesSerializados(pautaId);
+            }
+            if (votantes == null) {
+                throw new IllegalStateException("Índice de votantes da pauta " + pautaId + " não carregado");
+            }
+
+            PlacarPauta placar = apuracao.getValue().getPlacar();
+            ByteBuffer entrada = ByteBuffer.allocate(TAMANHO_ENTRADA).order(ByteOrder.LITTLE_ENDIAN)
+                    .putLong(pautaId).putLong(placar.getSim()).putLong(placar.getNao()).putInt(votantes.remaining()).putInt(0)
+                    .flip();
+            partes.add(entrada);
+            partes.add(votantes);
+            tamanho += TAMANHO_ENTRADA + votantes.remaining();
+        }
+        if (tamanho > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot da apuração acima de 2 GiB: " + tamanho + " bytes");
+        }
+
+        CRC32C crc = new CRC32C();
+        partes.forEach(parte -> crc.update(parte.duplicate()));
+        partes.add(ByteBuffer.allocate(TAMANHO_CRC).order(ByteOrder.LITTLE_ENDIAN).putInt((int) crc.getValue()).flip());
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        ByteBuffer[] buffers = partes.toArray(ByteBuffer[]::new);
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long restante = tamanho;
+            while (restante > 0) {
+                restante -= canal.write(buffers);
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return tamanho;
+    }
+
+    /**
+     * @return marca do último voto incluído no snapshot
+     */
+    public long getMarca() {
+        return marca;
+    }
+
+    /**
+     * @return IDs das pautas do snapshot
+     */
+    public Set<Long> getPautas() {
+        return entradas.keySet();
+    }
+
+    /**
+     * @param pautaId ID da pauta
+     * @param escolha escolha do voto
+     * @return votos da pauta na escolha, ou 0 se a pauta não está no snapshot
+     */
+    public long getVotos(Long pautaId, Escolha escolha) {
+        Entrada entrada = entradas.get(pautaId);
+        if (entrada == null) {
+            return 0;
+        }
+        return escolha == Escolha.SIM ? entrada.sim() : entrada.nao();
+    }
+
+    /**
+     * Copia para o heap o índice de votantes da pauta.
+     * @param pautaId ID da pauta
+     * @return índice da pauta, vazio se a pauta não está no snapshot
+     */
+    public IndiceVotantes votantes(Long pautaId) {
+        ByteBuffer serializado = votantesSerializados(pautaId);
+        return serializado != null ? IndiceVotantes.ler(serializado) : new IndiceVotantes();
+    }
+
+    private ByteBuffer votantesSerializados(Long pautaId) {
+        Entrada entrada = entradas.get(pautaId);
+        if (entrada == null) {
+            return null;
+        }
+        return conteudo.slice(entrada.inicioIndice(), entrada.tamanhoIndice()).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private record Entrada(long sim, long nao, int inicioIndice, int tamanhoIndice) {
+    }
+}
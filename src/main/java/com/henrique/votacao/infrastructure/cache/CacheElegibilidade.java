@@ -0,0 +1,83 @@
+package com.henrique.votacao.infrastructure.cache;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongFunction;
+
+/**
+ * Cache das respostas do serviço de elegibilidade, pelo CPF numérico, limitado por tamanho.
+ *
+ * <p>O status de um associado não muda no intervalo de uma assembleia, então quem vota em
+ * várias pautas só passa pelo serviço no primeiro voto. {@code ABLE_TO_VOTE} e
+ * {@code UNABLE_TO_VOTE} têm TTLs próprios. O cache guarda a consulta em andamento: chamadas
+ * concorrentes para o mesmo CPF aguardam a mesma resposta, e uma consulta que falha não fica
+ * em cache. Hits, misses e evictions são publicados como {@code cache.*{cache="elegibilidade"}}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class CacheElegibilidade {
+
+    private final AsyncCache<Long, StatusVotacao> cache;
+
+    public CacheElegibilidade(MeterRegistry meterRegistry,
+                              @Value("${votacao.cache.elegibilidade.tamanho-maximo:100000}") long tamanhoMaximo,
+                              @Value("${votacao.cache.elegibilidade.ttl-apto-ms:300000}") long ttlAptoMs,
+                              @Value("${votacao.cache.elegibilidade.ttl-inapto-ms:60000}") long ttlInaptoMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiracaoPorStatus(Duration.ofMillis(ttlAptoMs), Duration.ofMillis(ttlInaptoMs)))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "elegibilidade");
+    }
+
+    /**
+     * Busca o status no cache ou, se não estiver, com o carregador.
+     * @param cpf CPF do associado
+     * @param carregador consulta o serviço de elegibilidade
+     * @return status do associado; termina com erro se a consulta falhar
+     */
+    public CompletableFuture<StatusVotacao> buscar(long cpf, LongFunction<CompletableFuture<StatusVotacao>> carregador) {
+        return cache.get(cpf, (chave, executor) -> carregador.apply(chave));
+    }
+
+    /**
+     * Remove o status do associado do cache.
+     * @param cpf CPF do associado
+     */
+    public void invalidar(long cpf) {
+        cache.synchronous().invalidate(cpf);
+    }
+
+    private record ExpiracaoPorStatus(Duration ttlApto, Duration ttlInapto) implements Expiry<Long, StatusVotacao> {
+
+        @Override
+        public long expireAfterCreate(Long cpf, StatusVotacao status, long agora) {
+            return (status == StatusVotacao.ABLE_TO_VOTE ? ttlApto : ttlInapto).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long cpf, StatusVotacao status, long agora, long duracaoAtual) {
+            return expireAfterCreate(cpf, status, agora);
+        }
+
+        @Override
+        public long expireAfterRead(Long cpf, StatusVotacao status, long agora, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.henrique.votacao.infrastructure.cache;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache das pautas por título, limitado por tamanho e com expiração por tempo.
+ *
+ * <p>A busca por um título inexistente também fica em cache, por um tempo menor, para que
+ * uma rajada de requisições com título inválido não chegue ao banco. Quem altera uma pauta
+ * (criação ou abertura de sessão) deve chamar {@link #invalidar(String)} depois de gravar.
+ *
+ * <p>As pautas em cache são compartilhadas entre threads e não devem ser alteradas.
+ * Hits, misses e evictions são publicados no actuator como {@code cache.*{cache="pautas"}}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class CachePautas {
+
+    private final Cache<String, Optional<Pauta>> cache;
+
+    public CachePautas(MeterRegistry meterRegistry,
+                       @Value("${votacao.cache.pautas.tamanho-maximo:10000}") long tamanhoMaximo,
+                       @Value("${votacao.cache.pautas.ttl-ms:30000}") long ttlMs,
+                       @Value("${votacao.cache.pautas.ttl-negativo-ms:2000}") long ttlNegativoMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiracaoPorResultado(Duration.ofMillis(ttlMs), Duration.ofMillis(ttlNegativoMs)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "pautas");
+    }
+
+    /**
+     * Busca a pauta no cache ou, se não estiver, com o carregador. Chamadas concorrentes para
+     * o mesmo título aguardam uma única carga.
+     * @param titulo título da pauta
+     * @param carregador busca a pauta no banco
+     * @return pauta encontrada, ou vazio caso não exista
+     */
+    public Optional<Pauta> buscar(String titulo, Function<String, Optional<Pauta>> carregador) {
+        return cache.get(titulo, carregador);
+    }
+
+    /**
+     * Remove a pauta do cache. Se houver uma carga em andamento para o título, espera ela
+     * terminar antes de remover, para que um valor antigo não permaneça no cache.
+     * @param titulo título da pauta
+     */
+    public void invalidar(String titulo) {
+        cache.invalidate(titulo);
+    }
+
+    private record ExpiracaoPorResultado(Duration ttl, Duration ttlNegativo) implements Expiry<String, Optional<Pauta>> {
+
+        @Override
+        public long expireAfterCreate(String titulo, Optional<Pauta> pauta, long agora) {
+            return (pauta.isPresent() ? ttl : ttlNegativo).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String titulo, Optional<Pauta> pauta, long agora, long duracaoAtual) {
+            return expireAfterCreate(titulo, pauta, agora);
+        }
+
+        @Override
+        public long expireAfterRead(String titulo, Optional<Pauta> pauta, long agora, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.henrique.votacao.infrastructure.cadastro;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Cadastro dos associados aptos a votar, carregado de um arquivo e consultado fora do heap.
+ *
+ * <p>Os CPFs ficam ordenados em um arquivo binário mapeado em memória ({@code mmap}): um cabeçalho
+ * de 16 bytes (assinatura e quantidade) seguido dos CPFs como {@code long}, na ordem de bytes da
+ * máquina. A consulta é uma busca binária em dois níveis: primeiro em uma amostra no heap com um
+ * CPF a cada bloco de 512 (4 KiB do arquivo, cerca de 16 KiB de heap por milhão de CPFs), depois
+ * dentro do bloco, direto no mapeamento. Assim cada consulta toca uma única página do arquivo, e a
+ * paginação fica com o sistema operacional. O limite é de cerca de 268 milhões de CPFs (um
+ * mapeamento de até 2 GiB).
+ *
+ * <p>{@link #importar(Path, Path)} converte a lista em texto (um CPF de 11 dígitos por linha) para
+ * o formato binário. A ordenação também é feita fora do heap: um radix sort sobre os 40 bits
+ * baixos do CPF, alternando entre um arquivo temporário e o arquivo final.
+ *
+ * <p>Imutável e thread-safe. O arquivo não deve ser alterado enquanto estiver mapeado.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public final class CadastroVotantes {
+
+    /** "VOTANTES" em ASCII. */
+    private static final long ASSINATURA = 0x564F54414E544553L;
+    private static final int CABECALHO = 16;
+    private static final long MAXIMO_CPFS = (Integer.MAX_VALUE - CABECALHO) / Long.BYTES;
+    private static final int BITS_POR_PASSADA = 8;
+    // 99.999.999.999 < 2^40: cinco passadas de 8 bits cobrem qualquer CPF
+    private static final int PASSADAS = 5;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    private static final int BITS_BLOCO = 9;
+
+    private final Path arquivo;
+    private final LongBuffer cpfs;
+    private final int quantidade;
+    // Primeiro CPF de cada bloco de 2^BITS_BLOCO CPFs
+    private final long[] amostras;
+
+    private CadastroVotantes(Path arquivo, LongBuffer cpfs, int quantidade) {
+        this.arquivo = arquivo;
+        this.cpfs = cpfs;
+        this.quantidade = quantidade;
+        this.amostras = new long[(quantidade + (1 << BITS_BLOCO) - 1) >>> BITS_BLOCO];
+        for (int bloco = 0; bloco < amostras.length; bloco++) {
+            amostras[bloco] = cpfs.get(bloco << BITS_BLOCO);
+        }
+    }
+
+    /**
+     * Mapeia um cadastro já importado.
+     *
+     * @param arquivo arquivo binário gerado por {@link #importar(Path, Path)}
+     * @return cadastro mapeado
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se o arquivo não for um cadastro válido
+     */
+    public static CadastroVotantes abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() < CABECALHO) {
+                throw new IllegalArgumentException("Arquivo de cadastro inválido: " + arquivo);
+            }
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            mapa.order(ByteOrder.nativeOrder());
+
+            long quantidade = mapa.getLong(8);
+            if (mapa.getLong(0) != ASSINATURA || quantidade < 0 || CABECALHO + quantidade * Long.BYTES > canal.size()) {
+                throw new IllegalArgumentException("Arquivo de cadastro inválido: " + arquivo);
+            }
+            LongBuffer cpfs = mapa.slice(CABECALHO, (int) quantidade * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            return new CadastroVotantes(arquivo, cpfs, (int) quantidade);
+        }
+    }
+
+    /**
+     * Importa a lista de CPFs em texto para um novo arquivo binário ordenado e sem repetições.
+     * Linhas em branco são ignoradas.
+     *
+     * @param lista arquivo texto com um CPF de 11 dígitos por linha
+     * @param destino arquivo binário a ser criado (sobrescrito se existir)
+     * @return cadastro importado, já mapeado
+     * @throws IOException se os arquivos não puderem ser lidos ou gravados
+     * @throws IllegalArgumentException se alguma linha não for um CPF válido
+     */
+    public static CadastroVotantes importar(Path lista, Path destino) throws IOException {
+        Path temporario = Files.createTempFile(destino.toAbsolutePath().getParent(), "cadastro-", ".tmp");
+        try {
+            long quantidade = lerLista(lista, temporario);
+
+            try (FileChannel canalTemporario = FileChannel.open(temporario, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileChannel canalDestino = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer mapaDestino = canalDestino.map(FileChannel.MapMode.READ_WRITE, 0, CABECALHO + quantidade * Long.BYTES);
+                mapaDestino.order(ByteOrder.nativeOrder());
+                LongBuffer origem = canalTemporario.map(FileChannel.MapMode.READ_WRITE, 0, quantidade * Long.BYTES)
+                        .order(ByteOrder.nativeOrder()).asLongBuffer();
+                LongBuffer ordenados = mapaDestino.slice(CABECALHO, (int) quantidade * Long.BYTES)
+                        .order(ByteOrder.nativeOrder()).asLongBuffer();
+
+                ordenar(origem, ordenados, (int) quantidade);
+                int unicos = removerRepetidos(ordenados, (int) quantidade);
+
+                mapaDestino.putLong(0, ASSINATURA);
+                mapaDestino.putLong(8, unicos);
+                mapaDestino.force();
+            }
+        } finally {
+            apagar(temporario);
+        }
+        return abrir(destino);
+    }
+
+    /**
+     * @param cpf CPF como número
+     * @return true se o CPF está no cadastro
+     */
+    public boolean contem(long cpf) {
+        // Último bloco cujo primeiro CPF é menor ou igual ao procurado
+        int bloco = Arrays.binarySearch(amostras, cpf);
+        if (bloco >= 0) {
+            return true;
+        }
+        bloco = -bloco - 2;
+        if (bloco < 0) {
+            return false;
+        }
+
+        int inicio = (bloco << BITS_BLOCO) + 1;
+        int fim = Math.min(quantidade, (bloco + 1) << BITS_BLOCO) - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            long valor = cpfs.get(meio);
+            if (valor < cpf) {
+                inicio = meio + 1;
+            } else if (valor > cpf) {
+                fim = meio - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Lê a lista em texto e grava os CPFs, na ordem do arquivo, no arquivo temporário.
+     *
+     * @return quantidade de CPFs lidos
+     */
+    private static long lerLista(Path lista, Path temporario) throws IOException {
+        long quantidade = 0;
+        long linha = 1;
+        long valor = 0;
+        int digitos = 0;
+        boolean outroCaractere = false;
+
+        byte[] entrada = new byte[TAMANHO_BUFFER];
+        ByteBuffer saida = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.nativeOrder());
+
+        try (InputStream in = Files.newInputStream(lista);
+             FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int lidos;
+            boolean fimDoArquivo = false;
+            while (!fimDoArquivo) {
+                lidos = in.read(entrada);
+                if (lidos < 0) {
+                    fimDoArquivo = true;
+                    // Última linha sem quebra no fim
+                    entrada[0] = '\n';
+                    lidos = 1;
+                }
+                for (int i = 0; i < lidos; i++) {
+                    byte b = entrada[i];
+                    if (b >= '0' && b <= '9') {
+                        valor = valor * 10 + (b - '0');
+                        digitos++;
+                    } else if (b == '\n') {
+                        if (digitos > 0 || outroCaractere) {
+                            if (outroCaractere || digitos != 11 || !Cpf.valido(valor)) {
+                                throw new IllegalArgumentException("Linha " + linha + " do cadastro não é um CPF válido: " + lista);
+                            }
+                            if (++quantidade > MAXIMO_CPFS) {
+                                throw new IllegalArgumentException("Cadastro com mais de " + MAXIMO_CPFS + " CPFs: " + lista);
+                            }
+                            if (!saida.hasRemaining()) {
+                                escrever(canal, saida);
+                            }
+                            saida.putLong(valor);
+                        }
+                        linha++;
+                        valor = 0;
+                        digitos = 0;
+                        outroCaractere = false;
+                    } else if (b != '\r' && b != ' ' && b != '\t') {
+                        outroCaractere = true;
+                    }
+                }
+            }
+            escrever(canal, saida);
+        }
+        return quantidade;
+    }
+
+    private static void escrever(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Radix sort LSD: cada passada distribui os CPFs por um byte, do menos para o mais significativo,
+     * alternando entre os dois buffers. Como o número de passadas é ímpar, o resultado termina em {@code destino}.
+     */
+    private static void ordenar(LongBuffer origem, LongBuffer destino, int quantidade) {
+        int[] posicoes = new int[1 << BITS_POR_PASSADA];
+        LongBuffer de = origem;
+        LongBuffer para = destino;
+
+        for (int passada = 0; passada < PASSADAS; passada++) {
+            int deslocamento = passada * BITS_POR_PASSADA;
+            Arrays.fill(posicoes, 0);
+            for (int i = 0; i < quantidade; i++) {
+                posicoes[(int) (de.get(i) >>> deslocamento) & 0xFF]++;
+            }
+            int soma = 0;
+            for (int balde = 0; balde < posicoes.length; balde++) {
+                int contagem = posicoes[balde];
+                posicoes[balde] = soma;
+                soma += contagem;
+            }
+            for (int i = 0; i < quantidade; i++) {
+                long cpf = de.get(i);
+                para.put(posicoes[(int) (cpf >>> deslocamento) & 0xFF]++, cpf);
+            }
+            LongBuffer troca = de;
+            de = para;
+            para = troca;
+        }
+    }
+
+    /**
+     * @return quantidade de CPFs distintos, compactados no início do buffer
+     */
+    private static int removerRepetidos(LongBuffer ordenados, int quantidade) {
+        if (quantidade == 0) {
+            return 0;
+        }
+        int unicos = 1;
+        for (int i = 1; i < quantidade; i++) {
+            long cpf = ordenados.get(i);
+            if (cpf != ordenados.get(unicos - 1)) {
+                ordenados.put(unicos++, cpf);
+            }
+        }
+        return unicos;
+    }
+
+    private static void apagar(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            arquivo.toFile().deleteOnExit();
+        }
+    }
+}
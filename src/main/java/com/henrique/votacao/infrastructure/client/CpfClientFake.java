@@ -1,27 +1,40 @@
 package com.henrique.votacao.infrastructure.client;
 
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 
 @Component
-public class CpfClientFake {
+@ConditionalOnProperty(name = "votacao.elegibilidade.modo", havingValue = "fake", matchIfMissing = true)
+public class CpfClientFake implements ElegibilidadeClient {
 
-    private final Random random;
+    // Sem Random compartilhado: a semente única vira ponto de disputa entre as requisições concorrentes
+    private final BooleanSupplier sorteio;
 
     public CpfClientFake() {
-        this.random = new Random();
+        this.sorteio = () -> ThreadLocalRandom.current().nextBoolean();
     }
 
     // Construtor
     public CpfClientFake(Random random) {
-        this.random = random;
+        this.sorteio = random::nextBoolean;
     }
 
     public Map<String, String> verificarCpf() {
-        String status = random.nextBoolean() ? "ABLE_TO_VOTE" : "UNABLE_TO_VOTE";
+        String status = sorteio.getAsBoolean() ? "ABLE_TO_VOTE" : "UNABLE_TO_VOTE";
 
         return Map.of("status", status);
     }
+
+    @Override
+    public CompletableFuture<StatusVotacao> verificar(String cpf) {
+        return CompletableFuture.completedFuture(StatusVotacao.valueOf(verificarCpf().get("status")));
+    }
 }
@@ -0,0 +1,81 @@
+package com.henrique.votacao.infrastructure.client;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Disjuntor (circuit breaker) das chamadas ao serviço de elegibilidade.
+ *
+ * <p>Depois de {@code falhasParaAbrir} falhas seguidas o circuito abre e as chamadas são
+ * recusadas sem ir à rede por {@code esperaAbertoMs}. Passada a espera, uma única chamada
+ * de teste é liberada (meio aberto): se ela der certo o circuito fecha, se falhar volta a abrir.
+ *
+ * <p>Usa só variáveis atômicas, sem {@code synchronized}, para não prender threads virtuais.
+ */
+final class DisjuntorCircuito {
+
+    enum Estado { FECHADO, ABERTO, MEIO_ABERTO }
+
+    private static final long FECHADO = 0L;
+
+    private final int falhasParaAbrir;
+    private final long esperaAbertoMs;
+    private final Clock relogio;
+
+    private final AtomicInteger falhasSeguidas = new AtomicInteger();
+    private final AtomicLong abertoAte = new AtomicLong(FECHADO);
+    private final AtomicBoolean tentativaEmAndamento = new AtomicBoolean();
+
+    DisjuntorCircuito(int falhasParaAbrir, long esperaAbertoMs, Clock relogio) {
+        this.falhasParaAbrir = falhasParaAbrir;
+        this.esperaAbertoMs = esperaAbertoMs;
+        this.relogio = relogio;
+    }
+
+    /**
+     * @return true se a chamada pode ir ao serviço; quem recebe true deve informar o
+     *         desfecho com {@link #sucesso()} ou {@link #falha()}
+     */
+    boolean permitir() {
+        long ate = abertoAte.get();
+        if (ate == FECHADO) {
+            return true;
+        }
+        if (relogio.millis() < ate) {
+            return false;
+        }
+        return tentativaEmAndamento.compareAndSet(false, true);
+    }
+
+    void sucesso() {
+        falhasSeguidas.set(0);
+        abertoAte.set(FECHADO);
+        tentativaEmAndamento.set(false);
+    }
+
+    /**
+     * @return true se esta falha abriu o circuito
+     */
+    boolean falha() {
+        if (abertoAte.get() != FECHADO) {
+            // Falha da chamada de teste: o circuito volta a abrir por mais um período
+            abertoAte.set(relogio.millis() + esperaAbertoMs);
+            tentativaEmAndamento.set(false);
+            return false;
+        }
+        if (falhasSeguidas.incrementAndGet() >= falhasParaAbrir) {
+            return abertoAte.compareAndSet(FECHADO, relogio.millis() + esperaAbertoMs);
+        }
+        return false;
+    }
+
+    Estado getEstado() {
+        long ate = abertoAte.get();
+        if (ate == FECHADO) {
+            return Estado.FECHADO;
+        }
+        return relogio.millis() < ate ? Estado.ABERTO : Estado.MEIO_ABERTO;
+    }
+}
@@ -0,0 +1,164 @@
+package com.henrique.votacao.infrastructure.client;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.infrastructure.cadastro.CadastroVotantes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifica a elegibilidade no cadastro de associados aptos recebido antes da assembleia, sem
+ * chamada remota por voto.
+ *
+ * <p>A lista em texto ({@code votacao.elegibilidade.cadastro.arquivo}) é importada na
+ * inicialização para um {@link CadastroVotantes} em {@code votacao.elegibilidade.cadastro.diretorio}.
+ * Se a lista não mudou desde a última importação, o arquivo binário existente é só mapeado.
+ * A cada {@code votacao.elegibilidade.cadastro.verificacao-ms} a data e o tamanho da lista são
+ * conferidos; uma lista nova é importada em outro arquivo e trocada de uma vez, sem interromper as
+ * consultas em andamento. Se a nova importação falhar, o cadastro anterior continua valendo. A lista
+ * nova deve ser publicada com uma renomeação, para não ser lida enquanto é gravada.
+ *
+ * <p>CPF fora do cadastro é {@code UNABLE_TO_VOTE}.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.elegibilidade.modo", havingValue = "cadastro")
+public class ElegibilidadeCadastroClient implements ElegibilidadeClient, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElegibilidadeCadastroClient.class);
+
+    // A resposta é sempre imediata; os dois resultados possíveis são reaproveitados
+    private static final CompletableFuture<StatusVotacao> APTO = CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE);
+    private static final CompletableFuture<StatusVotacao> INAPTO = CompletableFuture.completedFuture(StatusVotacao.UNABLE_TO_VOTE);
+
+    private final Path lista;
+    private final Path diretorio;
+    private final long verificacaoMs;
+
+    private volatile CadastroVotantes cadastro;
+    private ScheduledExecutorService verificador;
+    private volatile boolean executando;
+
+    public ElegibilidadeCadastroClient(@Value("${votacao.elegibilidade.cadastro.arquivo}") Path lista,
+                                       @Value("${votacao.elegibilidade.cadastro.diretorio:./data/cadastro}") Path diretorio,
+                                       @Value("${votacao.elegibilidade.cadastro.verificacao-ms:30000}") long verificacaoMs) {
+        this.lista = lista;
+        this.diretorio = diretorio;
+        this.verificacaoMs = verificacaoMs;
+    }
+
+    @Override
+    public CompletableFuture<StatusVotacao> verificar(String cpf) {
+        return cadastro.contem(Long.parseLong(cpf)) ? APTO : INAPTO;
+    }
+
+    /**
+     * Importa a lista se ela mudou desde a última carga e troca o cadastro em uso.
+     *
+     * @return true se um novo cadastro passou a valer
+     * @throws IOException se a lista não puder ser lida ou o cadastro não puder ser gravado
+     */
+    public boolean carregar() throws IOException {
+        BasicFileAttributes atributos = Files.readAttributes(lista, BasicFileAttributes.class);
+        Path arquivo = diretorio.resolve("votantes-" + atributos.lastModifiedTime().toMillis() + "-" + atributos.size() + ".bin");
+        CadastroVotantes atual = cadastro;
+        if (atual != null && atual.getArquivo().equals(arquivo)) {
+            return false;
+        }
+
+        long inicio = System.nanoTime();
+        Files.createDirectories(diretorio);
+        CadastroVotantes novo = Files.exists(arquivo) ? abrirOuImportar(arquivo) : CadastroVotantes.importar(lista, arquivo);
+        cadastro = novo;
+        removerAnteriores(arquivo);
+
+        logger.info("Cadastro de votantes carregado: arquivo={}, cpfs={}, ms={}",
+                lista, novo.getQuantidade(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return true;
+    }
+
+    /**
+     * @return quantidade de CPFs no cadastro em uso
+     */
+    public int getQuantidade() {
+        return cadastro.getQuantidade();
+    }
+
+    @Override
+    public void start() {
+        try {
+            carregar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar o cadastro de votantes: " + lista, e);
+        }
+
+        verificador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "cadastro-votantes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        verificador.scheduleWithFixedDelay(this::recarregarSemFalhar, verificacaoMs, verificacaoMs, TimeUnit.MILLISECONDS);
+        executando = true;
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        verificador.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    private void recarregarSemFalhar() {
+        try {
+            carregar();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao recarregar o cadastro de votantes, mantendo o anterior: arquivo={}", lista, e);
+        }
+    }
+
+    /**
+     * Mapeia o cadastro de uma carga anterior; se ele ficou incompleto (importação interrompida), importa de novo.
+     */
+    private CadastroVotantes abrirOuImportar(Path arquivo) throws IOException {
+        try {
+            return CadastroVotantes.abrir(arquivo);
+        } catch (IllegalArgumentException e) {
+            return CadastroVotantes.importar(lista, arquivo);
+        }
+    }
+
+    /**
+     * Apaga os cadastros de cargas anteriores. Um arquivo ainda mapeado continua acessível até o
+     * mapeamento ser liberado; se o sistema não permitir apagar, fica para a próxima carga.
+     */
+    private void removerAnteriores(Path atual) {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "votantes-*.bin")) {
+            for (Path arquivo : arquivos) {
+                if (!arquivo.equals(atual)) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Cadastro anterior não removido: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.henrique.votacao.infrastructure.client;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Verificação, no sistema externo, se o associado pode votar.
+ *
+ * <p>A implementação é escolhida pela propriedade {@code votacao.elegibilidade.modo}:
+ * {@code fake} (padrão) sorteia o status localmente, {@code http} consulta o serviço
+ * de elegibilidade sem bloquear a thread que fez a chamada e {@code cadastro} procura o CPF
+ * na lista de aptos recebida antes da assembleia.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public interface ElegibilidadeClient {
+
+    /**
+     * Inicia a verificação do associado.
+     *
+     * @param cpf CPF do associado, somente dígitos
+     * @return status do associado; se o serviço estiver indisponível e a política de falha for
+     *         fechada, termina com {@link org.springframework.web.server.ResponseStatusException} (503)
+     */
+    CompletableFuture<StatusVotacao> verificar(String cpf);
+
+    /**
+     * @return quantas verificações podem estar em andamento sem que as seguintes sejam recusadas
+     *         por falta de vaga; sem limite por padrão
+     */
+    default int maxConcorrentes() {
+        return Integer.MAX_VALUE;
+    }
+}
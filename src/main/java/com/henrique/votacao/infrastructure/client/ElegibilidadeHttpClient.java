@@ -0,0 +1,201 @@
+package com.henrique.votacao.infrastructure.client;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.infrastructure.cache.CacheElegibilidade;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Consulta o serviço de elegibilidade por HTTP ({@code GET {url}{cpf}}), sem bloquear a thread
+ * que fez a chamada.
+ *
+ * <p>O serviço responde {@code {"status": "ABLE_TO_VOTE"}} ou {@code {"status": "UNABLE_TO_VOTE"}};
+ * 404 indica CPF desconhecido e é tratado como não autorizado. Cada chamada tem timeout próprio,
+ * no máximo {@code votacao.elegibilidade.max-concorrentes} chamadas ficam em andamento (as demais
+ * são recusadas na hora, sem fila) e falhas seguidas abrem o {@link DisjuntorCircuito}.
+ *
+ * <p>As respostas ficam no {@link CacheElegibilidade}, então o associado que vota em várias pautas
+ * só é consultado uma vez. Quando a chamada não é feita ou falha, vale a {@link PoliticaFalha}:
+ * {@code FECHADA} recusa o voto com 503 e {@code ABERTA} considera o associado apto a votar. A
+ * política é aplicada depois do cache, para que a decisão tomada na falha não seja reaproveitada.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.elegibilidade.modo", havingValue = "http")
+public class ElegibilidadeHttpClient implements ElegibilidadeClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElegibilidadeHttpClient.class);
+
+    /**
+     * O que fazer quando o serviço de elegibilidade não responde a tempo, erra, está com o
+     * circuito aberto ou sem vagas para novas chamadas.
+     */
+    public enum PoliticaFalha {
+        /** Considera o associado apto a votar. */
+        ABERTA,
+        /** Recusa o voto com 503, para o associado tentar de novo. */
+        FECHADA
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CacheElegibilidade cache;
+    private final HttpClient http;
+    private final String url;
+    private final Duration timeout;
+    private final int maxConcorrentes;
+    private final Semaphore vagas;
+    private final DisjuntorCircuito disjuntor;
+    private final PoliticaFalha politicaFalha;
+
+    public ElegibilidadeHttpClient(ObjectMapper objectMapper, CacheElegibilidade cache, Clock relogio,
+                                   @Value("${votacao.elegibilidade.url}") String url,
+                                   @Value("${votacao.elegibilidade.timeout-conexao-ms:500}") long timeoutConexaoMs,
+                                   @Value("${votacao.elegibilidade.timeout-ms:1000}") long timeoutMs,
+                                   @Value("${votacao.elegibilidade.max-concorrentes:64}") int maxConcorrentes,
+                                   @Value("${votacao.elegibilidade.disjuntor.falhas:5}") int falhasParaAbrir,
+                                   @Value("${votacao.elegibilidade.disjuntor.espera-ms:5000}") long esperaAbertoMs,
+                                   @Value("${votacao.elegibilidade.politica-falha:FECHADA}") PoliticaFalha politicaFalha) {
+        this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeoutConexaoMs))
+                .build();
+        this.url = url;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.maxConcorrentes = maxConcorrentes;
+        this.vagas = new Semaphore(maxConcorrentes);
+        this.disjuntor = new DisjuntorCircuito(falhasParaAbrir, esperaAbertoMs, relogio);
+        this.politicaFalha = politicaFalha;
+    }
+
+    @Override
+    public CompletableFuture<StatusVotacao> verificar(String cpf) {
+        return cache.buscar(Long.parseLong(cpf), numero -> consultar(cpf))
+                .exceptionallyCompose(erro -> aplicarPolitica(erro instanceof CompletionException ? erro.getCause() : erro));
+    }
+
+    @Override
+    public int maxConcorrentes() {
+        return maxConcorrentes;
+    }
+
+    /**
+     * Consulta o serviço. Termina com {@link ServicoIndisponivelException} se a chamada não for feita ou falhar.
+     */
+    private CompletableFuture<StatusVotacao> consultar(String cpf) {
+        // A requisição é montada antes de ocupar a vaga: uma URL inválida não pode levar a vaga junto
+        HttpRequest requisicao;
+        try {
+            requisicao = HttpRequest.newBuilder(URI.create(url + cpf))
+                    .timeout(timeout)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new ServicoIndisponivelException("URL inválida: " + e.getMessage()));
+        }
+
+        if (!vagas.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ServicoIndisponivelException("sem vagas para novas chamadas"));
+        }
+        if (!disjuntor.permitir()) {
+            vagas.release();
+            return CompletableFuture.failedFuture(new ServicoIndisponivelException("circuito aberto"));
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> envio;
+        try {
+            envio = http.sendAsync(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            vagas.release();
+            disjuntor.falha();
+            return CompletableFuture.failedFuture(new ServicoIndisponivelException(e.toString()));
+        }
+
+        return envio
+                .handle((resposta, erro) -> {
+                    vagas.release();
+                    StatusVotacao status = erro == null ? lerStatus(resposta) : null;
+                    if (status != null) {
+                        disjuntor.sucesso();
+                        return status;
+                    }
+                    if (disjuntor.falha()) {
+                        logger.warn("Circuito do serviço de elegibilidade aberto após falhas seguidas");
+                    }
+                    throw new ServicoIndisponivelException(erro != null ? erro.toString() : "HTTP " + resposta.statusCode());
+                });
+    }
+
+    /**
+     * @return status informado pelo serviço, ou null se a resposta não for válida
+     */
+    private StatusVotacao lerStatus(HttpResponse<byte[]> resposta) {
+        if (resposta.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            return StatusVotacao.UNABLE_TO_VOTE;
+        }
+        if (resposta.statusCode() != HttpStatus.OK.value()) {
+            return null;
+        }
+        try {
+            String status = objectMapper.readTree(resposta.body()).path("status").asText();
+            return StatusVotacao.valueOf(status);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<StatusVotacao> aplicarPolitica(Throwable erro) {
+        logger.debug("Serviço de elegibilidade indisponível ({}), política {}", erro.getMessage(), politicaFalha);
+        if (politicaFalha == PoliticaFalha.ABERTA) {
+            return CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE);
+        }
+        return CompletableFuture.failedFuture(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Verificação do associado indisponível, tente novamente"));
+    }
+
+    DisjuntorCircuito.Estado getEstadoCircuito() {
+        return disjuntor.getEstado();
+    }
+
+    int getVagasLivres() {
+        return vagas.availablePermits();
+    }
+
+    @PreDestroy
+    public void fechar() {
+        http.close();
+    }
+
+    /**
+     * Falha da consulta ao serviço. Sem stack trace: é um resultado esperado, tratado pela política de falha.
+     */
+    private static final class ServicoIndisponivelException extends RuntimeException {
+
+        ServicoIndisponivelException(String motivo) {
+            super(motivo, null, false, false);
+        }
+    }
+}
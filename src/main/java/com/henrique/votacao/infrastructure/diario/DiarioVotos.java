@@ -0,0 +1,357 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diário de votos: arquivo só de acréscimo, dividido em segmentos mapeados em memória ({@code mmap}).
+ *
+ * <p>Cada voto é um registro de 32 bytes em little-endian: ID da pauta, CPF e instante como
+ * {@code long}, a escolha em um byte (1 = SIM, 2 = NAO), 3 bytes zerados e o CRC32C dos 28 bytes
+ * anteriores. A posição de um registro é o seu número de ordem no diário, a partir de 0. Os
+ * segmentos têm {@code registrosPorSegmento} registros e se chamam {@code votos-<posição do
+ * primeiro registro>.diario}; o segmento seguinte só é criado depois que o anterior foi
+ * sincronizado com o disco por inteiro.
+ *
+ * <p>{@link #anexar(RegistroVoto)} só escreve no mapeamento; {@link #sincronizar()} faz um único
+ * {@code msync} de todos os registros anexados desde a última chamada (commit em grupo). Um voto
+ * só pode ser confirmado ao associado depois da sincronização.
+ *
+ * <p>Na abertura o último segmento é lido até o primeiro registro inválido (zerado, incompleto ou
+ * com CRC diferente): o que vier depois é de votos que nunca foram confirmados, por uma queda
+ * antes da sincronização, e é zerado. Um registro inválido antes do último segmento é corrupção
+ * do disco e impede a abertura.
+ *
+ * <p>Um único escritor ({@link #anexar}, {@link #sincronizar}, {@link #close}); as leituras com
+ * {@link #percorrer} podem rodar em outras threads e enxergam só os registros já sincronizados.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public final class DiarioVotos implements Closeable {
+
+    static final int TAMANHO_REGISTRO = 32;
+    private static final int TAMANHO_CONTEUDO = 28;
+    private static final Pattern NOME_SEGMENTO = Pattern.compile("votos-(\\d{20})\\.diario");
+    private static final String SUFIXO_MARCA = ".marca";
+
+    private final Path diretorio;
+    private final int registrosPorSegmento;
+    private final int registrosDescartados;
+
+    // Só o escritor usa estes campos
+    private final ByteBuffer registro = ByteBuffer.allocate(TAMANHO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+    private Segmento atual;
+    private long posicaoFinal;
+
+    // Publicados para as leituras: a posição durável é gravada depois dos segmentos
+    private volatile Segmento[] segmentos;
+    private volatile long posicaoDuravel;
+
+    private DiarioVotos(Path diretorio, int registrosPorSegmento, List<Segmento> segmentos, long posicaoFinal,
+                        int registrosDescartados) {
+        this.diretorio = diretorio;
+        this.registrosPorSegmento = registrosPorSegmento;
+        this.segmentos = segmentos.toArray(Segmento[]::new);
+        this.atual = this.segmentos[this.segmentos.length - 1];
+        this.posicaoFinal = posicaoFinal;
+        this.posicaoDuravel = posicaoFinal;
+        this.registrosDescartados = registrosDescartados;
+    }
+
+    /**
+     * Abre o diário do diretório (criando-o se não existir) e descarta a cauda não confirmada.
+     *
+     * @param diretorio diretório dos segmentos
+     * @param registrosPorSegmento registros de cada segmento novo
+     * @return diário pronto para anexar depois do último registro válido
+     * @throws IOException se os segmentos não puderem ser lidos ou criados
+     * @throws IllegalStateException se um segmento anterior ao último estiver corrompido
+     */
+    public static DiarioVotos abrir(Path diretorio, int registrosPorSegmento) throws IOException {
+        if (registrosPorSegmento <= 0 || (long) registrosPorSegmento * TAMANHO_REGISTRO > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("registrosPorSegmento fora do limite: " + registrosPorSegmento);
+        }
+        Files.createDirectories(diretorio);
+
+        List<Path> arquivos;
+        try (Stream<Path> conteudo = Files.list(diretorio)) {
+            arquivos = conteudo.filter(arquivo -> NOME_SEGMENTO.matcher(arquivo.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+        if (arquivos.isEmpty()) {
+            Segmento primeiro = Segmento.mapear(arquivo(diretorio, 0), 0, registrosPorSegmento);
+            return new DiarioVotos(diretorio, registrosPorSegmento, List.of(primeiro), 0, 0);
+        }
+
+        Segmento[] segmentos = new Segmento[arquivos.size()];
+        long esperado = 0;
+        for (int i = 0; i < arquivos.size(); i++) {
+            Path arquivo = arquivos.get(i);
+            long inicio = inicio(arquivo);
+            long tamanho = Files.size(arquivo);
+            boolean ultimo = i == arquivos.size() - 1;
+            if (inicio != esperado || (!ultimo && tamanho % TAMANHO_REGISTRO != 0)) {
+                throw new IllegalStateException("Diário de votos com segmento fora de sequência: " + arquivo);
+            }
+
+            // O último segmento pode ter sido cortado no meio de um registro: volta ao tamanho cheio
+            int capacidade = (int) (tamanho / TAMANHO_REGISTRO);
+            segmentos[i] = Segmento.mapear(arquivo, inicio, ultimo ? Math.max(capacidade, registrosPorSegmento) : capacidade);
+            esperado = inicio + segmentos[i].capacidade();
+        }
+
+        for (int i = 0; i < segmentos.length - 1; i++) {
+            int validos = contarValidos(segmentos[i]);
+            if (validos < segmentos[i].capacidade()) {
+                throw new IllegalStateException("Diário de votos corrompido: registro inválido na posição "
+                        + (segmentos[i].inicio() + validos));
+            }
+        }
+
+        Segmento ultimo = segmentos[segmentos.length - 1];
+        int validos = contarValidos(ultimo);
+        int descartados = descartarCauda(ultimo, validos);
+        return new DiarioVotos(diretorio, registrosPorSegmento, Arrays.asList(segmentos), ultimo.inicio() + validos, descartados);
+    }
+
+    /**
+     * Anexa o registro depois do último, sem sincronizar com o disco.
+     *
+     * @param voto voto aceito
+     * @return posição do registro
+     * @throws UncheckedIOException se o segmento seguinte não puder ser criado
+     */
+    public long anexar(RegistroVoto voto) {
+        if (posicaoFinal == atual.inicio() + atual.capacidade()) {
+            rolar();
+        }
+
+        registro.clear();
+        registro.putLong(voto.pautaId())
+                .putLong(voto.cpf())
+                .putLong(voto.instanteEpochMs())
+                .put(codigo(voto.escolha()))
+                .put((byte) 0).put((byte) 0).put((byte) 0);
+        crc.reset();
+        crc.update(registro.array(), 0, TAMANHO_CONTEUDO);
+        registro.putInt((int) crc.getValue());
+
+        atual.mapa().put(deslocamento(atual, posicaoFinal), registro.array());
+        return posicaoFinal++;
+    }
+
+    /**
+     * Sincroniza com o disco os registros anexados desde a última sincronização e os torna
+     * visíveis para {@link #percorrer}.
+     *
+     * @throws UncheckedIOException se a sincronização falhar
+     */
+    public void sincronizar() {
+        if (posicaoFinal == posicaoDuravel) {
+            return;
+        }
+        // Os segmentos anteriores foram sincronizados por inteiro ao rolar
+        long primeiro = Math.max(posicaoDuravel, atual.inicio());
+        int inicio = deslocamento(atual, primeiro);
+        atual.mapa().force(inicio, deslocamento(atual, posicaoFinal) - inicio);
+        posicaoDuravel = posicaoFinal;
+    }
+
+    /**
+     * Lê em ordem os registros sincronizados a partir de uma posição.
+     *
+     * @param desde posição do primeiro registro
+     * @param maximo quantidade máxima de registros
+     * @param consumidor recebe cada registro
+     * @return posição seguinte ao último registro lido
+     */
+    public long percorrer(long desde, long maximo, Consumer<RegistroVoto> consumidor) {
+        long fim = Math.min(posicaoDuravel, desde + Math.min(maximo, Long.MAX_VALUE - desde));
+        Segmento[] publicados = segmentos;
+        ByteBuffer lido = ByteBuffer.allocate(TAMANHO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+
+        long posicao = desde;
+        for (int i = indiceSegmento(publicados, desde); posicao < fim; i++) {
+            Segmento segmento = publicados[i];
+            long limite = Math.min(fim, segmento.inicio() + segmento.capacidade());
+            for (; posicao < limite; posicao++) {
+                segmento.mapa().get(deslocamento(segmento, posicao), lido.array());
+                consumidor.accept(new RegistroVoto(lido.getLong(0), lido.getLong(8), escolha(lido.get(24)), lido.getLong(16)));
+            }
+        }
+        return posicao;
+    }
+
+    /**
+     * @return posição seguinte ao último registro sincronizado
+     */
+    public long getPosicaoDuravel() {
+        return posicaoDuravel;
+    }
+
+    /**
+     * @return registros incompletos ou inválidos descartados da cauda na abertura
+     */
+    public int getRegistrosDescartados() {
+        return registrosDescartados;
+    }
+
+    /**
+     * Lê a marca gravada por um consumidor do diário (a posição até onde ele já processou).
+     *
+     * @param nome nome do consumidor
+     * @return posição gravada, ou 0 se nunca foi gravada
+     * @throws IOException se a marca não puder ser lida
+     */
+    public long lerMarca(String nome) throws IOException {
+        Path arquivo = diretorio.resolve(nome + SUFIXO_MARCA);
+        if (!Files.exists(arquivo)) {
+            return 0;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(arquivo)).order(ByteOrder.LITTLE_ENDIAN).getLong();
+    }
+
+    /**
+     * Grava a marca de um consumidor, substituindo a anterior de forma atômica.
+     *
+     * @param nome nome do consumidor
+     * @param posicao posição até onde ele já processou
+     * @throws IOException se a marca não puder ser gravada
+     */
+    public void gravarMarca(String nome, long posicao) throws IOException {
+        Path temporario = diretorio.resolve(nome + SUFIXO_MARCA + ".tmp");
+        byte[] conteudo = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(posicao).array();
+        Files.write(temporario, conteudo);
+        Files.move(temporario, diretorio.resolve(nome + SUFIXO_MARCA),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Sincroniza o que faltar. Os mapeamentos são liberados pelo coletor de lixo.
+     */
+    @Override
+    public void close() {
+        sincronizar();
+    }
+
+    private void rolar() {
+        atual.mapa().force();
+        Segmento novo;
+        try {
+            novo = Segmento.mapear(arquivo(diretorio, posicaoFinal), posicaoFinal, registrosPorSegmento);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar segmento do diário de votos", e);
+        }
+
+        Segmento[] novos = Arrays.copyOf(segmentos, segmentos.length + 1);
+        novos[novos.length - 1] = novo;
+        segmentos = novos;
+        atual = novo;
+    }
+
+    private static int contarValidos(Segmento segmento) {
+        ByteBuffer lido = ByteBuffer.allocate(TAMANHO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C verificador = new CRC32C();
+
+        for (int i = 0; i < segmento.capacidade(); i++) {
+            segmento.mapa().get(i * TAMANHO_REGISTRO, lido.array());
+            verificador.reset();
+            verificador.update(lido.array(), 0, TAMANHO_CONTEUDO);
+            byte codigo = lido.get(24);
+            if ((codigo != 1 && codigo != 2) || lido.getInt(TAMANHO_CONTEUDO) != (int) verificador.getValue()) {
+                return i;
+            }
+        }
+        return segmento.capacidade();
+    }
+
+    /**
+     * Zera o segmento depois dos registros válidos, para que um registro antigo não reapareça
+     * entre os novos.
+     * @return quantidade de registros não zerados que foram descartados
+     */
+    private static int descartarCauda(Segmento segmento, int validos) {
+        MappedByteBuffer mapa = segmento.mapa();
+        int descartados = 0;
+        for (int i = validos; i < segmento.capacidade(); i++) {
+            boolean zerado = true;
+            for (int deslocamento = i * TAMANHO_REGISTRO; deslocamento < (i + 1) * TAMANHO_REGISTRO; deslocamento += Long.BYTES) {
+                if (mapa.getLong(deslocamento) != 0) {
+                    mapa.putLong(deslocamento, 0);
+                    zerado = false;
+                }
+            }
+            if (!zerado) {
+                descartados++;
+            }
+        }
+        if (descartados > 0) {
+            mapa.force();
+        }
+        return descartados;
+    }
+
+    private static int indiceSegmento(Segmento[] segmentos, long posicao) {
+        int i = segmentos.length - 1;
+        while (i > 0 && segmentos[i].inicio() > posicao) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int deslocamento(Segmento segmento, long posicao) {
+        return (int) (posicao - segmento.inicio()) * TAMANHO_REGISTRO;
+    }
+
+    private static byte codigo(Escolha escolha) {
+        return escolha == Escolha.SIM ? (byte) 1 : (byte) 2;
+    }
+
+    private static Escolha escolha(byte codigo) {
+        return codigo == 1 ? Escolha.SIM : Escolha.NAO;
+    }
+
+    private static Path arquivo(Path diretorio, long inicio) {
+        return diretorio.resolve(String.format("votos-%020d.diario", inicio));
+    }
+
+    private static long inicio(Path arquivo) {
+        Matcher matcher = NOME_SEGMENTO.matcher(arquivo.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Nome de segmento inválido: " + arquivo);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private record Segmento(long inicio, int capacidade, MappedByteBuffer mapa) {
+
+        static Segmento mapear(Path arquivo, long inicio, int capacidade) throws IOException {
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                return new Segmento(inicio, capacidade,
+                        canal.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacidade * TAMANHO_REGISTRO));
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Abre o {@link DiarioVotos} no modo de ingestão {@code diario}.
+ *
+ * <p>A abertura descarta a cauda de votos não confirmados deixada por uma queda, antes de a
+ * apuração em memória ser reconstruída a partir do diário.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "diario")
+public class DiarioVotosConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiarioVotosConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public DiarioVotos diarioVotos(@Value("${votacao.diario.diretorio:./data/diario}") Path diretorio,
+                                   @Value("${votacao.diario.segmento.registros:1048576}") int registrosPorSegmento)
+            throws IOException {
+        long inicio = System.currentTimeMillis();
+        DiarioVotos diario = DiarioVotos.abrir(diretorio, registrosPorSegmento);
+
+        logger.info("Diário de votos aberto: diretorio={}, registros={}, descartados={}, tempo={}ms",
+                diretorio.toAbsolutePath(), diario.getPosicaoDuravel(), diario.getRegistrosDescartados(),
+                System.currentTimeMillis() - inicio);
+        if (diario.getRegistrosDescartados() > 0) {
+            logger.warn("Diário de votos: {} registro(s) incompleto(s) de votos não confirmados descartado(s) da cauda",
+                    diario.getRegistrosDescartados());
+        }
+        return diario;
+    }
+}
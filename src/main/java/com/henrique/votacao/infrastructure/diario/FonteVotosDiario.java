@@ -0,0 +1,130 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.infrastructure.apuracao.FonteVotos;
+import com.henrique.votacao.repository.ConsumidorVoto;
+import com.henrique.votacao.repository.ContagemVotos;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Votos lidos do {@link DiarioVotos}, no modo de ingestão {@code diario}.
+ *
+ * <p>As contagens e os índices de votantes são projeções refeitas percorrendo o diário, que é o
+ * registro oficial: a tabela {@code voto} pode estar atrasada em relação a ele. A marca de um voto
+ * é a sua posição no diário mais um; só os votos já sincronizados são lidos, sempre em ordem.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "diario")
+public class FonteVotosDiario implements FonteVotos {
+
+    private static final Logger logger = LoggerFactory.getLogger(FonteVotosDiario.class);
+
+    private final DiarioVotos diario;
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final Clock relogio;
+
+    public FonteVotosDiario(DiarioVotos diario, VotoJdbcRepository votoJdbcRepository, Clock relogio) {
+        this.diario = diario;
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.relogio = relogio;
+    }
+
+    /**
+     * Na primeira subida em modo {@code diario}, copia para o diário os votos que já estavam na
+     * tabela {@code voto}, e marca a projeção como em dia com eles.
+     */
+    @Override
+    public void preparar() {
+        if (diario.getPosicaoDuravel() > 0) {
+            return;
+        }
+        long instante = relogio.millis();
+        votoJdbcRepository.percorrerVotosDesde(0, (id, pautaId, cpf, escolha) ->
+                diario.anexar(new RegistroVoto(pautaId, cpf, escolha, instante)));
+        diario.sincronizar();
+
+        long importados = diario.getPosicaoDuravel();
+        if (importados > 0) {
+            try {
+                diario.gravarMarca(ProjecaoVotosDiario.MARCA, importados);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            logger.info("Diário de votos: {} voto(s) importado(s) da tabela voto", importados);
+        }
+    }
+
+    @Override
+    public List<ContagemVotos> contarPorPautaEEscolha() {
+        Map<Long, long[]> totais = new HashMap<>();
+        diario.percorrer(0, Long.MAX_VALUE, registro ->
+                totais.computeIfAbsent(registro.pautaId(), id -> new long[2])[registro.escolha().ordinal()]++);
+
+        List<ContagemVotos> contagens = new ArrayList<>();
+        totais.forEach((pautaId, porEscolha) -> adicionar(contagens, pautaId, porEscolha));
+        return contagens;
+    }
+
+    @Override
+    public List<ContagemVotos> contarPorPauta(Long pautaId) {
+        long[] porEscolha = new long[2];
+        long id = pautaId;
+        diario.percorrer(0, Long.MAX_VALUE, registro -> {
+            if (registro.pautaId() == id) {
+                porEscolha[registro.escolha().ordinal()]++;
+            }
+        });
+
+        List<ContagemVotos> contagens = new ArrayList<>();
+        adicionar(contagens, pautaId, porEscolha);
+        return contagens;
+    }
+
+    @Override
+    public void percorrerCpfsDaPauta(Long pautaId, LongConsumer consumidor) {
+        long id = pautaId;
+        diario.percorrer(0, Long.MAX_VALUE, registro -> {
+            if (registro.pautaId() == id) {
+                consumidor.accept(registro.cpf());
+            }
+        });
+    }
+
+    @Override
+    public long percorrerDesde(long marca, ConsumidorVoto consumidor) {
+        long[] posicao = {marca};
+        return diario.percorrer(marca, Long.MAX_VALUE, registro ->
+                consumidor.aceitar(++posicao[0], registro.pautaId(), registro.cpf(), registro.escolha()));
+    }
+
+    @Override
+    public long getMarcaFinal() {
+        return diario.getPosicaoDuravel();
+    }
+
+    private static void adicionar(List<ContagemVotos> contagens, Long pautaId, long[] porEscolha) {
+        for (Escolha escolha : Escolha.values()) {
+            if (porEscolha[escolha.ordinal()] > 0) {
+                contagens.add(new ContagemVotos(pautaId, escolha, porEscolha[escolha.ordinal()]));
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import com.henrique.votacao.repository.VotoJdbcRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Preenche a tabela {@code voto} a partir do {@link DiarioVotos}, em segundo plano.
+ *
+ * <p>No modo {@code diario} a tabela é só um modelo de leitura: uma thread de fundo lê o diário
+ * a partir da marca {@value #MARCA}, grava os votos em batches JDBC de até
+ * {@code votacao.diario.projecao.lote} e só então avança a marca. Uma queda entre o commit e a
+ * marca faz o lote ser relido; os votos que já estão na tabela são ignorados, então cada voto
+ * entra uma única vez.
+ *
+ * <p>O atraso da tabela em relação ao diário é exposto em {@code votacao.diario.projecao.atraso}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "diario")
+public class ProjecaoVotosDiario implements SmartLifecycle {
+
+    /** Marca do diário com a posição até onde a tabela {@code voto} está preenchida. */
+    static final String MARCA = "voto";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjecaoVotosDiario.class);
+    private static final long ESPERA_APOS_FALHA_MS = 1000;
+
+    private final DiarioVotos diario;
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final int tamanhoLote;
+    private final long intervaloMs;
+
+    private volatile long posicao;
+    private volatile boolean executando;
+    private Thread projetor;
+
+    public ProjecaoVotosDiario(DiarioVotos diario, VotoJdbcRepository votoJdbcRepository, MeterRegistry registry,
+                               @Value("${votacao.diario.projecao.lote:1000}") int tamanhoLote,
+                               @Value("${votacao.diario.projecao.intervalo-ms:100}") long intervaloMs) {
+        this.diario = diario;
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloMs = intervaloMs;
+
+        Gauge.builder("votacao.diario.projecao.atraso", this, ProjecaoVotosDiario::getAtraso)
+                .description("Votos do diário ainda não gravados na tabela voto")
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            posicao = diario.lerMarca(MARCA);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível ler a marca da projeção de votos", e);
+        }
+
+        executando = true;
+        projetor = new Thread(this::projetar, "projecao-votos");
+        projetor.setDaemon(true);
+        projetor.start();
+        logger.info("Projeção de votos iniciada: posicao={}, atraso={}", posicao, getAtraso());
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        try {
+            projetor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Projeção de votos encerrada: posicao={}, atraso={}", posicao, getAtraso());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * @return votos já confirmados no diário que ainda não estão na tabela {@code voto}
+     */
+    public long getAtraso() {
+        return diario.getPosicaoDuravel() - posicao;
+    }
+
+    /**
+     * Grava na tabela o próximo lote de votos do diário e avança a marca.
+     * @return quantidade de votos lidos do diário (0 se a tabela está em dia)
+     */
+    int projetarLote() throws IOException {
+        List<RegistroVoto> lote = new ArrayList<>(tamanhoLote);
+        long ate = diario.percorrer(posicao, tamanhoLote, lote::add);
+        if (lote.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            votoJdbcRepository.inserirRegistrosEmLote(lote);
+        } catch (DataIntegrityViolationException e) {
+            // Lote relido depois de uma queda: parte dos votos já está na tabela
+            lote.forEach(votoJdbcRepository::inserirRegistroSeAusente);
+        }
+
+        diario.gravarMarca(MARCA, ate);
+        posicao = ate;
+        return lote.size();
+    }
+
+    private void projetar() {
+        while (executando) {
+            try {
+                if (projetarLote() == 0) {
+                    Thread.sleep(intervaloMs);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.error("Falha ao projetar votos do diário na posição {}, tentando novamente", posicao, e);
+                try {
+                    Thread.sleep(ESPERA_APOS_FALHA_MS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+}
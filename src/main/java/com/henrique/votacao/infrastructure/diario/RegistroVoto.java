@@ -0,0 +1,14 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+/**
+ * Voto aceito, como gravado no {@link DiarioVotos}.
+ *
+ * @param pautaId ID da pauta
+ * @param cpf CPF do associado, como número
+ * @param escolha escolha do voto
+ * @param instanteEpochMs momento da gravação, em milissegundos desde a época
+ */
+public record RegistroVoto(long pautaId, long cpf, Escolha escolha, long instanteEpochMs) {
+}
@@ -0,0 +1,165 @@
+package com.henrique.votacao.infrastructure.encerramento;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica (hierarchical timing wheel).
+ *
+ * <p>O primeiro nível tem {@code tamanho} baldes de {@code tickMs} milissegundos. Itens que vencem
+ * além do alcance de um nível vão para o nível seguinte, com baldes {@code tamanho} vezes maiores,
+ * criado sob demanda. Quando o tempo chega a um balde de nível superior, os itens dele descem para
+ * os níveis de baixo. Agendar e vencer custam O(1) por item, independente de quantos itens estão
+ * agendados e de quão longe está o vencimento.
+ *
+ * <p>Um item nunca vence antes do instante agendado: ele é entregue no primeiro tick
+ * <b>depois</b> desse instante, com atraso de no máximo um tick.
+ *
+ * <p>Não é thread-safe; deve ser usada por uma única thread.
+ *
+ * @param <T> tipo dos itens agendados
+ * @author Henrique
+ * @since 1.0
+ */
+public class RodaTemporizacao<T> {
+
+    private final long tickMs;
+    private final Nivel<T> raiz;
+    private final List<Entrada<T>> drenados = new ArrayList<>();
+    private long tempoAtual;
+    private int quantidade;
+
+    /**
+     * @param tickMs duração de um balde do primeiro nível, em milissegundos
+     * @param tamanho quantidade de baldes por nível
+     * @param inicioMs instante inicial, em milissegundos desde a época
+     */
+    public RodaTemporizacao(long tickMs, int tamanho, long inicioMs) {
+        if (tickMs < 1 || tamanho < 2) {
+            throw new IllegalArgumentException("tickMs deve ser positivo e tamanho maior que 1");
+        }
+        this.tickMs = tickMs;
+        this.tempoAtual = inicioMs - inicioMs % tickMs;
+        this.raiz = new Nivel<>(tickMs, tamanho, tempoAtual);
+    }
+
+    /**
+     * Agenda um item.
+     *
+     * @param venceEmMs instante de vencimento, em milissegundos desde a época
+     * @param item item a ser entregue no vencimento
+     * @return false se o instante já passou e o item não foi agendado
+     */
+    public boolean agendar(long venceEmMs, T item) {
+        // Primeiro tick estritamente depois do vencimento
+        Entrada<T> entrada = new Entrada<>((venceEmMs / tickMs + 1) * tickMs, item);
+        if (entrada.alvo() <= tempoAtual) {
+            return false;
+        }
+        raiz.adicionar(entrada);
+        quantidade++;
+        return true;
+    }
+
+    /**
+     * Avança a roda até o instante informado, entregando os itens vencidos.
+     *
+     * @param agoraMs instante atual, em milissegundos desde a época
+     * @param aoVencer recebe cada item vencido
+     */
+    public void avancar(long agoraMs, Consumer<T> aoVencer) {
+        if (quantidade == 0) {
+            // Nada agendado: pula direto para o instante atual
+            if (agoraMs >= tempoAtual + tickMs) {
+                tempoAtual = agoraMs - agoraMs % tickMs;
+                raiz.reposicionar(tempoAtual);
+            }
+            return;
+        }
+
+        while (tempoAtual + tickMs <= agoraMs) {
+            tempoAtual += tickMs;
+            raiz.avancar(tempoAtual, drenados);
+
+            for (Entrada<T> entrada : drenados) {
+                if (entrada.alvo() <= tempoAtual) {
+                    quantidade--;
+                    aoVencer.accept(entrada.item());
+                } else {
+                    raiz.adicionar(entrada);
+                }
+            }
+            drenados.clear();
+        }
+    }
+
+    /**
+     * @return quantidade de itens agendados e ainda não vencidos
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    private record Entrada<T>(long alvo, T item) {
+    }
+
+    private static final class Nivel<T> {
+
+        private final long tick;
+        private final int tamanho;
+        private final long intervalo;
+        private final List<Entrada<T>>[] baldes;
+        private long tempoAtual;
+        private Nivel<T> superior;
+
+        @SuppressWarnings("unchecked")
+        Nivel(long tick, int tamanho, long inicio) {
+            this.tick = tick;
+            this.tamanho = tamanho;
+            this.intervalo = Math.multiplyExact(tick, tamanho);
+            this.baldes = new List[tamanho];
+            this.tempoAtual = inicio - inicio % tick;
+        }
+
+        void adicionar(Entrada<T> entrada) {
+            if (entrada.alvo() < tempoAtual + intervalo) {
+                int indice = (int) ((entrada.alvo() / tick) % tamanho);
+                if (baldes[indice] == null) {
+                    baldes[indice] = new ArrayList<>();
+                }
+                baldes[indice].add(entrada);
+            } else {
+                if (superior == null) {
+                    superior = new Nivel<>(intervalo, tamanho, tempoAtual);
+                }
+                superior.adicionar(entrada);
+            }
+        }
+
+        void avancar(long agora, List<Entrada<T>> drenados) {
+            if (agora < tempoAtual + tick) {
+                return;
+            }
+            tempoAtual = agora - agora % tick;
+
+            int indice = (int) ((tempoAtual / tick) % tamanho);
+            List<Entrada<T>> balde = baldes[indice];
+            if (balde != null && !balde.isEmpty()) {
+                drenados.addAll(balde);
+                balde.clear();
+            }
+
+            if (superior != null) {
+                superior.avancar(tempoAtual, drenados);
+            }
+        }
+
+        void reposicionar(long agora) {
+            tempoAtual = agora - agora % tick;
+            if (superior != null) {
+                superior.reposicionar(tempoAtual);
+            }
+        }
+    }
+}
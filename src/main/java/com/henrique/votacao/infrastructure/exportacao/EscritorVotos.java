@@ -0,0 +1,130 @@
+package com.henrique.votacao.infrastructure.exportacao;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.repository.ConsumidorVoto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve os votos lidos do cursor direto na saída da resposta, no {@link FormatoExportacao} pedido.
+ *
+ * <p>Cada linha é montada em um buffer de bytes fixo, que vai para a saída quando enche: a memória
+ * usada é a mesma para mil ou dez milhões de votos. Uma falha de escrita (o cliente desconectou)
+ * sai como {@link UncheckedIOException}, que interrompe a leitura do cursor.
+ *
+ * <p>Não é thread-safe: uma instância por exportação.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public final class EscritorVotos implements ConsumidorVoto {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int MAIOR_LINHA = 128;
+    private static final int DIGITOS_CPF = 11;
+    private static final byte[][] ESCOLHAS = new byte[Escolha.values().length][];
+
+    static {
+        for (Escolha escolha : Escolha.values()) {
+            ESCOLHAS[escolha.ordinal()] = escolha.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final OutputStream saida;
+    private final FormatoExportacao formato;
+    private final byte[] buffer = new byte[TAMANHO_BUFFER];
+    private int posicao;
+    private long votos;
+    private long ultimoId;
+
+    /**
+     * @param saida saída da resposta
+     * @param formato formato das linhas
+     * @param comCabecalho se o cabeçalho do formato (no CSV, os nomes das colunas) abre a saída
+     */
+    public EscritorVotos(OutputStream saida, FormatoExportacao formato, boolean comCabecalho) {
+        this.saida = saida;
+        this.formato = formato;
+        if (comCabecalho) {
+            copiar(formato.cabecalho());
+        }
+    }
+
+    @Override
+    public void aceitar(long marca, long pautaId, long cpf, Escolha escolha) {
+        if (posicao > TAMANHO_BUFFER - MAIOR_LINHA) {
+            esvaziar();
+        }
+        copiar(formato.inicioLinha());
+        escreverNumero(marca);
+        copiar(formato.antesCpf());
+        escreverCpf(cpf);
+        copiar(formato.antesEscolha());
+        copiar(ESCOLHAS[escolha.ordinal()]);
+        copiar(formato.fimLinha());
+        votos++;
+        ultimoId = marca;
+    }
+
+    /**
+     * Envia o que restou no buffer e fecha a saída (com gzip, é quando o rodapé é escrito).
+     * @throws IOException se a escrita falhar
+     */
+    public void concluir() throws IOException {
+        saida.write(buffer, 0, posicao);
+        posicao = 0;
+        saida.close();
+    }
+
+    /**
+     * @return votos escritos
+     */
+    public long getVotos() {
+        return votos;
+    }
+
+    /**
+     * @return ID do último voto escrito (0 se nenhum)
+     */
+    public long getUltimoId() {
+        return ultimoId;
+    }
+
+    private void esvaziar() {
+        try {
+            saida.write(buffer, 0, posicao);
+            posicao = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void copiar(byte[] trecho) {
+        System.arraycopy(trecho, 0, buffer, posicao, trecho.length);
+        posicao += trecho.length;
+    }
+
+    private void escreverNumero(long numero) {
+        int digitos = 1;
+        for (long resto = numero / 10; resto > 0; resto /= 10) {
+            digitos++;
+        }
+        escreverDigitos(numero, digitos);
+    }
+
+    // CPF com zeros à esquerda, como em Cpf.toString()
+    private void escreverCpf(long cpf) {
+        escreverDigitos(cpf, DIGITOS_CPF);
+    }
+
+    private void escreverDigitos(long numero, int digitos) {
+        for (int i = posicao + digitos - 1; i >= posicao; i--) {
+            buffer[i] = (byte) ('0' + numero % 10);
+            numero /= 10;
+        }
+        posicao += digitos;
+    }
+}
@@ -0,0 +1,72 @@
+package com.henrique.votacao.infrastructure.exportacao;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatos da exportação de votos. Cada linha tem o ID do voto, o CPF com 11 dígitos e a escolha;
+ * os trechos fixos de cada formato ficam prontos em bytes para a linha ser montada sem alocação.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public enum FormatoExportacao {
+
+    /** Um objeto JSON por linha: {@code {"id":1,"cpf":"12345678909","escolha":"SIM"}} */
+    NDJSON("application/x-ndjson", "ndjson", "", "{\"id\":", ",\"cpf\":\"", "\",\"escolha\":\"", "\"}\n"),
+
+    /** CSV com cabeçalho: {@code id,cpf,escolha} */
+    CSV("text/csv", "csv", "id,cpf,escolha\n", "", ",", ",", "\n");
+
+    private final String tipoConteudo;
+    private final String extensao;
+    private final byte[] cabecalho;
+    private final byte[] inicioLinha;
+    private final byte[] antesCpf;
+    private final byte[] antesEscolha;
+    private final byte[] fimLinha;
+
+    FormatoExportacao(String tipoConteudo, String extensao, String cabecalho, String inicioLinha,
+                      String antesCpf, String antesEscolha, String fimLinha) {
+        this.tipoConteudo = tipoConteudo;
+        this.extensao = extensao;
+        this.cabecalho = cabecalho.getBytes(StandardCharsets.US_ASCII);
+        this.inicioLinha = inicioLinha.getBytes(StandardCharsets.US_ASCII);
+        this.antesCpf = antesCpf.getBytes(StandardCharsets.US_ASCII);
+        this.antesEscolha = antesEscolha.getBytes(StandardCharsets.US_ASCII);
+        this.fimLinha = fimLinha.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return media type da resposta
+     */
+    public String getTipoConteudo() {
+        return tipoConteudo;
+    }
+
+    /**
+     * @return extensão do arquivo sugerido para download
+     */
+    public String getExtensao() {
+        return extensao;
+    }
+
+    byte[] cabecalho() {
+        return cabecalho;
+    }
+
+    byte[] inicioLinha() {
+        return inicioLinha;
+    }
+
+    byte[] antesCpf() {
+        return antesCpf;
+    }
+
+    byte[] antesEscolha() {
+        return antesEscolha;
+    }
+
+    byte[] fimLinha() {
+        return fimLinha;
+    }
+}
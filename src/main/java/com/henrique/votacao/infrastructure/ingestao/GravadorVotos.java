@@ -0,0 +1,36 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+
+import java.util.List;
+
+/**
+ * Estratégia de gravação dos votos já validados.
+ *
+ * <p>A implementação é escolhida pela propriedade {@code votacao.ingestao.modo}:
+ * {@code direta} (padrão) grava cada voto na sua própria transação,
+ * {@code lote} agrupa os votos em inserts em lote feitos por uma thread de fundo e
+ * {@code diario} anexa os votos ao diário de votos, que passa a ser o registro oficial.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+public interface GravadorVotos {
+
+    /**
+     * Grava o voto e só retorna depois que ele estiver confirmado no banco.
+     *
+     * @param voto voto validado
+     * @throws VotoDuplicadoException se o CPF já votou na pauta
+     */
+    void gravar(NovoVoto voto);
+
+    /**
+     * Grava os votos do endpoint de lote e só retorna depois que os gravados estiverem confirmados.
+     *
+     * @param votos votos validados, de CPFs distintos
+     * @return para cada voto, se foi gravado (false se o CPF já votou na pauta)
+     */
+    boolean[] gravarLote(List<NovoVoto> votos);
+}
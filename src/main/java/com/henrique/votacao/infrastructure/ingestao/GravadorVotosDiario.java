@@ -0,0 +1,227 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoPauta;
+import com.henrique.votacao.infrastructure.diario.DiarioVotos;
+import com.henrique.votacao.infrastructure.diario.RegistroVoto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava os votos no {@link DiarioVotos}, com commit em grupo.
+ *
+ * <p>Sem constraint de banco no caminho do voto, o voto único é garantido pela
+ * {@link ApuracaoPauta#reservar(long) reserva} do CPF no índice de votantes, feita antes de o voto
+ * entrar na fila. Uma thread de fundo anexa ao diário todos os votos que encontrar na fila (até
+ * {@code votacao.diario.grupo.maximo}) e faz um único {@code fsync} para o grupo; cada chamada só
+ * retorna depois do {@code fsync} do seu voto.
+ *
+ * <p>Com a fila cheia o voto é recusado com 503 e a reserva é desfeita. Se o {@code fsync} falhar,
+ * o gravador para de aceitar votos até a aplicação ser reiniciada: não dá para saber quais votos do
+ * grupo chegaram ao disco, e a releitura do diário na subida é quem decide.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "diario")
+public class GravadorVotosDiario implements GravadorVotos, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravadorVotosDiario.class);
+
+    private final DiarioVotos diario;
+    private final ApuracaoEmMemoria apuracao;
+    private final Clock relogio;
+    private final BlockingQueue<VotosPendentes> fila;
+    private final int tamanhoMaximoGrupo;
+
+    private volatile boolean executando;
+    private volatile boolean falhou;
+    private Thread escritor;
+
+    public GravadorVotosDiario(DiarioVotos diario, ApuracaoEmMemoria apuracao, Clock relogio,
+                               @Value("${votacao.diario.grupo.maximo:1000}") int tamanhoMaximoGrupo,
+                               @Value("${votacao.ingestao.fila.capacidade:50000}") int capacidadeFila) {
+        this.diario = diario;
+        this.apuracao = apuracao;
+        this.relogio = relogio;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoMaximoGrupo = tamanhoMaximoGrupo;
+    }
+
+    @Override
+    public void gravar(NovoVoto voto) {
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(voto.pautaId());
+        long cpf = voto.cpf();
+        if (!apuracaoPauta.reservar(cpf)) {
+            throw new VotoDuplicadoException();
+        }
+
+        try {
+            aguardar(enfileirar(List.of(registro(voto))));
+        } catch (RuntimeException e) {
+            apuracaoPauta.desfazerReserva(cpf);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean[] gravarLote(List<NovoVoto> votos) {
+        boolean[] gravados = new boolean[votos.size()];
+        List<RegistroVoto> registros = new ArrayList<>(votos.size());
+        for (int i = 0; i < votos.size(); i++) {
+            NovoVoto voto = votos.get(i);
+            if (apuracao.porPauta(voto.pautaId()).reservar(voto.cpf())) {
+                gravados[i] = true;
+                registros.add(registro(voto));
+            }
+        }
+        if (registros.isEmpty()) {
+            return gravados;
+        }
+
+        try {
+            // O lote entra na fila como um único item: é aceito ou recusado por inteiro
+            aguardar(enfileirar(registros));
+        } catch (RuntimeException e) {
+            for (int i = 0; i < votos.size(); i++) {
+                if (gravados[i]) {
+                    NovoVoto voto = votos.get(i);
+                    apuracao.porPauta(voto.pautaId()).desfazerReserva(voto.cpf());
+                }
+            }
+            throw e;
+        }
+        return gravados;
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        escritor = new Thread(this::escrever, "diario-votos");
+        escritor.setDaemon(true);
+        escritor.start();
+        logger.info("Ingestão de votos pelo diário iniciada: grupoMaximo={}, capacidadeFila={}",
+                tamanhoMaximoGrupo, fila.remainingCapacity());
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Ingestão de votos pelo diário encerrada, fila esvaziada");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    private RegistroVoto registro(NovoVoto voto) {
+        return new RegistroVoto(voto.pautaId(), voto.cpf(), voto.escolha(), relogio.millis());
+    }
+
+    private VotosPendentes enfileirar(List<RegistroVoto> registros) {
+        if (!executando || falhou) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestão de votos encerrada");
+        }
+
+        VotosPendentes pendentes = new VotosPendentes(registros);
+        if (!fila.offer(pendentes)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fila de votos cheia, tente novamente");
+        }
+
+        // O escritor pode ter feito a última drenagem entre a verificação acima e o offer
+        if (!executando && fila.remove(pendentes)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestão de votos encerrada");
+        }
+        return pendentes;
+    }
+
+    private static void aguardar(VotosPendentes pendentes) {
+        try {
+            pendentes.resultado().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private void escrever() {
+        List<VotosPendentes> grupo = new ArrayList<>(tamanhoMaximoGrupo);
+
+        while (executando || !fila.isEmpty()) {
+            try {
+                VotosPendentes primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                grupo.add(primeiro);
+                fila.drainTo(grupo, tamanhoMaximoGrupo - 1);
+                gravarGrupo(grupo);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fila.drainTo(grupo);
+                gravarGrupo(grupo);
+                return;
+            } finally {
+                grupo.clear();
+            }
+        }
+    }
+
+    private void gravarGrupo(List<VotosPendentes> grupo) {
+        if (grupo.isEmpty()) {
+            return;
+        }
+        if (falhou) {
+            ResponseStatusException indisponivel =
+                    new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestão de votos encerrada");
+            grupo.forEach(pendentes -> pendentes.resultado().completeExceptionally(indisponivel));
+            return;
+        }
+
+        try {
+            for (VotosPendentes pendentes : grupo) {
+                for (RegistroVoto registro : pendentes.registros()) {
+                    diario.anexar(registro);
+                }
+            }
+            diario.sincronizar();
+            grupo.forEach(pendentes -> pendentes.resultado().complete(null));
+        } catch (RuntimeException e) {
+            falhou = true;
+            logger.error("Falha ao gravar {} item(ns) no diário de votos, ingestão suspensa até reiniciar a aplicação",
+                    grupo.size(), e);
+            grupo.forEach(pendentes -> pendentes.resultado().completeExceptionally(e));
+        }
+    }
+
+    private record VotosPendentes(List<RegistroVoto> registros, CompletableFuture<Void> resultado) {
+        VotosPendentes(List<RegistroVoto> registros) {
+            this(registros, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Grava cada voto com um único insert condicional, na transação do próprio insert.
+ *
+ * <p>O voto duplicado é detectado pela constraint {@code uk_cpf_pauta}, sem consulta prévia,
+ * e vira {@link VotoDuplicadoException} também quando duas requisições do mesmo CPF concorrem.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "direta", matchIfMissing = true)
+public class GravadorVotosDireto implements GravadorVotos {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravadorVotosDireto.class);
+
+    private final VotoJdbcRepository votoJdbcRepository;
+
+    public GravadorVotosDireto(VotoJdbcRepository votoJdbcRepository) {
+        this.votoJdbcRepository = votoJdbcRepository;
+    }
+
+    @Override
+    public void gravar(NovoVoto voto) {
+        if (!votoJdbcRepository.inserirSeAusente(voto)) {
+            throw new VotoDuplicadoException();
+        }
+    }
+
+    @Override
+    public boolean[] gravarLote(List<NovoVoto> votos) {
+        return gravarLote(votoJdbcRepository, votos);
+    }
+
+    /**
+     * Grava os votos em um único insert em lote. Se um voto concorrente violar a constraint de
+     * voto único, o lote é descartado e os votos são gravados um a um.
+     */
+    static boolean[] gravarLote(VotoJdbcRepository votoJdbcRepository, List<NovoVoto> votos) {
+        boolean[] gravados = new boolean[votos.size()];
+        if (votos.isEmpty()) {
+            return gravados;
+        }
+
+        try {
+            votoJdbcRepository.inserirEmLote(votos);
+            Arrays.fill(gravados, true);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Lote com voto duplicado concorrente, gravando votos individualmente");
+            for (int i = 0; i < votos.size(); i++) {
+                gravados[i] = votoJdbcRepository.inserirSeAusente(votos.get(i));
+            }
+        }
+        return gravados;
+    }
+}
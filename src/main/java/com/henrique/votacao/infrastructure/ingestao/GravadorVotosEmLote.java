@@ -0,0 +1,200 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava os votos em lote (write-behind).
+ *
+ * <p>Os votos validados entram em uma fila limitada e uma thread de fundo os grava em
+ * batches JDBC de até {@code votacao.ingestao.lote.tamanho} votos, esperando no máximo
+ * {@code votacao.ingestao.lote.intervalo-ms} para completar um lote. Cada chamada a
+ * {@link #gravar(NovoVoto)} aguarda o commit do lote em que o voto entrou, então o chamador continua
+ * recebendo {@link VotoDuplicadoException} quando a constraint {@code uk_cpf_pauta} rejeita o voto.
+ *
+ * <p>Os votos do endpoint de lote já chegam agrupados e são gravados direto, como no modo
+ * {@code direta}. Com a fila cheia o voto é recusado com 503. No desligamento a fila é esvaziada antes de
+ * a aplicação liberar o banco.
+ */
+@Component
+@ConditionalOnProperty(name = "votacao.ingestao.modo", havingValue = "lote")
+public class GravadorVotosEmLote implements GravadorVotos, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravadorVotosEmLote.class);
+    private static final long ESPERA_MAXIMA_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final BlockingQueue<VotoPendente> fila;
+    private final int tamanhoLote;
+    private final long intervaloNanos;
+
+    private volatile boolean executando;
+    private Thread escritor;
+
+    public GravadorVotosEmLote(VotoJdbcRepository votoJdbcRepository,
+                               @Value("${votacao.ingestao.lote.tamanho:500}") int tamanhoLote,
+                               @Value("${votacao.ingestao.lote.intervalo-ms:2}") long intervaloMs,
+                               @Value("${votacao.ingestao.fila.capacidade:50000}") int capacidadeFila) {
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloNanos = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+    }
+
+    @Override
+    public void gravar(NovoVoto voto) {
+        if (!executando) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestão de votos encerrada");
+        }
+
+        VotoPendente pendente = new VotoPendente(voto);
+        if (!fila.offer(pendente)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fila de votos cheia, tente novamente");
+        }
+
+        // O escritor pode ter feito a última drenagem entre a verificação acima e o offer
+        if (!executando && fila.remove(pendente)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestão de votos encerrada");
+        }
+
+        try {
+            pendente.resultado().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean[] gravarLote(List<NovoVoto> votos) {
+        return GravadorVotosDireto.gravarLote(votoJdbcRepository, votos);
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        escritor = new Thread(this::escrever, "gravador-votos");
+        escritor.setDaemon(true);
+        escritor.start();
+        logger.info("Ingestão de votos em lote iniciada: tamanhoLote={}, capacidadeFila={}",
+                tamanhoLote, fila.remainingCapacity());
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Ingestão de votos em lote encerrada, fila esvaziada");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    private void escrever() {
+        List<VotoPendente> lote = new ArrayList<>(tamanhoLote);
+
+        while (executando || !fila.isEmpty()) {
+            try {
+                VotoPendente primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                completarLote(lote);
+                gravarPendentes(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fila.drainTo(lote);
+                gravarPendentes(lote);
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void completarLote(List<VotoPendente> lote) throws InterruptedException {
+        long limite = System.nanoTime() + intervaloNanos;
+
+        while (lote.size() < tamanhoLote) {
+            fila.drainTo(lote, tamanhoLote - lote.size());
+            long restante = limite - System.nanoTime();
+            if (lote.size() >= tamanhoLote || restante <= 0) {
+                return;
+            }
+            // Espera em fatias curtas para não atrasar o desligamento
+            VotoPendente proximo = fila.poll(Math.min(restante, ESPERA_MAXIMA_NANOS), TimeUnit.NANOSECONDS);
+            if (proximo != null) {
+                lote.add(proximo);
+            } else if (!executando) {
+                return;
+            }
+        }
+    }
+
+    private void gravarPendentes(List<VotoPendente> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        List<NovoVoto> votos = lote.stream().map(VotoPendente::voto).toList();
+        try {
+            votoJdbcRepository.inserirEmLote(votos);
+            lote.forEach(pendente -> pendente.resultado().complete(null));
+        } catch (DataIntegrityViolationException e) {
+            // Algum voto do lote violou uma constraint: grava um a um para saber qual
+            gravarIndividualmente(lote);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao gravar lote de {} voto(s)", lote.size(), e);
+            lote.forEach(pendente -> pendente.resultado().completeExceptionally(e));
+        }
+    }
+
+    private void gravarIndividualmente(List<VotoPendente> lote) {
+        for (VotoPendente pendente : lote) {
+            try {
+                if (votoJdbcRepository.inserirSeAusente(pendente.voto())) {
+                    pendente.resultado().complete(null);
+                } else {
+                    pendente.resultado().completeExceptionally(new VotoDuplicadoException());
+                }
+            } catch (RuntimeException e) {
+                pendente.resultado().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record VotoPendente(NovoVoto voto, CompletableFuture<Void> resultado) {
+        VotoPendente(NovoVoto voto) {
+            this(voto, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.henrique.votacao.infrastructure.metricas;
+
+import com.henrique.votacao.domain.exception.AssociadoNaoAutorizadoException;
+import com.henrique.votacao.domain.exception.PautaNaoEncontradaException;
+import com.henrique.votacao.domain.exception.SessaoFechadaException;
+import com.henrique.votacao.domain.exception.SessaoNaoAbertaException;
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.exception.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas do caminho do voto e do resultado, publicadas no actuator (e em {@code /actuator/prometheus}).
+ *
+ * <ul>
+ *   <li>{@code votacao.etapa{operacao,etapa}}: tempo de cada etapa de
+ *   {@code registrarVotoPorTitulo} (pauta, votantes, elegibilidade, gravacao) e de
+ *   {@code calcularResultadoPorTitulo} (pauta, apuracao), com histograma para percentis;</li>
+ *   <li>{@code votacao.votos.registrados}: votos aceitos, para calcular votos/s;</li>
+ *   <li>{@code votacao.votos.rejeitados{motivo}}: votos recusados, pelo tipo da exceção;</li>
+ *   <li>{@code votacao.pauta.votos.taxa{pauta}}: votos/s das {@code votacao.metricas.pautas.maximo}
+ *   pautas mais votadas no último intervalo; as demais somadas em {@code pauta="outras"}.</li>
+ * </ul>
+ *
+ * <p>O limite de pautas mantém o número de séries fixo, qualquer que seja o número de pautas.
+ * A taxa por pauta é recalculada a cada {@code votacao.metricas.pautas.intervalo-ms} por uma
+ * thread própria; pautas sem votos no intervalo deixam de ser publicadas.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class MetricasVotacao implements SmartLifecycle {
+
+    /**
+     * Etapas medidas, com a operação e o nome publicados nas tags.
+     */
+    public enum Etapa {
+        VOTO_PAUTA("voto", "pauta"),
+        VOTO_VOTANTES("voto", "votantes"),
+        VOTO_ELEGIBILIDADE("voto", "elegibilidade"),
+        VOTO_GRAVACAO("voto", "gravacao"),
+        RESULTADO_PAUTA("resultado", "pauta"),
+        RESULTADO_APURACAO("resultado", "apuracao");
+
+        private final String operacao;
+        private final String nome;
+
+        Etapa(String operacao, String nome) {
+            this.operacao = operacao;
+            this.nome = nome;
+        }
+    }
+
+    static final String OUTRAS_PAUTAS = "outras";
+
+    private static final List<Class<? extends RuntimeException>> MOTIVOS_CONHECIDOS = List.of(
+            PautaNaoEncontradaException.class, SessaoNaoAbertaException.class, SessaoFechadaException.class,
+            VotoDuplicadoException.class, AssociadoNaoAutorizadoException.class, BusinessException.class,
+            ResponseStatusException.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] etapas;
+    private final Counter votosRegistrados;
+    private final Map<Class<?>, Counter> rejeicoes = new ConcurrentHashMap<>();
+    private final MultiGauge taxaPorPauta;
+    private final int maximoPautas;
+    private final long intervaloMs;
+
+    // Votos por título de pauta desde o último cálculo da taxa; a thread de métricas zera e remove as entradas
+    private final Map<String, LongAdder> votosPorPauta = new ConcurrentHashMap<>();
+    private long ultimoCalculoNs = System.nanoTime();
+
+    private ScheduledExecutorService executor;
+    private volatile boolean executando;
+
+    public MetricasVotacao(MeterRegistry meterRegistry,
+                           @Value("${votacao.metricas.pautas.maximo:10}") int maximoPautas,
+                           @Value("${votacao.metricas.pautas.intervalo-ms:10000}") long intervaloMs) {
+        this.meterRegistry = meterRegistry;
+        this.maximoPautas = maximoPautas;
+        this.intervaloMs = intervaloMs;
+
+        this.etapas = new Timer[Etapa.values().length];
+        for (Etapa etapa : Etapa.values()) {
+            etapas[etapa.ordinal()] = Timer.builder("votacao.etapa")
+                    .description("Tempo de cada etapa do voto e do resultado")
+                    .tags("operacao", etapa.operacao, "etapa", etapa.nome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+
+        this.votosRegistrados = Counter.builder("votacao.votos.registrados")
+                .description("Votos aceitos")
+                .register(meterRegistry);
+        MOTIVOS_CONHECIDOS.forEach(this::contadorRejeicao);
+
+        this.taxaPorPauta = MultiGauge.builder("votacao.pauta.votos.taxa")
+                .description("Votos por segundo nas pautas mais votadas")
+                .baseUnit("votos/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra o tempo de uma etapa que começou em {@code inicioNs}.
+     * @param etapa etapa medida
+     * @param inicioNs início da etapa, de {@link System#nanoTime()}
+     * @return fim da etapa, para servir de início da seguinte
+     */
+    public long medir(Etapa etapa, long inicioNs) {
+        long fimNs = System.nanoTime();
+        etapas[etapa.ordinal()].record(fimNs - inicioNs, TimeUnit.NANOSECONDS);
+        return fimNs;
+    }
+
+    /**
+     * Contabiliza votos aceitos na pauta.
+     * @param pauta pauta votada
+     * @param quantidade votos aceitos
+     */
+    public void registrarVotos(Pauta pauta, int quantidade) {
+        if (quantidade == 0) {
+            return;
+        }
+        votosRegistrados.increment(quantidade);
+        votosPorPauta.computeIfAbsent(pauta.getTituloPauta(), titulo -> new LongAdder()).add(quantidade);
+    }
+
+    /**
+     * Contabiliza um voto recusado, pelo tipo da exceção.
+     * @param motivo exceção que recusou o voto
+     */
+    public void rejeitar(RuntimeException motivo) {
+        contadorRejeicao(motivo.getClass()).increment();
+    }
+
+    private Counter contadorRejeicao(Class<?> motivo) {
+        return rejeicoes.computeIfAbsent(motivo, tipo -> Counter.builder("votacao.votos.rejeitados")
+                .description("Votos recusados, por motivo")
+                .tag("motivo", tipo.getSimpleName())
+                .register(meterRegistry));
+    }
+
+    /**
+     * Recalcula a taxa de votos por pauta desde o último cálculo e publica as mais votadas.
+     */
+    void atualizarTaxas() {
+        long agoraNs = System.nanoTime();
+        double segundos = Math.max(agoraNs - ultimoCalculoNs, 1) / 1e9;
+        ultimoCalculoNs = agoraNs;
+
+        List<TaxaPauta> taxas = new ArrayList<>();
+        votosPorPauta.forEach((titulo, contador) -> {
+            long votos = contador.sumThenReset();
+            if (votos == 0) {
+                // Um voto contado entre a soma e a remoção se perde na taxa, mas não no total
+                votosPorPauta.remove(titulo, contador);
+            } else {
+                taxas.add(new TaxaPauta(titulo, votos / segundos));
+            }
+        });
+        taxas.sort(Comparator.comparingDouble(TaxaPauta::taxa).reversed());
+
+        List<MultiGauge.Row<?>> linhas = new ArrayList<>();
+        double outras = 0;
+        for (int i = 0; i < taxas.size(); i++) {
+            if (i < maximoPautas) {
+                linhas.add(MultiGauge.Row.of(Tags.of("pauta", taxas.get(i).titulo()), taxas.get(i).taxa()));
+            } else {
+                outras += taxas.get(i).taxa();
+            }
+        }
+        if (taxas.size() > maximoPautas) {
+            linhas.add(MultiGauge.Row.of(Tags.of("pauta", OUTRAS_PAUTAS), outras));
+        }
+        taxaPorPauta.register(linhas, true);
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "metricas-pautas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::atualizarTaxas, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+        executando = true;
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    private record TaxaPauta(String titulo, double taxa) {
+    }
+}
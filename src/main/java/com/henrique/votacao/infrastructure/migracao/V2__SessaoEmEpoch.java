@@ -0,0 +1,79 @@
+package com.henrique.votacao.infrastructure.migracao;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converte abertura e fechamento da sessão, antes gravados como texto formatado
+ * ({@code dd/MM/yyyy - HH'h'mm'm'ss's'}, no fuso da aplicação), em milissegundos desde a época.
+ *
+ * <p>Cria as colunas {@code abertura_epoch_ms} e {@code fechamento_epoch_ms}, converte as
+ * sessões existentes e remove as colunas de texto. Em bancos novos a tabela ainda não existe e
+ * é criada pelo Hibernate já com as colunas numéricas.
+ *
+ * <p>Registrada como bean para que o Spring Boot a entregue ao Flyway.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class V2__SessaoEmEpoch extends BaseJavaMigration {
+
+    private static final DateTimeFormatter FORMATO_ANTIGO = DateTimeFormatter.ofPattern("dd/MM/yyyy - HH'h'mm'm'ss's'");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection conexao = context.getConnection();
+        if (!existeColuna(conexao, "PAUTA", "ABERTURA")) {
+            return;
+        }
+
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("ALTER TABLE pauta ADD COLUMN IF NOT EXISTS abertura_epoch_ms BIGINT");
+            ddl.execute("ALTER TABLE pauta ADD COLUMN IF NOT EXISTS fechamento_epoch_ms BIGINT");
+        }
+
+        try (Statement consulta = conexao.createStatement();
+             ResultSet sessoes = consulta.executeQuery(
+                     "SELECT id, abertura, fechamento FROM pauta WHERE abertura IS NOT NULL AND fechamento IS NOT NULL");
+             PreparedStatement atualizacao = conexao.prepareStatement(
+                     "UPDATE pauta SET abertura_epoch_ms = ?, fechamento_epoch_ms = ? WHERE id = ?")) {
+            while (sessoes.next()) {
+                atualizacao.setLong(1, paraEpochMs(sessoes.getString("abertura")));
+                atualizacao.setLong(2, paraEpochMs(sessoes.getString("fechamento")));
+                atualizacao.setLong(3, sessoes.getLong("id"));
+                atualizacao.addBatch();
+            }
+            atualizacao.executeBatch();
+        }
+
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("ALTER TABLE pauta DROP COLUMN abertura");
+            ddl.execute("ALTER TABLE pauta DROP COLUMN fechamento");
+        }
+    }
+
+    private static long paraEpochMs(String dataHora) {
+        return LocalDateTime.parse(dataHora, FORMATO_ANTIGO)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private static boolean existeColuna(Connection conexao, String tabela, String coluna) throws SQLException {
+        try (ResultSet colunas = conexao.getMetaData().getColumns(null, null, tabela, coluna)) {
+            return colunas.next();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.henrique.votacao.infrastructure.migracao;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Troca as colunas identity de {@code pauta.id} e {@code voto.id} pelas sequências {@code pauta_seq}
+ * e {@code voto_seq}, de onde o Hibernate e o gravador JDBC de votos reservam blocos de IDs.
+ *
+ * <p>Em bancos existentes, cada sequência começa depois do maior ID da tabela e a coluna perde a
+ * identity. Em bancos novos as tabelas ainda não existem e só as sequências são criadas; o
+ * Hibernate cria as tabelas depois, já sem identity.
+ *
+ * <p>O incremento das sequências ({@code votacao.ids.alocacao}) é o tamanho do bloco de IDs; o
+ * Hibernate adota o incremento do banco na subida. Para mudá-lo depois, basta um
+ * {@code ALTER SEQUENCE ... INCREMENT BY} com a aplicação parada.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class V3__IdsPorSequencia extends BaseJavaMigration {
+
+    private final int alocacao;
+
+    public V3__IdsPorSequencia(@Value("${votacao.ids.alocacao:50}") int alocacao) {
+        this.alocacao = alocacao;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection conexao = context.getConnection();
+        criarSequencia(conexao, "pauta", "pauta_seq");
+        criarSequencia(conexao, "voto", "voto_seq");
+    }
+
+    private void criarSequencia(Connection conexao, String tabela, String sequencia) throws SQLException {
+        if (existeSequencia(conexao, sequencia)) {
+            return;
+        }
+
+        long inicio = 1;
+        try (Statement ddl = conexao.createStatement()) {
+            if (existeTabela(conexao, tabela)) {
+                try (ResultSet maior = ddl.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tabela)) {
+                    maior.next();
+                    inicio = maior.getLong(1) + 1;
+                }
+                ddl.execute("ALTER TABLE " + tabela + " ALTER COLUMN id DROP IDENTITY");
+            }
+            ddl.execute("CREATE SEQUENCE " + sequencia + " START WITH " + inicio + " INCREMENT BY " + alocacao);
+        }
+    }
+
+    private static boolean existeTabela(Connection conexao, String tabela) throws SQLException {
+        try (ResultSet tabelas = conexao.getMetaData().getTables(null, null, tabela.toUpperCase(), null)) {
+            return tabelas.next();
+        }
+    }
+
+    private static boolean existeSequencia(Connection conexao, String sequencia) throws SQLException {
+        try (PreparedStatement consulta = conexao.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.sequences WHERE UPPER(sequence_name) = ?")) {
+            consulta.setString(1, sequencia.toUpperCase());
+            try (ResultSet total = consulta.executeQuery()) {
+                total.next();
+                return total.getLong(1) > 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.henrique.votacao.infrastructure.migracao;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Deixa {@code pauta.encerrada} com um valor por situação da sessão: null sem sessão, FALSE com a
+ * sessão ainda não encerrada e TRUE depois do encerramento.
+ *
+ * <p>Sessões abertas antes da coluna existir ficaram com null, como as pautas sem sessão; passam a
+ * FALSE. A listagem de pautas busca cada situação pelo prefixo dos índices {@code idx_pauta_encerrada}
+ * e {@code idx_pauta_situacao}, que o Hibernate cria em seguida; o índice {@code idx_pauta_fechamento},
+ * que eles substituem, é removido. Em bancos novos a tabela ainda não existe e nada é feito.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class V4__SituacaoDaSessao extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection conexao = context.getConnection();
+        if (!existeColuna(conexao, "PAUTA", "FECHAMENTO_EPOCH_MS")) {
+            return;
+        }
+
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("ALTER TABLE pauta ADD COLUMN IF NOT EXISTS encerrada BOOLEAN");
+            ddl.execute("UPDATE pauta SET encerrada = FALSE WHERE fechamento_epoch_ms IS NOT NULL AND encerrada IS NULL");
+            ddl.execute("DROP INDEX IF EXISTS idx_pauta_fechamento");
+        }
+    }
+
+    private static boolean existeColuna(Connection conexao, String tabela, String coluna) throws SQLException {
+        try (ResultSet colunas = conexao.getMetaData().getColumns(null, null, tabela, coluna)) {
+            return colunas.next();
+        }
+    }
+}
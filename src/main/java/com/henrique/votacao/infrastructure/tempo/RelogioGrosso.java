@@ -0,0 +1,77 @@
+package com.henrique.votacao.infrastructure.tempo;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relógio UTC de baixa resolução usado no caminho do voto.
+ *
+ * <p>Uma thread daemon lê o relógio do sistema a cada {@code votacao.relogio.resolucao-ms}
+ * milissegundos e guarda o instante em um campo volátil; no caminho do voto, {@link #millis()}
+ * só lê esse campo. A sessão de votação dura minutos, então uma imprecisão de alguns
+ * milissegundos no fechamento não altera o resultado.
+ *
+ * <p>É o {@link Clock} injetado nos serviços; nos testes pode ser trocado por
+ * {@link Clock#fixed(Instant, ZoneId)}.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Component
+public class RelogioGrosso extends Clock {
+
+    private final ScheduledExecutorService atualizador;
+    private volatile long agoraMs;
+
+    public RelogioGrosso(@Value("${votacao.relogio.resolucao-ms:10}") long resolucaoMs) {
+        this.agoraMs = System.currentTimeMillis();
+        this.atualizador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "relogio-grosso");
+            thread.setDaemon(true);
+            return thread;
+        });
+        atualizador.scheduleAtFixedRate(this::atualizar, resolucaoMs, resolucaoMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void atualizar() {
+        agoraMs = System.currentTimeMillis();
+    }
+
+    @Override
+    public long millis() {
+        return agoraMs;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(agoraMs);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    /**
+     * O relógio é sempre UTC; outro fuso usa o relógio do sistema.
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return ZoneOffset.UTC.equals(zone) ? this : Clock.system(zone);
+    }
+
+    @PreDestroy
+    public void parar() {
+        atualizador.shutdownNow();
+    }
+}
@@ -0,0 +1,167 @@
+package com.henrique.votacao.infrastructure.transmissao;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uma conexão SSE acompanhando o resultado de uma pauta.
+ *
+ * <p>O buffer do assinante guarda um único evento: como cada evento é o placar completo, um
+ * evento novo substitui o que ainda não foi enviado, e um cliente lento recebe só o placar mais
+ * recente. O evento final nunca é substituído e encerra a conexão depois de enviado.
+ *
+ * <p>O envio roda no executor compartilhado, no máximo uma tarefa por assinante por vez. Um envio
+ * preso em um cliente que parou de ler é detectado por {@link #envioExpirou(long, long)} e o
+ * assinante é descartado com {@link #descartarLento()}.
+ */
+class AssinanteResultados {
+
+    /** Marca no {@code aoSair} de que a conexão já terminou. */
+    private static final Runnable SAIU = () -> { };
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final AtomicReference<Evento> pendente = new AtomicReference<>();
+    private final AtomicBoolean enviando = new AtomicBoolean();
+    private final AtomicReference<Runnable> aoSair = new AtomicReference<>();
+    private final LongAdder descartados;
+    private volatile boolean finalizado;
+    private volatile long envioIniciadoEm;
+
+    AssinanteResultados(SseEmitter emitter, Executor executor, LongAdder descartados) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.descartados = descartados;
+        emitter.onCompletion(this::sair);
+        emitter.onTimeout(this::sair);
+        emitter.onError(erro -> sair());
+    }
+
+    /**
+     * @param acao chamada uma vez quando a conexão termina, por qualquer motivo; se ela já
+     *             terminou, é chamada na hora
+     */
+    void aoSair(Runnable acao) {
+        if (aoSair.getAndUpdate(atual -> atual == SAIU ? SAIU : acao) == SAIU) {
+            acao.run();
+        }
+    }
+
+    void publicar(Set<DataWithMediaType> dados) {
+        publicar(new Evento(dados, false));
+    }
+
+    /**
+     * Envia um evento sem dados (heartbeat), somente se não houver outro evento pendente.
+     */
+    void manterViva(Set<DataWithMediaType> dados) {
+        if (!finalizado && pendente.compareAndSet(null, new Evento(dados, false))) {
+            agendarEnvio();
+        }
+    }
+
+    void publicarFinal(Set<DataWithMediaType> dados) {
+        publicar(new Evento(dados, true));
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * @param agoraNanos instante atual, de {@link System#nanoTime()}
+     * @param limiteNanos tempo máximo de um envio
+     * @return true se há um envio em andamento há mais que o limite
+     */
+    boolean envioExpirou(long agoraNanos, long limiteNanos) {
+        long inicio = envioIniciadoEm;
+        return inicio != 0 && agoraNanos - inicio > limiteNanos;
+    }
+
+    /**
+     * Tira o assinante da transmissão e encerra a conexão. O encerramento roda no executor: o
+     * emitter só é liberado quando o envio preso termina ou falha.
+     */
+    void descartarLento() {
+        finalizado = true;
+        pendente.set(null);
+        sair();
+        executor.execute(emitter::complete);
+    }
+
+    private void publicar(Evento evento) {
+        if (finalizado) {
+            return;
+        }
+        if (evento.ultimo()) {
+            finalizado = true;
+        }
+
+        Evento anterior = pendente.getAndUpdate(atual -> atual != null && atual.ultimo() ? atual : evento);
+        if (anterior != null && !anterior.ultimo()) {
+            descartados.increment();
+        }
+        agendarEnvio();
+    }
+
+    private void agendarEnvio() {
+        if (enviando.compareAndSet(false, true)) {
+            executor.execute(this::enviar);
+        }
+    }
+
+    private void enviar() {
+        try {
+            Evento evento;
+            while ((evento = pendente.getAndSet(null)) != null) {
+                envioIniciadoEm = System.nanoTime();
+                emitter.send(evento.dados());
+                envioIniciadoEm = 0;
+                if (evento.ultimo()) {
+                    emitter.complete();
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou conexão já encerrada
+            finalizado = true;
+            pendente.set(null);
+            sair();
+            return;
+        } finally {
+            envioIniciadoEm = 0;
+            enviando.set(false);
+        }
+
+        // Um evento pode ter chegado entre o último getAndSet e a liberação do envio
+        if (pendente.get() != null) {
+            agendarEnvio();
+        }
+    }
+
+    private void sair() {
+        finalizado = true;
+        Runnable acao = aoSair.getAndSet(SAIU);
+        if (acao != null && acao != SAIU) {
+            acao.run();
+        }
+    }
+
+    /**
+     * Monta os dados de um evento SSE, para serem enviados a vários assinantes.
+     */
+    static Set<DataWithMediaType> evento(String nome, String json) {
+        return SseEmitter.event().name(nome).data(json, MediaType.APPLICATION_JSON).build();
+    }
+
+    private record Evento(Set<DataWithMediaType> dados, boolean ultimo) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.henrique.votacao.infrastructure.transmissao;
+
+import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.PlacarPauta;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transmite o resultado das pautas por Server-Sent Events.
+ *
+ * <p>Uma única thread produtora lê, a cada {@code votacao.resultados.stream.intervalo-ms}, o placar
+ * em memória das pautas que têm assinantes. Se o placar mudou desde a última leitura, o evento é
+ * serializado uma vez e entregue a todos os assinantes da pauta; assim, várias atualizações no
+ * intervalo viram um único evento. Cada envio roda em uma thread virtual, sem thread por conexão, e
+ * cada assinante guarda só o evento mais recente (ver {@link AssinanteResultados}). Um cliente que
+ * para de ler prende só a thread virtual do seu envio; se o envio passar de
+ * {@code votacao.resultados.stream.envio-timeout-ms}, a thread produtora descarta o assinante.
+ *
+ * <p>Quando a sessão é encerrada, {@link #encerrar(Long, String, ResultadoPauta)} envia o evento
+ * {@code resultado-final} e fecha as conexões. O evento final fica guardado por alguns minutos para
+ * quem se inscrever logo depois do encerramento.
+ */
+@Component
+public class TransmissaoResultados implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransmissaoResultados.class);
+
+    static final String EVENTO_RESULTADO = "resultado";
+    static final String EVENTO_FINAL = "resultado-final";
+    private static final long RETENCAO_FINAL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ApuracaoEmMemoria apuracao;
+    private final ObjectMapper objectMapper;
+    private final Clock relogio;
+    private final long intervaloMs;
+    private final long heartbeatMs;
+    private final long timeoutMs;
+    private final long envioTimeoutNanos;
+
+    private final Map<Long, Canal> canais = new ConcurrentHashMap<>();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder lentosDescartados = new LongAdder();
+
+    private ScheduledExecutorService produtor;
+    private ExecutorService envio;
+    private volatile boolean executando;
+
+    public TransmissaoResultados(ApuracaoEmMemoria apuracao, ObjectMapper objectMapper, Clock relogio,
+                                 @Value("${votacao.resultados.stream.intervalo-ms:500}") long intervaloMs,
+                                 @Value("${votacao.resultados.stream.heartbeat-ms:15000}") long heartbeatMs,
+                                 @Value("${votacao.resultados.stream.timeout-ms:3600000}") long timeoutMs,
+                                 @Value("${votacao.resultados.stream.envio-timeout-ms:10000}") long envioTimeoutMs) {
+        this.apuracao = apuracao;
+        this.objectMapper = objectMapper;
+        this.relogio = relogio;
+        this.intervaloMs = intervaloMs;
+        this.heartbeatMs = heartbeatMs;
+        this.timeoutMs = timeoutMs;
+        this.envioTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(envioTimeoutMs);
+    }
+
+    /**
+     * Inscreve uma nova conexão no resultado de uma pauta. O placar atual é enviado de imediato.
+     * @param pautaId ID da pauta
+     * @param tituloPauta título da pauta, usado nos eventos
+     * @param resultadoFinal resultado gravado, se a sessão já foi encerrada; null caso contrário
+     * @return emitter da conexão
+     */
+    public SseEmitter inscrever(Long pautaId, String tituloPauta, ResultadoPauta resultadoFinal) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AssinanteResultados assinante = new AssinanteResultados(emitter, envio, descartados);
+
+        if (resultadoFinal != null) {
+            assinante.publicarFinal(eventoResultado(EVENTO_FINAL, tituloPauta, resultadoFinal));
+            return emitter;
+        }
+
+        PlacarPauta placar = apuracao.placar(pautaId);
+        long sim = placar.getSim();
+        long nao = placar.getNao();
+
+        // A inclusão acontece dentro do compute para não competir com a remoção de canais vazios
+        Canal canal = canais.compute(pautaId, (id, atual) -> {
+            Canal c = atual != null ? atual : new Canal(tituloPauta, sim, nao, relogio.millis());
+            c.assinantes.add(assinante);
+            return c;
+        });
+        assinante.aoSair(() -> canal.assinantes.remove(assinante));
+
+        Set<DataWithMediaType> eventoFinal = canal.eventoFinal;
+        if (eventoFinal != null) {
+            assinante.publicarFinal(eventoFinal);
+        } else {
+            assinante.publicar(eventoResultado(EVENTO_RESULTADO, tituloPauta,
+                    ResultadoPauta.apurar(pautaId, sim, nao, relogio.millis())));
+        }
+        return emitter;
+    }
+
+    /**
+     * Envia o resultado final aos assinantes da pauta e encerra as conexões.
+     * @param pautaId ID da pauta
+     * @param tituloPauta título da pauta
+     * @param resultado resultado final
+     */
+    public void encerrar(Long pautaId, String tituloPauta, ResultadoPauta resultado) {
+        Set<DataWithMediaType> evento = eventoResultado(EVENTO_FINAL, tituloPauta, resultado);
+        Canal canal = canais.computeIfAbsent(pautaId, id -> new Canal(tituloPauta, -1, -1, relogio.millis()));
+        canal.finalizadoEm = relogio.millis();
+        canal.eventoFinal = evento;
+        canal.assinantes.forEach(assinante -> assinante.publicarFinal(evento));
+    }
+
+    /**
+     * @return quantidade de conexões abertas, somando todas as pautas
+     */
+    public int getAssinantes() {
+        return canais.values().stream().mapToInt(canal -> canal.assinantes.size()).sum();
+    }
+
+    /**
+     * @return atualizações substituídas antes de serem enviadas a um cliente lento
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    /**
+     * @return assinantes descartados por um envio que passou do tempo limite
+     */
+    public long getLentosDescartados() {
+        return lentosDescartados.sum();
+    }
+
+    @Override
+    public void start() {
+        // Mesmo sem threads virtuais nas requisições: com um pool fixo, poucos clientes parados
+        // ocupariam todas as threads e atrasariam os envios de todas as pautas
+        envio = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("transmissao-resultados-", 1).factory());
+        produtor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "transmissao-resultados");
+            thread.setDaemon(true);
+            return thread;
+        });
+        produtor.scheduleWithFixedDelay(this::transmitir, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+        executando = true;
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        produtor.shutdownNow();
+        canais.values().forEach(canal -> canal.assinantes.forEach(assinante -> assinante.getEmitter().complete()));
+        canais.clear();
+        envio.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Um passo da thread produtora.
+     */
+    void transmitir() {
+        long agora = relogio.millis();
+        long agoraNanos = System.nanoTime();
+
+        for (Map.Entry<Long, Canal> entrada : canais.entrySet()) {
+            Long pautaId = entrada.getKey();
+            Canal canal = entrada.getValue();
+            try {
+                descartarLentos(pautaId, canal, agoraNanos);
+                if (canal.eventoFinal != null) {
+                    if (agora - canal.finalizadoEm > RETENCAO_FINAL_MS) {
+                        canais.remove(pautaId, canal);
+                    }
+                } else if (canal.assinantes.isEmpty()) {
+                    canais.computeIfPresent(pautaId, (id, atual) -> atual.assinantes.isEmpty() ? null : atual);
+                } else {
+                    transmitirPlacar(pautaId, canal, agora);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Falha ao transmitir resultado: pautaId={}", pautaId, e);
+            }
+        }
+    }
+
+    private void descartarLentos(Long pautaId, Canal canal, long agoraNanos) {
+        for (AssinanteResultados assinante : canal.assinantes) {
+            if (assinante.envioExpirou(agoraNanos, envioTimeoutNanos)) {
+                assinante.descartarLento();
+                lentosDescartados.increment();
+                logger.warn("Assinante descartado por envio lento: pautaId={}", pautaId);
+            }
+        }
+    }
+
+    private void transmitirPlacar(Long pautaId, Canal canal, long agora) {
+        PlacarPauta placar = apuracao.placar(pautaId);
+        long sim = placar.getSim();
+        long nao = placar.getNao();
+
+        if (sim != canal.ultimoSim || nao != canal.ultimoNao) {
+            canal.ultimoSim = sim;
+            canal.ultimoNao = nao;
+            canal.ultimoEnvio = agora;
+            Set<DataWithMediaType> evento = eventoResultado(EVENTO_RESULTADO, canal.tituloPauta,
+                    ResultadoPauta.apurar(pautaId, sim, nao, agora));
+            canal.assinantes.forEach(assinante -> assinante.publicar(evento));
+        } else if (agora - canal.ultimoEnvio >= heartbeatMs) {
+            // Comentário SSE: mantém a conexão viva em proxies e detecta clientes que saíram
+            canal.ultimoEnvio = agora;
+            canal.assinantes.forEach(assinante -> assinante.manterViva(HEARTBEAT));
+        }
+    }
+
+    private Set<DataWithMediaType> eventoResultado(String nome, String tituloPauta, ResultadoPauta resultado) {
+        try {
+            String json = objectMapper.writeValueAsString(ResultadoVotacaoResponseDTO.criar(tituloPauta, resultado));
+            return AssinanteResultados.evento(nome, json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resultado da pauta " + tituloPauta, e);
+        }
+    }
+
+    private static final class Canal {
+
+        private final String tituloPauta;
+        private final Set<AssinanteResultados> assinantes = ConcurrentHashMap.newKeySet();
+        private volatile Set<DataWithMediaType> eventoFinal;
+        private volatile long finalizadoEm;
+
+        // Usados apenas pela thread produtora, a partir do placar enviado ao primeiro assinante
+        private long ultimoSim;
+        private long ultimoNao;
+        private long ultimoEnvio;
+
+        private Canal(String tituloPauta, long sim, long nao, long agora) {
+            this.tituloPauta = tituloPauta;
+            this.ultimoSim = sim;
+            this.ultimoNao = nao;
+            this.ultimoEnvio = agora;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+/**
+ * Recebe os votos lidos em sequência, sem materializá-los em entidades.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ConsumidorVoto {
+
+    /**
+     * @param marca posição do voto na fonte (o ID na tabela {@code voto}), crescente na ordem de leitura
+     * @param pautaId ID da pauta
+     * @param cpf CPF do associado, como número
+     * @param escolha escolha do voto
+     */
+    void aceitar(long marca, long pautaId, long cpf, Escolha escolha);
+}
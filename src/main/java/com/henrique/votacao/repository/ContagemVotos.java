@@ -0,0 +1,15 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+/**
+ * Projeção com a quantidade de votos de uma escolha em uma pauta.
+ *
+ * @param pautaId ID da pauta
+ * @param escolha escolha do voto (SIM/NAO)
+ * @param total quantidade de votos
+ * @author Henrique
+ * @since 1.0
+ */
+public record ContagemVotos(Long pautaId, Escolha escolha, Long total) {
+}
@@ -0,0 +1,121 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.pauta.StatusSessao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repositório JDBC da listagem de pautas, paginada por chave: cada página começa depois da última
+ * pauta da anterior, sem {@code OFFSET}, e lê só as colunas da {@link ResumoPauta}.
+ *
+ * <p>Cada filtro busca o seu prefixo de um índice cuja coluna seguinte é a ordem da página, então
+ * a consulta só lê as pautas que entram na página, quantas pautas de outras situações houver:
+ * <ul>
+ *   <li>todas: a chave primária, a partir do cursor;</li>
+ *   <li>sem sessão: {@code encerrada IS NULL} em {@code idx_pauta_encerrada (encerrada, id)};</li>
+ *   <li>encerradas: {@code encerrada = TRUE} no mesmo índice, mais as sessões que já passaram do
+ *       fechamento e ainda esperam o encerramento ({@code encerrada = FALSE} e fechamento antes de
+ *       agora em {@code idx_pauta_situacao}), que o {@code EncerramentoSessaoService} mantém em
+ *       poucas;</li>
+ *   <li>abertas: {@code encerrada = FALSE} e fechamento a partir de agora em
+ *       {@code idx_pauta_situacao (encerrada, fechamento_epoch_ms, id)}, na ordem do fechamento: em
+ *       ordem de ID, o banco teria que ler e ordenar todas as sessões abertas a cada página.</li>
+ * </ul>
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Repository
+public class PautaJdbcRepository {
+
+    private static final String COLUNAS = "SELECT id, titulo_pauta, fechamento_epoch_ms, encerrada FROM pauta ";
+    private static final String PAGINA = " FETCH FIRST ? ROWS ONLY";
+    private static final String TODAS = COLUNAS + "WHERE id > ? ORDER BY id" + PAGINA;
+    private static final String SEM_SESSAO = COLUNAS
+            + "WHERE encerrada IS NULL AND fechamento_epoch_ms IS NULL AND id > ? ORDER BY encerrada, id" + PAGINA;
+    private static final String ENCERRADAS = COLUNAS
+            + "WHERE encerrada = TRUE AND id > ? ORDER BY encerrada, id" + PAGINA;
+    private static final String VENCIDAS = COLUNAS
+            + "WHERE encerrada = FALSE AND fechamento_epoch_ms < ? AND id > ? ORDER BY id" + PAGINA;
+    private static final String ABERTAS = COLUNAS
+            + "WHERE encerrada = FALSE AND fechamento_epoch_ms >= ? AND (fechamento_epoch_ms > ? OR id > ?) "
+            + "ORDER BY encerrada, fechamento_epoch_ms, id" + PAGINA;
+    private static final String FECHAMENTO = "SELECT fechamento_epoch_ms FROM pauta WHERE id = ?";
+
+    private static final RowMapper<ResumoPauta> RESUMO = (rs, linha) -> new ResumoPauta(
+            rs.getLong(1), rs.getString(2), rs.getObject(3, Long.class), rs.getObject(4, Boolean.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PautaJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Lista uma página de pautas: em ordem de ID, ou, nas abertas, em ordem de fechamento e ID.
+     *
+     * @param status situação da sessão, ou null para todas
+     * @param aposId última pauta da página anterior (0 na primeira)
+     * @param agoraEpochMs instante que separa as sessões abertas das encerradas
+     * @param limite quantidade máxima de pautas
+     * @return pautas depois de {@code aposId}, na ordem da listagem
+     */
+    public List<ResumoPauta> listar(StatusSessao status, long aposId, long agoraEpochMs, int limite) {
+        if (status == null) {
+            return jdbcTemplate.query(TODAS, RESUMO, aposId, limite);
+        }
+        return switch (status) {
+            case SEM_SESSAO -> jdbcTemplate.query(SEM_SESSAO, RESUMO, aposId, limite);
+            case ABERTA -> listarAbertas(aposId, agoraEpochMs, limite);
+            case ENCERRADA -> listarEncerradas(aposId, agoraEpochMs, limite);
+        };
+    }
+
+    /**
+     * O cursor continua sendo o ID: o fechamento da pauta do cursor, que não muda depois da
+     * abertura, vem da chave primária.
+     */
+    private List<ResumoPauta> listarAbertas(long aposId, long agoraEpochMs, int limite) {
+        long aposFechamento = Long.MIN_VALUE;
+        if (aposId > 0) {
+            List<Long> fechamento = jdbcTemplate.queryForList(FECHAMENTO, Long.class, aposId);
+            if (fechamento.isEmpty() || fechamento.get(0) == null) {
+                return List.of();
+            }
+            aposFechamento = fechamento.get(0);
+        }
+        // Antes do fechamento do cursor não há o que ler; antes de agora, só sessões encerradas
+        long desde = Math.max(aposFechamento, agoraEpochMs);
+        return jdbcTemplate.query(ABERTAS, RESUMO, desde, aposFechamento, aposId, limite);
+    }
+
+    /**
+     * Junta, em ordem de ID, as encerradas com as vencidas que ainda não foram marcadas. Cada
+     * consulta traz no máximo {@code limite} pautas depois do cursor, então as primeiras
+     * {@code limite} da junção são as da página.
+     */
+    private List<ResumoPauta> listarEncerradas(long aposId, long agoraEpochMs, int limite) {
+        List<ResumoPauta> encerradas = jdbcTemplate.query(ENCERRADAS, RESUMO, aposId, limite);
+        List<ResumoPauta> vencidas = jdbcTemplate.query(VENCIDAS, RESUMO, agoraEpochMs, aposId, limite);
+        if (vencidas.isEmpty()) {
+            return encerradas;
+        }
+
+        List<ResumoPauta> pagina = new ArrayList<>(limite);
+        int e = 0;
+        int v = 0;
+        while (pagina.size() < limite && (e < encerradas.size() || v < vencidas.size())) {
+            if (v == vencidas.size() || (e < encerradas.size() && encerradas.get(e).id() < vencidas.get(v).id())) {
+                pagina.add(encerradas.get(e++));
+            } else {
+                pagina.add(vencidas.get(v++));
+            }
+        }
+        return pagina;
+    }
+}
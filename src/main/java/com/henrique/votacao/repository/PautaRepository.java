@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,4 +37,15 @@ public interface PautaRepository extends JpaRepository<Pauta, Long> {
      */
     @Query("SELECT COUNT(p) > 0 FROM Pauta p WHERE p.titulo.valor = :titulo")
     boolean existsByTituloPauta(@Param("titulo") String titulo);
+
+    /**
+     * Lista as sessões abertas que ainda não foram encerradas, inclusive as que já passaram
+     * do fechamento.
+     * 
+     * @return sessões pendentes de encerramento
+     */
+    @Query("SELECT new com.henrique.votacao.repository.SessaoPendente(p.id, p.sessao.fechamentoEpochMs) " +
+            "FROM Pauta p WHERE p.sessao.fechamentoEpochMs IS NOT NULL " +
+            "AND (p.sessao.encerrada IS NULL OR p.sessao.encerrada = false)")
+    List<SessaoPendente> buscarSessoesPendentes();
 }
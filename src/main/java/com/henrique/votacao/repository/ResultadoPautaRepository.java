@@ -0,0 +1,16 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório dos resultados finais das pautas, indexados pelo ID da pauta.
+ * 
+ * @author Henrique
+ * @since 1.0
+ */
+@Repository
+public interface ResultadoPautaRepository extends JpaRepository<ResultadoPauta, Long> {
+}
@@ -0,0 +1,14 @@
+package com.henrique.votacao.repository;
+
+/**
+ * Projeção de uma pauta na listagem: só as colunas exibidas, sem a entidade.
+ *
+ * @param id ID da pauta (a chave da paginação)
+ * @param tituloPauta título da pauta
+ * @param fechamentoEpochMs fechamento da sessão, ou null se ela não foi aberta
+ * @param encerrada se a sessão já foi encerrada (pode ser null)
+ * @author Henrique
+ * @since 1.0
+ */
+public record ResumoPauta(long id, String tituloPauta, Long fechamentoEpochMs, Boolean encerrada) {
+}
@@ -0,0 +1,12 @@
+package com.henrique.votacao.repository;
+
+/**
+ * Projeção de uma sessão de votação que ainda não foi encerrada.
+ *
+ * @param pautaId ID da pauta
+ * @param fechamentoEpochMs fechamento da sessão, em milissegundos desde a época
+ * @author Henrique
+ * @since 1.0
+ */
+public record SessaoPendente(Long pautaId, Long fechamentoEpochMs) {
+}
@@ -0,0 +1,252 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.infrastructure.diario.RegistroVoto;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * Repositório JDBC para gravação de votos sem passar pelo contexto de persistência do JPA.
+ *
+ * <p>Usado nos caminhos de escrita de votos, onde o insert de cada voto pelo Hibernate
+ * (uma instrução e um flush por entidade) é o gargalo. Os votos chegam como {@link NovoVoto}, só
+ * com o ID da pauta, e os parâmetros são preenchidos direto no {@link PreparedStatement}, sem
+ * boxing dos números.
+ *
+ * <p>Os IDs saem da mesma sequência {@code voto_seq} da entidade, com a mesma estratégia do
+ * Hibernate (pooled-lo): cada {@code NEXT VALUE} reserva um bloco de IDs do tamanho do incremento
+ * da sequência, distribuído em memória. Os blocos não se sobrepõem aos do Hibernate. Dentro do
+ * bloco o ID sai de um {@link AtomicLong}, e a troca do bloco é um compare-and-set, sem lock: nenhuma
+ * thread espera outra enquanto ela vai ao banco.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Repository
+public class VotoJdbcRepository {
+
+    private static final int TAMANHO_BATCH = 1000;
+    private static final int TAMANHO_FETCH = 10_000;
+    private static final String INSERIR_VOTO = "INSERT INTO voto (id, cpf_id, escolha, pauta_id) VALUES (?, ?, ?, ?)";
+    private static final String PROXIMO_BLOCO = "SELECT NEXT VALUE FOR voto_seq";
+    private static final String INCREMENTO_SEQUENCIA =
+            "SELECT increment FROM information_schema.sequences WHERE UPPER(sequence_name) = 'VOTO_SEQ'";
+    private static final String JA_VOTOU = "SELECT COUNT(*) FROM voto WHERE pauta_id = ? AND cpf_id = ?";
+    private static final String CPFS_DA_PAUTA = "SELECT cpf_id FROM voto WHERE pauta_id = ?";
+    private static final String VOTOS_DESDE = "SELECT id, pauta_id, cpf_id, escolha FROM voto WHERE id > ? ORDER BY id";
+    private static final String VOTOS_DA_PAUTA =
+            "SELECT id, cpf_id, escolha FROM voto WHERE pauta_id = ? AND id >= ? ORDER BY pauta_id, id";
+    private static final String LEITURA_SOB_DEMANDA = "SET LAZY_QUERY_EXECUTION ";
+    private static final String MAIOR_ID = "SELECT COALESCE(MAX(id), 0) FROM voto";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicReference<Bloco> bloco = new AtomicReference<>(new Bloco(new AtomicLong(), 0));
+    private volatile long incremento;
+
+    public VotoJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere um voto se o CPF ainda não votou na pauta, em uma única instrução.
+     *
+     * <p>Não há consulta prévia: quem garante o voto único é a constraint {@code uk_cpf_pauta},
+     * inclusive entre requisições concorrentes do mesmo CPF.
+     *
+     * @param voto voto a ser gravado
+     * @return true se o voto foi gravado, false se o CPF já havia votado na pauta
+     * @throws DuplicateKeyException se a violação não for do voto único (colisão de ID, por exemplo)
+     */
+    public boolean inserirSeAusente(NovoVoto voto) {
+        try {
+            // O ID sai antes do insert: fora de transação, reservar um bloco usa outra conexão do pool
+            long id = proximoId();
+            jdbcTemplate.update(INSERIR_VOTO, ps -> preencher(ps, id, voto.pautaId(), voto.cpf(), voto.escolha()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return naoInseridoPorJaTerVotado(e, voto.pautaId(), voto.cpf());
+        }
+    }
+
+    /**
+     * Insere os votos em batches JDBC, em uma única transação: o lote é gravado ou descartado por inteiro.
+     *
+     * @param votos votos a serem gravados
+     * @throws org.springframework.dao.DuplicateKeyException se algum CPF já votou na pauta
+     */
+    @Transactional
+    public void inserirEmLote(List<NovoVoto> votos) {
+        jdbcTemplate.batchUpdate(INSERIR_VOTO, votos, TAMANHO_BATCH,
+                (ps, voto) -> preencher(ps, proximoId(), voto.pautaId(), voto.cpf(), voto.escolha()));
+    }
+
+    /**
+     * Percorre os CPFs que votaram na pauta sem materializar a lista em memória.
+     *
+     * @param pautaId ID da pauta
+     * @param consumidor recebe cada CPF como número
+     */
+    public void percorrerCpfsDaPauta(Long pautaId, LongConsumer consumidor) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(CPFS_DA_PAUTA);
+            statement.setFetchSize(TAMANHO_FETCH);
+            statement.setLong(1, pautaId);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumidor.accept(rs.getLong(1)));
+    }
+
+    /**
+     * Insere os votos do diário em batches JDBC, em uma única transação (modelo de leitura do modo diario).
+     *
+     * @param registros votos lidos do diário
+     * @throws org.springframework.dao.DuplicateKeyException se algum CPF já está na tabela para a pauta
+     */
+    @Transactional
+    public void inserirRegistrosEmLote(List<RegistroVoto> registros) {
+        jdbcTemplate.batchUpdate(INSERIR_VOTO, registros, TAMANHO_BATCH,
+                (ps, registro) -> preencher(ps, proximoId(), registro.pautaId(), registro.cpf(), registro.escolha()));
+    }
+
+    /**
+     * Insere um voto do diário se ele ainda não está na tabela.
+     *
+     * @param registro voto lido do diário
+     * @return true se o voto foi inserido
+     * @throws DuplicateKeyException se a violação não for do voto único (colisão de ID, por exemplo)
+     */
+    public boolean inserirRegistroSeAusente(RegistroVoto registro) {
+        try {
+            long id = proximoId();
+            jdbcTemplate.update(INSERIR_VOTO, ps -> preencher(ps, id, registro.pautaId(), registro.cpf(), registro.escolha()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return naoInseridoPorJaTerVotado(e, registro.pautaId(), registro.cpf());
+        }
+    }
+
+    /**
+     * Confirma que a violação foi do {@code uk_cpf_pauta}: a chave primária também gera
+     * {@link DuplicateKeyException}, e um voto recusado por ela seria perdido como se fosse repetido.
+     * A consulta só acontece na violação, fora do caminho do voto aceito.
+     *
+     * @return false, se o CPF já votou na pauta
+     * @throws DuplicateKeyException a exceção original, se o CPF ainda não votou
+     */
+    private boolean naoInseridoPorJaTerVotado(DuplicateKeyException e, long pautaId, long cpf) {
+        Long votos = jdbcTemplate.queryForObject(JA_VOTOU, Long.class, pautaId, cpf);
+        if (votos == null || votos == 0) {
+            throw e;
+        }
+        return false;
+    }
+
+    /**
+     * Percorre, na ordem do ID, os votos com ID maior que o informado, sem materializá-los em memória.
+     *
+     * @param id ID a partir do qual ler (0 para todos os votos)
+     * @param consumidor recebe ID, pauta, CPF e escolha de cada voto
+     */
+    public void percorrerVotosDesde(long id, ConsumidorVoto consumidor) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(VOTOS_DESDE);
+            statement.setLong(1, id);
+            statement.setFetchSize(TAMANHO_FETCH);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumidor.aceitar(
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), Escolha.valueOf(rs.getString(4))));
+    }
+
+    /**
+     * Percorre os votos de uma pauta em ordem de ID, a partir de um ID, com um cursor só de avanço
+     * e leitura em blocos de {@value #TAMANHO_FETCH} linhas, sem montar entidades.
+     *
+     * <p>Roda em uma transação só de leitura: alguns drivers (o do PostgreSQL, por exemplo) só
+     * respeitam o fetch size fora do auto-commit. O índice {@code idx_pauta_id_voto} entrega as
+     * linhas já na ordem do ID, sem ordenação, e a sessão do H2 lê as linhas sob demanda durante a
+     * consulta: sem isso, o H2 monta o resultado inteiro (em disco, acima de um limite) antes da
+     * primeira linha.
+     *
+     * @param pautaId ID da pauta
+     * @param aPartirDoId menor ID de voto incluído
+     * @param consumidor recebe cada voto, com o ID como marca
+     */
+    @Transactional(readOnly = true)
+    public void percorrerVotosDaPauta(long pautaId, long aPartirDoId, ConsumidorVoto consumidor) {
+        jdbcTemplate.execute(LEITURA_SOB_DEMANDA + "TRUE");
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(VOTOS_DA_PAUTA,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(TAMANHO_FETCH);
+                statement.setLong(1, pautaId);
+                statement.setLong(2, aPartirDoId);
+                return statement;
+            }, (RowCallbackHandler) rs -> consumidor.aceitar(
+                    rs.getLong(1), pautaId, rs.getLong(2), Escolha.valueOf(rs.getString(3))));
+        } finally {
+            // A conexão volta ao pool: as outras consultas seguem no modo padrão
+            jdbcTemplate.execute(LEITURA_SOB_DEMANDA + "FALSE");
+        }
+    }
+
+    /**
+     * @return maior ID da tabela {@code voto} (0 se vazia)
+     */
+    public long maiorId() {
+        Long maior = jdbcTemplate.queryForObject(MAIOR_ID, Long.class);
+        return maior != null ? maior : 0;
+    }
+
+    private static void preencher(PreparedStatement ps, long id, long pautaId, long cpf, Escolha escolha)
+            throws SQLException {
+        ps.setLong(1, id);
+        ps.setLong(2, cpf);
+        ps.setString(3, escolha.name());
+        ps.setLong(4, pautaId);
+    }
+
+    /**
+     * Próximo ID de voto: só vai ao banco quando o bloco reservado acaba. O tamanho do bloco é o
+     * incremento da sequência, lido no primeiro uso, como o Hibernate faz na subida.
+     *
+     * <p>Quem encontra o bloco esgotado reserva um bloco próprio, usa o primeiro ID e tenta instalar
+     * o resto no lugar do esgotado. Se outra thread instalou o dela antes, o resto deste bloco fica
+     * sem uso: só um buraco na sequência. Esperar em um lock a reserva de outra thread travava o pool:
+     * nos inserts em lote, quem espera já segura a conexão da transação, e quem reserva fora de
+     * transação precisa de outra conexão para ir ao banco.
+     */
+    private long proximoId() {
+        Bloco atual = bloco.get();
+        long id = atual.proximo().getAndIncrement();
+        if (id < atual.fim()) {
+            return id;
+        }
+
+        if (incremento == 0) {
+            incremento = jdbcTemplate.queryForObject(INCREMENTO_SEQUENCIA, Long.class);
+        }
+        long inicio = jdbcTemplate.queryForObject(PROXIMO_BLOCO, Long.class);
+        bloco.compareAndSet(atual, new Bloco(new AtomicLong(inicio + 1), inicio + incremento));
+        return inicio;
+    }
+
+    /**
+     * Bloco de IDs reservado na sequência: de {@code proximo} (inclusive) até {@code fim} (exclusive).
+     */
+    private record Bloco(AtomicLong proximo, long fim) {
+    }
+}
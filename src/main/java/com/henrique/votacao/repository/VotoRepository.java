@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repositório para operações de persistência de Voto.
  * 
@@ -18,16 +20,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface VotoRepository extends JpaRepository<Voto, Long> {
     
-    /**
-     * Verifica se já existe um voto do CPF informado na pauta.
-     * 
-     * @param cpfId CPF do associado
-     * @param pautaId ID da pauta
-     * @return true se já votou, false caso contrário
-     */
-    @Query("SELECT COUNT(v) > 0 FROM Voto v WHERE v.cpf.numero = :cpfId AND v.pauta.id = :pautaId")
-    boolean existsBycpfIdAndPautaId(@Param("cpfId") String cpfId, @Param("pautaId") Long pautaId);
-
     /**
      * Conta quantos votos foram registrados para uma pauta com determinada escolha.
      * 
@@ -36,4 +28,24 @@ public interface VotoRepository extends JpaRepository<Voto, Long> {
      * @return quantidade de votos
      */
     long countByPautaAndEscolha(Pauta pauta, Escolha escolha);
+
+    /**
+     * Conta os votos de todas as pautas, agrupados por pauta e escolha.
+     * Utilizado para reconstruir a apuração em memória na inicialização.
+     *
+     * @return contagens por pauta e escolha
+     */
+    @Query("SELECT new com.henrique.votacao.repository.ContagemVotos(v.pauta.id, v.escolha, COUNT(v)) " +
+            "FROM Voto v GROUP BY v.pauta.id, v.escolha")
+    List<ContagemVotos> contarAgrupadoPorPautaEEscolha();
+
+    /**
+     * Conta os votos de uma pauta, agrupados por escolha.
+     *
+     * @param pautaId ID da pauta
+     * @return contagens da pauta por escolha
+     */
+    @Query("SELECT new com.henrique.votacao.repository.ContagemVotos(v.pauta.id, v.escolha, COUNT(v)) " +
+            "FROM Voto v WHERE v.pauta.id = :pautaId GROUP BY v.pauta.id, v.escolha")
+    List<ContagemVotos> contarPorPautaAgrupadoPorEscolha(@Param("pautaId") Long pautaId);
 }
@@ -0,0 +1,225 @@
+package com.henrique.votacao.service;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.FonteVotos;
+import com.henrique.votacao.infrastructure.cache.CachePautas;
+import com.henrique.votacao.infrastructure.encerramento.RodaTemporizacao;
+import com.henrique.votacao.infrastructure.transmissao.TransmissaoResultados;
+import com.henrique.votacao.repository.ContagemVotos;
+import com.henrique.votacao.repository.PautaRepository;
+import com.henrique.votacao.repository.ResultadoPautaRepository;
+import com.henrique.votacao.repository.SessaoPendente;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encerra as sessões de votação no fechamento e grava o resultado final.
+ *
+ * <p>As sessões abertas ficam em uma {@link RodaTemporizacao}, ordenadas pelo fechamento. Uma
+ * thread avança a roda a cada {@code votacao.encerramento.tick-ms}; quando uma sessão vence, o
+ * resultado é apurado a partir da {@link FonteVotos} (a tabela {@code voto}, ou o diário de votos),
+ * gravado em {@code resultado_pauta} e a pauta é marcada como encerrada. A partir daí o resultado
+ * da pauta é lido pela chave, e quem acompanha o resultado por SSE recebe o resultado final.
+ *
+ * <p>O encerramento acontece {@code votacao.encerramento.carencia-ms} depois do fechamento, para
+ * que os votos aceitos até o último instante da sessão terminem de ser gravados antes da apuração.
+ *
+ * <p>Na inicialização, as sessões que venceram com a aplicação parada são encerradas e as demais
+ * voltam para a roda. Isso só acontece, e a roda só começa a girar, depois que a apuração em memória
+ * termina de ser recuperada: até lá a {@link FonteVotos} pode não ter todos os votos (no primeiro boot
+ * do modo {@code diario}, o diário ainda está sendo importado da tabela {@code voto}), e o resultado
+ * gravado seria definitivo.
+ */
+@Service
+public class EncerramentoSessaoService implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EncerramentoSessaoService.class);
+    private static final int BALDES_POR_NIVEL = 64;
+
+    private final PautaRepository pautaRepository;
+    private final FonteVotos fonteVotos;
+    private final ResultadoPautaRepository resultadoPautaRepository;
+    private final CachePautas cachePautas;
+    private final ApuracaoEmMemoria apuracao;
+    private final TransmissaoResultados transmissaoResultados;
+    private final Clock relogio;
+    private final long tickMs;
+    private final long carenciaMs;
+
+    // Sessões agendadas por outras threads; só a thread de encerramento mexe na roda
+    private final Queue<SessaoPendente> novasSessoes = new ConcurrentLinkedQueue<>();
+    private final RodaTemporizacao<Long> roda;
+
+    private ScheduledExecutorService executor;
+    private volatile boolean executando;
+
+    public EncerramentoSessaoService(PautaRepository pautaRepository, FonteVotos fonteVotos,
+                                     ResultadoPautaRepository resultadoPautaRepository, CachePautas cachePautas,
+                                     ApuracaoEmMemoria apuracao, TransmissaoResultados transmissaoResultados,
+                                     Clock relogio,
+                                     @Value("${votacao.encerramento.tick-ms:100}") long tickMs,
+                                     @Value("${votacao.encerramento.carencia-ms:2000}") long carenciaMs) {
+        this.pautaRepository = pautaRepository;
+        this.fonteVotos = fonteVotos;
+        this.resultadoPautaRepository = resultadoPautaRepository;
+        this.cachePautas = cachePautas;
+        this.apuracao = apuracao;
+        this.transmissaoResultados = transmissaoResultados;
+        this.relogio = relogio;
+        this.tickMs = tickMs;
+        this.carenciaMs = carenciaMs;
+        this.roda = new RodaTemporizacao<>(tickMs, BALDES_POR_NIVEL, relogio.millis());
+    }
+
+    /**
+     * Agenda o encerramento da sessão de uma pauta.
+     * @param pautaId ID da pauta
+     * @param fechamentoEpochMs fechamento da sessão, em milissegundos desde a época
+     */
+    public void agendar(Long pautaId, long fechamentoEpochMs) {
+        novasSessoes.add(new SessaoPendente(pautaId, fechamentoEpochMs));
+    }
+
+    /**
+     * Encerra a sessão da pauta e grava o resultado final. Não faz nada se a pauta não existe,
+     * não teve sessão aberta ou já foi encerrada.
+     * @param pautaId ID da pauta
+     * @return resultado gravado, ou null se a sessão não foi encerrada agora
+     */
+    public ResultadoPauta encerrar(Long pautaId) {
+        Pauta pauta = pautaRepository.findById(pautaId).orElse(null);
+        if (pauta == null || !pauta.temSessaoAberta() || pauta.sessaoEncerrada()) {
+            return null;
+        }
+
+        long sim = 0;
+        long nao = 0;
+        for (ContagemVotos contagem : fonteVotos.contarPorPauta(pautaId)) {
+            if (contagem.escolha() == Escolha.SIM) {
+                sim += contagem.total();
+            } else {
+                nao += contagem.total();
+            }
+        }
+
+        // O resultado é gravado antes da marca de encerrada: se a aplicação cair entre os dois,
+        // a sessão continua pendente e é apurada de novo na inicialização
+        ResultadoPauta resultado = resultadoPautaRepository.save(ResultadoPauta.apurar(pautaId, sim, nao, relogio.millis()));
+        pauta.encerrarSessao();
+        pautaRepository.save(pauta);
+
+        cachePautas.invalidar(pauta.getTituloPauta());
+        apuracao.liberarVotantes(pautaId);
+        transmissaoResultados.encerrar(pautaId, pauta.getTituloPauta(), resultado);
+
+        logger.info("Sessão encerrada: pautaId={}, titulo={}, sim={}, nao={}, status={}",
+                pautaId, pauta.getTituloPauta(), sim, nao, resultado.getStatus());
+        return resultado;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "encerramento-sessoes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::iniciar);
+        executando = true;
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Primeira tarefa da thread de encerramento: espera a recuperação da apuração, recupera as
+     * sessões e só então passa a avançar a roda.
+     */
+    private void iniciar() {
+        try {
+            apuracao.aguardarRecuperada();
+        } catch (InterruptedException e) {
+            return;
+        }
+        try {
+            recuperarSessoes();
+        } catch (RuntimeException e) {
+            // As sessões vencidas continuam pendentes no banco e são encerradas na próxima inicialização
+            logger.error("Falha ao recuperar as sessões na inicialização", e);
+        }
+        executor.scheduleWithFixedDelay(this::avancar, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Encerra as sessões que venceram com a aplicação parada e agenda as demais.
+     */
+    void recuperarSessoes() {
+        long agora = relogio.millis();
+        int encerradas = 0;
+        int agendadas = 0;
+
+        for (SessaoPendente sessao : pautaRepository.buscarSessoesPendentes()) {
+            if (sessao.fechamentoEpochMs() + carenciaMs < agora) {
+                encerrarSemFalhar(sessao.pautaId());
+                encerradas++;
+            } else {
+                agendar(sessao.pautaId(), sessao.fechamentoEpochMs());
+                agendadas++;
+            }
+        }
+
+        logger.info("Sessões recuperadas na inicialização: encerradas={}, agendadas={}", encerradas, agendadas);
+    }
+
+    /**
+     * Um passo da thread de encerramento: move as novas sessões para a roda, avança a roda até
+     * agora e encerra as sessões vencidas.
+     */
+    void avancar() {
+        List<Long> vencidas = new ArrayList<>();
+
+        SessaoPendente sessao;
+        while ((sessao = novasSessoes.poll()) != null) {
+            if (!roda.agendar(sessao.fechamentoEpochMs() + carenciaMs, sessao.pautaId())) {
+                vencidas.add(sessao.pautaId());
+            }
+        }
+        roda.avancar(relogio.millis(), vencidas::add);
+
+        vencidas.forEach(this::encerrarSemFalhar);
+    }
+
+    private void encerrarSemFalhar(Long pautaId) {
+        try {
+            encerrar(pautaId);
+        } catch (RuntimeException e) {
+            // A sessão continua pendente no banco e é encerrada na próxima inicialização
+            logger.error("Falha ao encerrar sessão: pautaId={}", pautaId, e);
+        }
+    }
+}
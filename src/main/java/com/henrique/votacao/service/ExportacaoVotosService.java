@@ -0,0 +1,148 @@
+package com.henrique.votacao.service;
+
+import com.henrique.votacao.domain.exception.PautaNaoEncontradaException;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.exception.BusinessException;
+import com.henrique.votacao.infrastructure.exportacao.EscritorVotos;
+import com.henrique.votacao.infrastructure.exportacao.FormatoExportacao;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Exportação da lista completa de votos de uma pauta, para auditoria.
+ *
+ * <p>Os votos vão do cursor JDBC para a saída da resposta linha a linha, sem entidades e sem
+ * acumular a lista: a memória não cresce com a quantidade de votos. Cada exportação segura uma
+ * conexão do pool até o fim, então no máximo {@code votacao.exportacao.max-simultaneas} rodam ao
+ * mesmo tempo; as demais recebem 503.
+ *
+ * <p>A retomada é pelo ID do voto: uma exportação interrompida continua a partir do ID seguinte ao
+ * da última linha completa recebida.
+ *
+ * @author Henrique
+ * @since 1.0
+ */
+@Service
+public class ExportacaoVotosService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacaoVotosService.class);
+
+    /** Unidade do cabeçalho {@code Range} na retomada: {@code Range: id=<primeiro ID>-} */
+    public static final String UNIDADE_INTERVALO = "id";
+
+    private final PautaService pautaService;
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final Semaphore exportacoes;
+
+    public ExportacaoVotosService(PautaService pautaService, VotoJdbcRepository votoJdbcRepository,
+                                  @Value("${votacao.exportacao.max-simultaneas:2}") int maxSimultaneas) {
+        this.pautaService = pautaService;
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.exportacoes = new Semaphore(maxSimultaneas);
+    }
+
+    /**
+     * Abre a saída e escreve nela os votos da pauta, em ordem de ID.
+     *
+     * <p>A pauta, o formato e a vaga de exportação são conferidos antes de a saída ser aberta, para
+     * que as recusas ainda possam virar uma resposta de erro comum.
+     *
+     * @param tituloPauta título da pauta
+     * @param formato "ndjson" ou "csv"
+     * @param aPartirDoId menor ID de voto exportado na retomada, ou null para exportar todos
+     * @param saida abre a saída da resposta, já com o status e os cabeçalhos definidos
+     * @return quantidade de votos exportados
+     * @throws PautaNaoEncontradaException quando a pauta não é encontrada
+     * @throws BusinessException quando o formato é desconhecido
+     * @throws ResponseStatusException 503 quando já há exportações demais em andamento
+     * @throws IOException quando a escrita na saída falha (por exemplo, o cliente desconectou)
+     */
+    public long exportarPorTitulo(String tituloPauta, String formato, Long aPartirDoId, SaidaExportacao saida)
+            throws IOException {
+        Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
+                .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
+        FormatoExportacao formatoExportacao = parseFormato(formato);
+
+        if (!exportacoes.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Exportações de votos em andamento demais");
+        }
+        try {
+            logger.info("Exportando votos: pautaID={}, formato={}, aPartirDoId={}", pauta.getId(), formatoExportacao, aPartirDoId);
+
+            OutputStream destino = saida.abrir(formatoExportacao);
+            // Na retomada o cabeçalho do CSV já está no arquivo do cliente
+            EscritorVotos escritor = new EscritorVotos(destino, formatoExportacao, aPartirDoId == null);
+            try {
+                votoJdbcRepository.percorrerVotosDaPauta(pauta.getId(), aPartirDoId != null ? aPartirDoId : 0, escritor);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            escritor.concluir();
+
+            logger.info("Votos exportados: pautaID={}, votos={}, ultimoId={}", pauta.getId(), escritor.getVotos(),
+                    escritor.getUltimoId());
+            return escritor.getVotos();
+        } finally {
+            exportacoes.release();
+        }
+    }
+
+    /**
+     * Lê o primeiro ID de um cabeçalho {@code Range: id=<primeiro ID>-}.
+     *
+     * @param intervalo valor do cabeçalho {@code Range}, ou null
+     * @return primeiro ID pedido, ou null se não há cabeçalho ou ele usa outra unidade (como bytes), que é ignorada
+     * @throws ResponseStatusException 416 quando o intervalo em IDs está malformado
+     */
+    public static Long inicioDoIntervalo(String intervalo) {
+        if (intervalo == null || !intervalo.regionMatches(true, 0, UNIDADE_INTERVALO + "=", 0, UNIDADE_INTERVALO.length() + 1)) {
+            return null;
+        }
+        String valor = intervalo.substring(UNIDADE_INTERVALO.length() + 1).trim();
+        long inicio;
+        try {
+            inicio = valor.endsWith("-") ? Long.parseLong(valor, 0, valor.length() - 1, 10) : 0;
+        } catch (NumberFormatException e) {
+            inicio = 0;
+        }
+        if (inicio < 1) {
+            throw new ResponseStatusException(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "Use Range: id=<primeiro ID>-");
+        }
+        return inicio;
+    }
+
+    private FormatoExportacao parseFormato(String formato) {
+        try {
+            return FormatoExportacao.valueOf(formato.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Formato inválido. Use ndjson ou csv.");
+        }
+    }
+
+    /**
+     * Abre a saída da exportação depois que ela foi aceita.
+     */
+    @FunctionalInterface
+    public interface SaidaExportacao {
+
+        /**
+         * @param formato formato aceito, para o tipo de conteúdo da resposta
+         * @return saída onde os votos serão escritos
+         * @throws IOException se a saída não puder ser aberta
+         */
+        OutputStream abrir(FormatoExportacao formato) throws IOException;
+    }
+}
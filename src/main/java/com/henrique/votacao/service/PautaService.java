@@ -2,15 +2,27 @@ package com.henrique.votacao.service;
 
 import com.henrique.votacao.domain.exception.PautaDuplicadaException;
 import com.henrique.votacao.domain.exception.PautaNaoEncontradaException;
+import com.henrique.votacao.application.dto.response.PautaPaginaResponseDTO;
 import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.StatusSessao;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.exception.BusinessException;
+import com.henrique.votacao.infrastructure.cache.CachePautas;
+import com.henrique.votacao.repository.PautaJdbcRepository;
 import com.henrique.votacao.repository.PautaRepository;
+import com.henrique.votacao.repository.ResumoPauta;
+
+import jakarta.persistence.EntityManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -18,10 +30,24 @@ public class PautaService {
 
     private static final Logger logger = LoggerFactory.getLogger(PautaService.class);
 
-    private final PautaRepository pautaRepository;
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
 
-    public PautaService(PautaRepository pautaRepository) {
+    private final PautaRepository pautaRepository;
+    private final PautaJdbcRepository pautaJdbcRepository;
+    private final CachePautas cachePautas;
+    private final EntityManager entityManager;
+    private final EncerramentoSessaoService encerramentoSessao;
+    private final Clock relogio;
+
+    public PautaService(PautaRepository pautaRepository, PautaJdbcRepository pautaJdbcRepository,
+                        CachePautas cachePautas, EntityManager entityManager,
+                        EncerramentoSessaoService encerramentoSessao, Clock relogio) {
         this.pautaRepository = pautaRepository;
+        this.pautaJdbcRepository = pautaJdbcRepository;
+        this.cachePautas = cachePautas;
+        this.entityManager = entityManager;
+        this.encerramentoSessao = encerramentoSessao;
+        this.relogio = relogio;
     }
 
     /**
@@ -37,12 +63,16 @@ public class PautaService {
             throw new PautaDuplicadaException(pauta.getTituloPauta());
         }
 
-        return pautaRepository.save(pauta);
+        Pauta criada = pautaRepository.save(pauta);
+        // Descarta uma busca anterior pelo título que tenha ficado em cache como inexistente
+        cachePautas.invalidar(criada.getTituloPauta());
+        return criada;
     }
 
     /**
      * Abre sessão de votação para uma pauta identificada pelo título.
-     * A duração padrão é de 1 minuto caso não seja informada.
+     * A duração padrão é de 1 minuto caso não seja informada. O encerramento da sessão é
+     * agendado no {@link EncerramentoSessaoService}.
      * @param titulo título da pauta
      * @param duracaoMinutos duração da sessão em minutos (opcional)
      * @return Pauta com sessão aberta (com abertura e fechamento definidos)
@@ -57,17 +87,75 @@ public class PautaService {
 
         logger.info("Abrindo sessão para pauta '{}' com duração {} minuto(s)", titulo, duracaoMinutos);
 
-        pauta.abrirSessao(duracaoMinutos);
+        pauta.abrirSessao(duracaoMinutos, relogio.millis());
 
-        return pautaRepository.save(pauta);
+        Pauta aberta = pautaRepository.save(pauta);
+        cachePautas.invalidar(titulo);
+        encerramentoSessao.agendar(aberta.getId(), aberta.getFechamentoEpochMs());
+        return aberta;
     }
 
     /**
-     * Busca uma pauta pelo título.
+     * Busca uma pauta pelo título, passando pelo {@link CachePautas}.
+     * A pauta retornada é compartilhada e não deve ser alterada.
      * @param titulo título da pauta
      * @return Optional com a pauta encontrada, ou vazio caso não exista
      */
     public Optional<Pauta> buscarPorTitulo(String titulo) {
-        return pautaRepository.findByTituloPauta(titulo);
+        return cachePautas.buscar(titulo, this::carregarPorTitulo);
+    }
+
+    /**
+     * Lista as pautas em ordem de criação (as abertas, em ordem de fechamento), paginadas por cursor:
+     * a próxima página começa depois da última pauta da anterior, então o custo de uma página não
+     * depende de quantas vieram antes.
+     * @param statusStr "SEM_SESSAO", "ABERTA", "ENCERRADA" ou null para todas
+     * @param cursor cursor recebido na página anterior, ou null na primeira
+     * @param tamanho quantidade de pautas por página (1 a {@value #TAMANHO_MAXIMO_PAGINA})
+     * @return página com as pautas e o cursor da próxima, se houver
+     * @throws BusinessException quando o status, o cursor ou o tamanho são inválidos
+     */
+    public PautaPaginaResponseDTO listarPautas(String statusStr, Long cursor, int tamanho) {
+        StatusSessao status = parseStatus(statusStr);
+        if (cursor != null && cursor < 0) {
+            throw new BusinessException("Cursor inválido.");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new BusinessException("Tamanho da página deve ser entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
+        }
+
+        long agora = relogio.millis();
+        // Uma pauta a mais só para saber se há próxima página
+        List<ResumoPauta> resumos = pautaJdbcRepository.listar(status, cursor != null ? cursor : 0, agora, tamanho + 1);
+        boolean haMais = resumos.size() > tamanho;
+        int quantidade = Math.min(resumos.size(), tamanho);
+
+        List<PautaPaginaResponseDTO.ItemDTO> pautas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            ResumoPauta resumo = resumos.get(i);
+            pautas.add(PautaPaginaResponseDTO.ItemDTO.criar(resumo.tituloPauta(),
+                    StatusSessao.de(resumo.fechamentoEpochMs(), resumo.encerrada(), agora), resumo.fechamentoEpochMs()));
+        }
+        Long proximoCursor = haMais ? resumos.get(quantidade - 1).id() : null;
+        return new PautaPaginaResponseDTO(pautas, proximoCursor);
+    }
+
+    private StatusSessao parseStatus(String statusStr) {
+        if (statusStr == null || statusStr.isBlank()) {
+            return null;
+        }
+        try {
+            return StatusSessao.valueOf(statusStr.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Status inválido. Use SEM_SESSAO, ABERTA ou ENCERRADA.");
+        }
+    }
+
+    private Optional<Pauta> carregarPorTitulo(String titulo) {
+        Optional<Pauta> pauta = pautaRepository.findByTituloPauta(titulo);
+        // A pauta vai para o cache: desanexa para que o contexto de persistência desta
+        // requisição não a altere depois (ex.: abrirSessao na mesma requisição)
+        pauta.ifPresent(entityManager::detach);
+        return pauta;
     }
 }
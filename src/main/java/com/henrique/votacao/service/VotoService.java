@@ -1,22 +1,41 @@
 package com.henrique.votacao.service;
 
-import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoPauta;
+import com.henrique.votacao.infrastructure.apuracao.PlacarPauta;
+import com.henrique.votacao.infrastructure.client.ElegibilidadeClient;
+import com.henrique.votacao.infrastructure.ingestao.GravadorVotos;
+import com.henrique.votacao.infrastructure.metricas.MetricasVotacao;
+import com.henrique.votacao.infrastructure.metricas.MetricasVotacao.Etapa;
+import com.henrique.votacao.infrastructure.transmissao.TransmissaoResultados;
 import com.henrique.votacao.domain.exception.*;
 import com.henrique.votacao.domain.model.associado.StatusVotacao;
 import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
 import com.henrique.votacao.domain.model.voto.Cpf;
 import com.henrique.votacao.domain.model.voto.Escolha;
-import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.application.dto.request.VotoRequestDTO;
 import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
+import com.henrique.votacao.application.dto.response.VotoLoteResponseDTO;
+import com.henrique.votacao.application.dto.response.VotoLoteResponseDTO.StatusVotoLote;
 import com.henrique.votacao.exception.BusinessException;
-import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.repository.ResultadoPautaRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class VotoService {
@@ -24,76 +43,243 @@ public class VotoService {
     private static final Logger logger = LoggerFactory.getLogger(VotoService.class);
 
     private final PautaService pautaService;
-    private final VotoRepository votoRepository;
-    private final CpfClientFake cpfClient;
+    private final GravadorVotos gravadorVotos;
+    private final ElegibilidadeClient elegibilidadeClient;
+    private final ApuracaoEmMemoria apuracao;
+    private final ResultadoPautaRepository resultadoPautaRepository;
+    private final TransmissaoResultados transmissaoResultados;
+    private final MetricasVotacao metricas;
+    private final Clock relogio;
 
-    public VotoService(PautaService pautaService, VotoRepository votoRepository, CpfClientFake cpfClient) {
+    public VotoService(PautaService pautaService, GravadorVotos gravadorVotos,
+                       ElegibilidadeClient elegibilidadeClient, ApuracaoEmMemoria apuracao,
+                       ResultadoPautaRepository resultadoPautaRepository, TransmissaoResultados transmissaoResultados,
+                       MetricasVotacao metricas, Clock relogio) {
         this.pautaService = pautaService;
-        this.votoRepository = votoRepository;
-        this.cpfClient = cpfClient;
+        this.gravadorVotos = gravadorVotos;
+        this.elegibilidadeClient = elegibilidadeClient;
+        this.apuracao = apuracao;
+        this.resultadoPautaRepository = resultadoPautaRepository;
+        this.transmissaoResultados = transmissaoResultados;
+        this.metricas = metricas;
+        this.relogio = relogio;
     }
 
     /**
-     * Registra um voto para uma pauta pelo título
+     * Registra um voto para uma pauta pelo título. O voto é gravado só com o ID da pauta, sem
+     * montar a entidade {@code Voto}
      * @param tituloPauta Título da pauta
      * @param cpfNumero CPF ou ID do associado
      * @param escolhaStr "SIM" ou "NAO"
      * @return Voto registrado
      * @throws PautaNaoEncontradaException quando a pauta não é encontrada
+     * @throws VotoDuplicadoException quando o associado já votou na pauta
      */
-    public Voto registrarVotoPorTitulo(String tituloPauta, String cpfNumero, String escolhaStr) {
+    public NovoVoto registrarVotoPorTitulo(String tituloPauta, String cpfNumero, String escolhaStr) {
+        try {
+            return registrarVoto(tituloPauta, cpfNumero, escolhaStr);
+        } catch (DomainException | BusinessException | ResponseStatusException e) {
+            metricas.rejeitar(e);
+            throw e;
+        }
+    }
+
+    private NovoVoto registrarVoto(String tituloPauta, String cpfNumero, String escolhaStr) {
+        long inicio = System.nanoTime();
+
+        // A verificação de elegibilidade não depende da pauta: começa antes e corre junto com a busca
+        // da pauta e a carga do índice de votantes. Os erros continuam na mesma ordem; se outra validação
+        // falhar, a resposta da verificação é descartada (não cancelada, pode ser compartilhada pelo cache)
+        CompletableFuture<StatusVotacao> elegibilidade = Cpf.valido(cpfNumero) ? elegibilidadeClient.verificar(cpfNumero) : null;
+
         Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
                 .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
+        metricas.medir(Etapa.VOTO_PAUTA, inicio);
 
         validarSessaoAberta(pauta);
-        validarVotoUnico(cpfNumero, pauta.getId());
-        validarCpf(cpfNumero);
 
-        Cpf cpf = new Cpf(cpfNumero);
+        Cpf cpf = parseCpf(cpfNumero);
+
+        // A apuração precisa ser obtida antes do insert (ver ApuracaoEmMemoria)
+        inicio = System.nanoTime();
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(pauta.getId());
+        validarVotoUnico(apuracaoPauta, cpf);
+        inicio = metricas.medir(Etapa.VOTO_VOTANTES, inicio);
+
+        // Mede só a espera: a verificação já vinha correndo desde o início do voto
+        validarCpf(cpfNumero, elegibilidade);
+        metricas.medir(Etapa.VOTO_ELEGIBILIDADE, inicio);
+
         Escolha escolha = parseEscolha(escolhaStr);
 
-        Voto voto = new Voto(cpf, escolha, pauta);
+        NovoVoto voto = new NovoVoto(pauta.getId(), cpf.getNumero(), escolha);
+
+        inicio = System.nanoTime();
+        gravadorVotos.gravar(voto);
+        apuracaoPauta.registrar(voto.cpf(), escolha);
+        metricas.medir(Etapa.VOTO_GRAVACAO, inicio);
+        metricas.registrarVotos(pauta, 1);
 
-        return votoRepository.save(voto);
+        return voto;
     }
 
     /**
-     * Calcula o resultado da pauta pelo título, incluindo porcentagem e aprovação/reprovação
+     * Registra um lote de votos para uma pauta pelo título.
+     *
+     * <p>A pauta e a sessão são verificadas uma única vez. Os votos com CPF ou escolha inválidos
+     * (um voto nulo no lote conta como CPF inválido), repetidos dentro do lote ou de associados que
+     * já votaram são rejeitados individualmente;
+     * a verificação de quem já votou é feita no índice de votantes em memória e os votos aceitos
+     * são gravados juntos pelo {@link GravadorVotos#gravarLote(List)}.
+     *
+     * <p>As verificações de elegibilidade correm em uma janela de metade das vagas do client
+     * ({@link ElegibilidadeClient#maxConcorrentes()}): um lote de milhares de votos não é recusado
+     * por falta de vaga e ainda sobram vagas para os votos avulsos. O voto cuja verificação falha
+     * fica {@code INDISPONIVEL}, sem derrubar o lote.
      * @param tituloPauta Título da pauta
-     * @return Resultado da votação
+     * @param votos votos do lote
+     * @return status de cada voto, na ordem do lote
      * @throws PautaNaoEncontradaException quando a pauta não é encontrada
+     * @throws SessaoNaoAbertaException se a sessão não foi aberta
+     * @throws SessaoFechadaException se a sessão já foi fechada
      */
-    public ResultadoVotacaoResponseDTO calcularResultadoPorTitulo(String tituloPauta) {
+    public VotoLoteResponseDTO registrarVotosEmLote(String tituloPauta, List<VotoRequestDTO> votos) {
         Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
                 .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
 
-        long votosSim = votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM);
-        long votosNao = votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO);
+        validarSessaoAberta(pauta);
 
-        long totalVotos = votosSim + votosNao;
+        StatusVotoLote[] status = new StatusVotoLote[votos.size()];
+        Map<String, Integer> candidatos = new HashMap<>();
+        Escolha[] escolhas = new Escolha[votos.size()];
 
-        if (totalVotos == 0) {
-            return new ResultadoVotacaoResponseDTO("Nenhum voto registrado para a pauta '" + pauta.getTituloPauta() + "'"
-                    , new ResultadoVotacaoResponseDTO.ResultadoDTO(0,0,"SEM_VOTOS"));
+        for (int i = 0; i < votos.size(); i++) {
+            VotoRequestDTO item = votos.get(i);
+            if (item == null || !Cpf.valido(item.cpf())) {
+                status[i] = StatusVotoLote.CPF_INVALIDO;
+            } else if ((escolhas[i] = parseEscolhaOuNulo(item.escolha())) == null) {
+                status[i] = StatusVotoLote.ESCOLHA_INVALIDA;
+            } else if (candidatos.putIfAbsent(item.cpf(), i) != null) {
+                status[i] = StatusVotoLote.DUPLICADO;
+            }
         }
 
-        double percSim = (int) ((votosSim * 100) / totalVotos);
-        double percNao = (int) ((votosNao * 100) / totalVotos);
+        // A apuração precisa ser obtida antes do insert (ver ApuracaoEmMemoria)
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(pauta.getId());
 
-        String statusFinal;
+        Cpf[] cpfs = new Cpf[votos.size()];
+        List<Integer> pendentes = new ArrayList<>();
+        for (int i = 0; i < votos.size(); i++) {
+            if (status[i] != null) {
+                continue;
+            }
+            cpfs[i] = new Cpf(votos.get(i).cpf());
+            if (apuracaoPauta.jaVotou(cpfs[i].getNumero())) {
+                status[i] = StatusVotoLote.DUPLICADO;
+            } else {
+                pendentes.add(i);
+            }
+        }
+
+        // Cada verificação aguardada libera a vaga para a próxima da janela
+        int janela = Math.max(1, elegibilidadeClient.maxConcorrentes() / 2);
+        List<CompletableFuture<StatusVotacao>> verificacoes = new ArrayList<>(pendentes.size());
+        for (int k = 0; k < Math.min(janela, pendentes.size()); k++) {
+            verificacoes.add(elegibilidadeClient.verificar(cpfs[pendentes.get(k)].toString()));
+        }
 
-        if (votosSim > votosNao) {
-            statusFinal = "APROVADA";
-        } else if (votosNao > votosSim) {
-            statusFinal = "REPROVADA";
-        } else {
-            statusFinal = "EMPATE";
+        List<NovoVoto> aceitos = new ArrayList<>();
+        List<Integer> indicesAceitos = new ArrayList<>();
+        for (int k = 0; k < pendentes.size(); k++) {
+            int i = pendentes.get(k);
+            StatusVotacao elegibilidade = aguardarNoLote(verificacoes.get(k));
+            if (k + janela < pendentes.size()) {
+                verificacoes.add(elegibilidadeClient.verificar(cpfs[pendentes.get(k + janela)].toString()));
+            }
+            if (elegibilidade == null) {
+                status[i] = StatusVotoLote.INDISPONIVEL;
+            } else if (elegibilidade != StatusVotacao.ABLE_TO_VOTE) {
+                status[i] = StatusVotoLote.NAO_AUTORIZADO;
+            } else {
+                aceitos.add(new NovoVoto(pauta.getId(), cpfs[i].getNumero(), escolhas[i]));
+                indicesAceitos.add(i);
+            }
         }
 
-        return new ResultadoVotacaoResponseDTO(
-                pauta.getTituloPauta(),
-                new ResultadoVotacaoResponseDTO.ResultadoDTO(percSim, percNao, statusFinal)
-        );
+        boolean[] gravados = aceitos.isEmpty() ? new boolean[0] : gravadorVotos.gravarLote(aceitos);
+
+        List<VotoLoteResponseDTO.ItemDTO> itens = new ArrayList<>(votos.size());
+        int totalAceitos = 0;
+        for (int j = 0; j < aceitos.size(); j++) {
+            int i = indicesAceitos.get(j);
+            if (gravados[j]) {
+                apuracaoPauta.registrar(aceitos.get(j).cpf(), escolhas[i]);
+                status[i] = StatusVotoLote.ACEITO;
+                totalAceitos++;
+            } else {
+                status[i] = StatusVotoLote.DUPLICADO;
+            }
+        }
+        for (int i = 0; i < votos.size(); i++) {
+            VotoRequestDTO item = votos.get(i);
+            itens.add(new VotoLoteResponseDTO.ItemDTO(item != null ? item.cpf() : null, status[i]));
+        }
+
+        metricas.registrarVotos(pauta, totalAceitos);
+
+        logger.info("Lote de votos processado: titulo={}, recebidos={}, aceitos={}",
+                tituloPauta, votos.size(), totalAceitos);
+
+        return new VotoLoteResponseDTO(pauta.getTituloPauta(), totalAceitos, votos.size() - totalAceitos, itens);
+    }
+
+    /**
+     * Calcula o resultado da pauta pelo título, incluindo porcentagem e aprovação/reprovação.
+     * Pautas com a sessão encerrada têm o resultado final lido de {@code resultado_pauta}
+     * @param tituloPauta Título da pauta
+     * @return Resultado da votação
+     * @throws PautaNaoEncontradaException quando a pauta não é encontrada
+     */
+    public ResultadoVotacaoResponseDTO calcularResultadoPorTitulo(String tituloPauta) {
+        long inicio = System.nanoTime();
+        Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
+                .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
+        inicio = metricas.medir(Etapa.RESULTADO_PAUTA, inicio);
+
+        ResultadoPauta resultado = pauta.sessaoEncerrada()
+                ? resultadoPautaRepository.findById(pauta.getId()).orElseGet(() -> apurarPlacar(pauta))
+                : apurarPlacar(pauta);
+        metricas.medir(Etapa.RESULTADO_APURACAO, inicio);
+
+        return ResultadoVotacaoResponseDTO.criar(pauta.getTituloPauta(), resultado);
+    }
+
+    /**
+     * Inscreve uma conexão SSE no resultado da pauta. Recebe o placar a cada mudança e o resultado
+     * final quando a sessão é encerrada
+     * @param tituloPauta Título da pauta
+     * @return Emitter da conexão
+     * @throws PautaNaoEncontradaException quando a pauta não é encontrada
+     */
+    public SseEmitter acompanharResultadoPorTitulo(String tituloPauta) {
+        Pauta pauta = pautaService.buscarPorTitulo(tituloPauta)
+                .orElseThrow(() -> new PautaNaoEncontradaException(tituloPauta));
+
+        ResultadoPauta resultadoFinal = pauta.sessaoEncerrada()
+                ? resultadoPautaRepository.findById(pauta.getId()).orElse(null)
+                : null;
+
+        return transmissaoResultados.inscrever(pauta.getId(), pauta.getTituloPauta(), resultadoFinal);
+    }
+
+    /**
+     * Apura o resultado parcial a partir do placar em memória, sem gravá-lo
+     * @param pauta Pauta
+     * @return Resultado parcial
+     */
+    private ResultadoPauta apurarPlacar(Pauta pauta) {
+        PlacarPauta placar = apuracao.placar(pauta.getId());
+        return ResultadoPauta.apurar(pauta.getId(), placar.getSim(), placar.getNao(), relogio.millis());
     }
 
     /**
@@ -107,35 +293,89 @@ public class VotoService {
             throw new SessaoNaoAbertaException();
         }
 
-        if (!pauta.podeReceberVoto()) {
+        if (!pauta.podeReceberVoto(relogio.millis())) {
+            // Nenhum voto novo será aceito: o índice de votantes não é mais necessário
+            apuracao.liberarVotantes(pauta.getId());
             throw new SessaoFechadaException();
         }
     }
 
     /**
-     * Verifica se o associado já votou na pauta
+     * Verifica, no índice de votantes em memória, se o associado já votou na pauta
+     * @param apuracaoPauta Apuração da Pauta
      * @param cpf CPF do Associado
-     * @param pautaId Id da Pauta
      * @throws VotoDuplicadoException se o associado já votou
      */
-    private void validarVotoUnico(String cpf, Long pautaId) {
-        if (votoRepository.existsBycpfIdAndPautaId(cpf, pautaId)) {
-            throw new VotoDuplicadoException(cpf);
+    private void validarVotoUnico(ApuracaoPauta apuracaoPauta, Cpf cpf) {
+        if (apuracaoPauta.jaVotou(cpf.getNumero())) {
+            throw new VotoDuplicadoException();
         }
     }
 
     /**
-     * Valida o CPF do associado usando o Client Fake
+     * Valida o CPF do associado com a resposta do serviço de elegibilidade
      * @param cpf CPF do associado
+     * @param elegibilidade verificação já iniciada para o CPF
      * @throws AssociadoNaoAutorizadoException quando o associado não está autorizado a votar
      */
-    private void validarCpf(String cpf) {
-        Map<String, String> resposta = cpfClient.verificarCpf();
-        String status = resposta.get("status");
+    private void validarCpf(String cpf, CompletableFuture<StatusVotacao> elegibilidade) {
+        if (aguardar(elegibilidade) != StatusVotacao.ABLE_TO_VOTE) {
+            // A recusa já é registrada (com limite) pelo GlobalExceptionHandler; o CPF só em debug
+            logger.debug("Associado não autorizado a votar: cpf={}", cpf);
+            throw new AssociadoNaoAutorizadoException();
+        }
+    }
 
-        if (!"ABLE_TO_VOTE".equalsIgnoreCase(status)) {
-            logger.warn("Associado não autorizado a votar: cpf={}, status={}", cpf, status);
-            throw new AssociadoNaoAutorizadoException(cpf);
+    /**
+     * Aguarda a verificação de elegibilidade. O timeout fica a cargo do client; a falha
+     * é relançada sem o {@link CompletionException} que a envolve.
+     */
+    private static StatusVotacao aguardar(CompletableFuture<StatusVotacao> verificacao) {
+        try {
+            return verificacao.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Aguarda a verificação de um voto do lote.
+     *
+     * @return status do associado, ou null se o serviço de elegibilidade estiver indisponível
+     */
+    private static StatusVotacao aguardarNoLote(CompletableFuture<StatusVotacao> verificacao) {
+        try {
+            return aguardar(verificacao);
+        } catch (ResponseStatusException e) {
+            return null;
+        }
+    }
+
+    private Escolha parseEscolhaOuNulo(String escolhaStr) {
+        if (escolhaStr == null) {
+            return null;
+        }
+        try {
+            return parseEscolha(escolhaStr);
+        } catch (BusinessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converte String para o Value Object Cpf
+     * @param cpfNumero CPF com 11 dígitos
+     * @return CPF validado, incluindo os dígitos verificadores
+     * @throws BusinessException retorna a mensagem da validação do CPF
+     */
+    private Cpf parseCpf(String cpfNumero) {
+        try {
+            return new Cpf(cpfNumero);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage());
         }
     }
 
@@ -0,0 +1,7 @@
+-- CPF passa a ser guardado como número (BIGINT) em vez de VARCHAR(11).
+-- Em bancos novos a tabela ainda não existe e é criada pelo Hibernate já com o tipo certo.
+
+-- idx_cpf_pauta tinha as mesmas colunas de uk_cpf_pauta, que já cria o seu índice
+DROP INDEX IF EXISTS idx_cpf_pauta;
+
+ALTER TABLE IF EXISTS voto ALTER COLUMN IF EXISTS cpf_id SET DATA TYPE BIGINT;
@@ -1,35 +1,62 @@
 package com.henrique.votacao.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
 import com.henrique.votacao.domain.model.pauta.Pauta;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.application.dto.request.VotoLoteRequestDTO;
 import com.henrique.votacao.application.dto.request.VotoRequestDTO;
+import com.henrique.votacao.service.EncerramentoSessaoService;
 import com.henrique.votacao.service.PautaService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @Transactional
 class PautaControllerIntegrationTest {
 
@@ -42,11 +69,21 @@ class PautaControllerIntegrationTest {
     @Autowired
     private PautaService pautaService;
 
+    @Autowired
+    private EncerramentoSessaoService encerramentoSessao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockitoBean
     private CpfClientFake cpfClient;
 
     private Pauta pauta;
     private static final int TOTAL_VOTOS = 1000;
+    private static final int TOTAL_VOTOS_LOTE = 20000;
 
     @BeforeEach
     void setup() {
@@ -55,14 +92,13 @@ class PautaControllerIntegrationTest {
         pauta = pautaService.criarPauta(pauta);
         pautaService.abrirSessao(pauta.getTituloPauta(), 5);
 
-        when(cpfClient.verificarCpf())
-                .thenReturn(Map.of("status", "ABLE_TO_VOTE"));
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
     }
 
     @Test
     void votar_cenario200_deveRetornar200() throws Exception {
         // ACCT
-        String cpfValido = "12345678901";
+        String cpfValido = "12345678909";
 
         // ARRANGE
         VotoRequestDTO request = new VotoRequestDTO(cpfValido, "SIM");
@@ -77,13 +113,12 @@ class PautaControllerIntegrationTest {
     @Test
     void votar_cenario401_deveRetornar401() throws Exception {
         // ACT
-        String cpfInvalido = "00000000000";
+        String cpfNaoAutorizado = "12345678909";
 
-        when(cpfClient.verificarCpf())
-                .thenReturn(Map.of("status", "UNABLE_TO_VOTE"));
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.UNABLE_TO_VOTE));
 
         // ARRANGE
-        VotoRequestDTO request = new VotoRequestDTO(cpfInvalido, "SIM");
+        VotoRequestDTO request = new VotoRequestDTO(cpfNaoAutorizado, "SIM");
 
         // ASSERT
         mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos")
@@ -92,11 +127,24 @@ class PautaControllerIntegrationTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void votar_cenario400_digitoVerificadorInvalido_deveRecusarNaValidacao() throws Exception {
+        // ARRANGE - pauta inexistente: a recusa vem da validação da requisição, antes da busca da pauta
+        VotoRequestDTO request = new VotoRequestDTO("12345678900", "SIM");
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/v1/pautas/Pauta Inexistente/votos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.cpf").value("O CPF deve conter 11 números e dígitos verificadores válidos"));
+    }
+
     @Test
     void testeVotosMassivos() throws Exception {
         long startTime = System.currentTimeMillis();
         IntStream.range(0, TOTAL_VOTOS).forEach(i -> {
-            String cpf = String.format("%011d", i);
+            String cpf = Cpf.daBase(i + 1).toString();
             VotoRequestDTO request = new VotoRequestDTO(cpf, "SIM");
 
             try {
@@ -112,4 +160,266 @@ class PautaControllerIntegrationTest {
         long endTime = System.currentTimeMillis();
         System.out.println("Tempo total para " + TOTAL_VOTOS + " votos: " + (endTime - startTime) + "ms");
     }
+
+    @Test
+    void votarEmLote_cenario200_deveRetornarStatusPorVoto() throws Exception {
+        // ARRANGE
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequestDTO("12345678909", "SIM"))))
+                .andExpect(status().isCreated());
+
+        VotoLoteRequestDTO request = new VotoLoteRequestDTO(List.of(
+                new VotoRequestDTO("98765432100", "SIM"),
+                new VotoRequestDTO("12345678909", "NAO"),
+                new VotoRequestDTO("98765432100", "NAO"),
+                new VotoRequestDTO("123", "SIM")));
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceitos").value(1))
+                .andExpect(jsonPath("$.rejeitados").value(3))
+                .andExpect(jsonPath("$.votos[0].status").value("ACEITO"))
+                .andExpect(jsonPath("$.votos[1].status").value("DUPLICADO"))
+                .andExpect(jsonPath("$.votos[2].status").value("DUPLICADO"))
+                .andExpect(jsonPath("$.votos[3].status").value("CPF_INVALIDO"));
+    }
+
+    @Test
+    void votarEmLote_votoNuloNoLote_deveRejeitarSoOVotoNulo() throws Exception {
+        // ARRANGE
+        String corpo = "{\"votos\":[null,{\"cpf\":\"12345678909\",\"escolha\":\"SIM\"}]}";
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceitos").value(1))
+                .andExpect(jsonPath("$.rejeitados").value(1))
+                .andExpect(jsonPath("$.votos[0].status").value("CPF_INVALIDO"))
+                .andExpect(jsonPath("$.votos[1].status").value("ACEITO"));
+    }
+
+    @Test
+    void votarEmLote_cenario400_loteVazio() throws Exception {
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoLoteRequestDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testeVotosMassivosEmLote() throws Exception {
+        List<VotoRequestDTO> votos = IntStream.range(0, TOTAL_VOTOS_LOTE)
+                .mapToObj(i -> new VotoRequestDTO(Cpf.daBase(i + 1).toString(), i % 2 == 0 ? "SIM" : "NAO"))
+                .toList();
+        String body = objectMapper.writeValueAsString(new VotoLoteRequestDTO(votos));
+
+        long startTime = System.currentTimeMillis();
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceitos").value(TOTAL_VOTOS_LOTE));
+
+        long endTime = System.currentTimeMillis();
+        System.out.println("Tempo total para lote de " + TOTAL_VOTOS_LOTE + " votos: " + (endTime - startTime) + "ms");
+    }
+
+    @Test
+    void prometheus_aposVoto_deveExporMetricasDasEtapas() throws Exception {
+        // ARRANGE
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequestDTO("98765432100", "SIM"))))
+                .andExpect(status().isCreated());
+
+        // ACT + ASSERT
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("votacao_votos_registrados_total")))
+                .andExpect(content().string(containsString("votacao_etapa_seconds_bucket{etapa=\"gravacao\",operacao=\"voto\"")));
+    }
+
+    @Test
+    void readiness_aposRecuperacaoDaApuracao_deveEstarUp() throws Exception {
+        // ACT + ASSERT
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void exportarVotos_ndjson_deveRetornarTodosOsVotosEmOrdemDeId() throws Exception {
+        // ARRANGE
+        votarEmLote("12345678909", "98765432100", "11144477735");
+
+        // ACT
+        List<JsonNode> linhas = exportarNdjson();
+
+        // ASSERT
+        assertEquals(3, linhas.size());
+        assertEquals(List.of("12345678909", "98765432100", "11144477735"),
+                linhas.stream().map(linha -> linha.get("cpf").asText()).toList());
+        assertEquals(List.of("SIM", "NAO", "SIM"), linhas.stream().map(linha -> linha.get("escolha").asText()).toList());
+        assertTrue(linhas.get(0).get("id").asLong() < linhas.get(1).get("id").asLong());
+        assertTrue(linhas.get(1).get("id").asLong() < linhas.get(2).get("id").asLong());
+    }
+
+    @Test
+    void exportarVotos_csvComGzip_deveCompactarERetornarCabecalho() throws Exception {
+        // ARRANGE
+        votarEmLote("12345678909", "98765432100");
+
+        // ACT
+        MvcResult resultado = mockMvc.perform(get("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/export")
+                        .param("format", "csv")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "id"))
+                .andReturn();
+
+        // ASSERT
+        String csv;
+        try (GZIPInputStream entrada = new GZIPInputStream(
+                new ByteArrayInputStream(resultado.getResponse().getContentAsByteArray()))) {
+            csv = new String(entrada.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+        String[] linhas = csv.split("\n");
+        assertEquals(3, linhas.length);
+        assertEquals("id,cpf,escolha", linhas[0]);
+        assertTrue(linhas[1].endsWith(",12345678909,SIM"));
+        assertTrue(linhas[2].endsWith(",98765432100,NAO"));
+    }
+
+    @Test
+    void exportarVotos_comRangeDeId_deveRetomarAPartirDoIdSemCabecalho() throws Exception {
+        // ARRANGE
+        votarEmLote("12345678909", "98765432100", "11144477735");
+        List<JsonNode> completa = exportarNdjson();
+        long segundoId = completa.get(1).get("id").asLong();
+        long terceiroId = completa.get(2).get("id").asLong();
+
+        // ACT + ASSERT
+        String csv = mockMvc.perform(get("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/export")
+                        .param("format", "csv")
+                        .header(HttpHeaders.RANGE, "id=" + segundoId + "-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "id " + segundoId + "-*"))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(segundoId + ",98765432100,NAO\n" + terceiroId + ",11144477735,SIM\n", csv);
+    }
+
+    @Test
+    void exportarVotos_formatoOuRangeInvalidos_deveRecusar() throws Exception {
+        // ACT + ASSERT
+        mockMvc.perform(get("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/export").header(HttpHeaders.RANGE, "id=abc-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+        mockMvc.perform(get("/api/v1/pautas/Pauta Inexistente/votos/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listarPautas_porStatusPaginandoPorCursor_deveTrazerCadaPautaUmaVez() throws Exception {
+        // ARRANGE - a pauta do setup está com a sessão aberta por 5 minutos
+        Pauta semSessao = pautaService.criarPauta(new Pauta(new TituloPauta("Lista Sem Sessao " + System.nanoTime())));
+        Pauta encerrada = pautaService.criarPauta(new Pauta(new TituloPauta("Lista Encerrada " + System.nanoTime())));
+        pautaService.abrirSessao(encerrada.getTituloPauta(), 5);
+        encerramentoSessao.encerrar(encerrada.getId());
+        Pauta abertaDepois = pautaService.criarPauta(new Pauta(new TituloPauta("Lista Aberta " + System.nanoTime())));
+        pautaService.abrirSessao(abertaDepois.getTituloPauta(), 10);
+        Pauta vencida = pautaService.criarPauta(new Pauta(new TituloPauta("Lista Vencida " + System.nanoTime())));
+        pautaService.abrirSessao(vencida.getTituloPauta(), 5);
+        // A listagem lê por JDBC: os inserts pendentes do Hibernate precisam chegar ao banco
+        entityManager.flush();
+        // Passou do fechamento, mas o encerramento ainda não a marcou
+        jdbcTemplate.update("UPDATE pauta SET fechamento_epoch_ms = ? WHERE id = ?",
+                System.currentTimeMillis() - 1000, vencida.getId());
+
+        // ACT
+        Map<String, String> todas = listarTodasAsPaginas(null);
+        Map<String, String> abertas = listarTodasAsPaginas("ABERTA");
+        Map<String, String> semSessaoListadas = listarTodasAsPaginas("SEM_SESSAO");
+        Map<String, String> encerradas = listarTodasAsPaginas("ENCERRADA");
+
+        // ASSERT
+        assertEquals("SEM_SESSAO", todas.get(semSessao.getTituloPauta()));
+        assertEquals("ABERTA", todas.get(pauta.getTituloPauta()));
+        assertEquals("ENCERRADA", todas.get(encerrada.getTituloPauta()));
+        assertEquals("ENCERRADA", todas.get(vencida.getTituloPauta()));
+        assertTrue(semSessaoListadas.containsKey(semSessao.getTituloPauta()));
+        assertTrue(encerradas.containsKey(encerrada.getTituloPauta()));
+        assertTrue(encerradas.containsKey(vencida.getTituloPauta()));
+        // Abertas em ordem de fechamento
+        List<String> titulosAbertas = new ArrayList<>(abertas.keySet());
+        assertTrue(titulosAbertas.indexOf(pauta.getTituloPauta()) >= 0);
+        assertTrue(titulosAbertas.indexOf(pauta.getTituloPauta()) < titulosAbertas.indexOf(abertaDepois.getTituloPauta()));
+        assertTrue(abertas.values().stream().allMatch("ABERTA"::equals));
+        assertTrue(semSessaoListadas.values().stream().allMatch("SEM_SESSAO"::equals));
+        assertTrue(encerradas.values().stream().allMatch("ENCERRADA"::equals));
+        assertEquals(todas.size(), abertas.size() + semSessaoListadas.size() + encerradas.size());
+    }
+
+    @Test
+    void listarPautas_statusInvalido_deveRetornar400() throws Exception {
+        // ACT + ASSERT
+        mockMvc.perform(get("/api/v1/pautas").param("status", "FECHADA"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/pautas").param("tamanho", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Map<String, String> listarTodasAsPaginas(String status) throws Exception {
+        Map<String, String> pautas = new LinkedHashMap<>();
+        String cursor = null;
+        do {
+            var requisicao = get("/api/v1/pautas").param("tamanho", "2");
+            if (status != null) {
+                requisicao.param("status", status);
+            }
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            JsonNode pagina = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            for (JsonNode item : pagina.get("pautas")) {
+                // Cada pauta aparece em uma única página
+                assertNull(pautas.put(item.get("tituloPauta").asText(), item.get("status").asText()));
+            }
+            cursor = pagina.get("proximoCursor").isNull() ? null : pagina.get("proximoCursor").asText();
+        } while (cursor != null);
+        return pautas;
+    }
+
+    private void votarEmLote(String... cpfs) throws Exception {
+        List<VotoRequestDTO> votos = IntStream.range(0, cpfs.length)
+                .mapToObj(i -> new VotoRequestDTO(cpfs[i], i % 2 == 0 ? "SIM" : "NAO"))
+                .toList();
+        mockMvc.perform(post("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoLoteRequestDTO(votos))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceitos").value(cpfs.length));
+    }
+
+    private List<JsonNode> exportarNdjson() throws Exception {
+        String corpo = mockMvc.perform(get("/api/v1/pautas/" + pauta.getTituloPauta() + "/votos/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> linhas = new ArrayList<>();
+        for (String linha : corpo.split("\n")) {
+            linhas.add(objectMapper.readTree(linha));
+        }
+        return linhas;
+    }
 }
@@ -0,0 +1,76 @@
+package com.henrique.votacao.controller;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.service.PautaService;
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Primeira rajada de votos em uma pauta nova com um pool de conexões menor que a concorrência.
+ *
+ * <p>Na primeira rajada várias requisições carregam o placar (consulta JPA) e esperam o índice de
+ * votantes, que é carregado por JDBC. Nenhuma requisição pode segurar a conexão da consulta JPA
+ * enquanto espera, senão o pool se esgota e o carregamento do índice fica sem conexão.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.hikari.maximum-pool-size=2", "spring.datasource.hikari.connection-timeout=3000"})
+@ActiveProfiles("test")
+class PautaControllerPoolConexoesTest {
+
+    private static final int REQUISICOES = 50;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @RepeatedTest(5)
+    void votar_primeiraRajadaEmPautaNova_naoDeveEsgotarPoolDeConexoes() {
+        // ARRANGE
+        Pauta pauta = pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Pool " + System.nanoTime())));
+        pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+        URI uri = URI.create("http://localhost:" + porta + "/api/v1/pautas/"
+                + URLEncoder.encode(pauta.getTituloPauta(), StandardCharsets.UTF_8).replace("+", "%20") + "/votos");
+        List<Integer> status = new CopyOnWriteArrayList<>();
+
+        // ACT
+        try (HttpClient cliente = HttpClient.newHttpClient()) {
+            List<CompletableFuture<Void>> respostas = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                String corpo = "{\"cpf\":\"" + Cpf.daBase(i + 1) + "\",\"escolha\":\"SIM\"}";
+                HttpRequest requisicao = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                        .build();
+                respostas.add(cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                        .thenAccept(resposta -> status.add(resposta.statusCode())));
+            }
+            CompletableFuture.allOf(respostas.toArray(CompletableFuture[]::new)).join();
+        }
+
+        // ASSERT - 201 (autorizado) ou 401 (não autorizado pelo client fake); 500 indica pool esgotado
+        assertEquals(REQUISICOES, status.size());
+        assertTrue(status.stream().allMatch(codigo -> codigo == 201 || codigo == 401), "status inesperado: " + status);
+    }
+}
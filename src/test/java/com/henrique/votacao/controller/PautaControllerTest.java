@@ -3,11 +3,12 @@ package com.henrique.votacao.controller;
 import com.henrique.votacao.domain.model.voto.Escolha;
 import com.henrique.votacao.domain.model.pauta.Pauta;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
-import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
 import com.henrique.votacao.domain.model.voto.Cpf;
 import com.henrique.votacao.domain.exception.*;
 import com.henrique.votacao.application.dto.request.*;
 import com.henrique.votacao.application.dto.response.*;
+import com.henrique.votacao.service.ExportacaoVotosService;
 import com.henrique.votacao.service.PautaService;
 import com.henrique.votacao.service.VotoService;
 
@@ -19,6 +20,8 @@ import org.mockito.Mockito;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -30,13 +33,15 @@ class PautaControllerTest {
 
     private PautaService pautaService;
     private VotoService votoService;
+    private ExportacaoVotosService exportacaoVotosService;
     private PautaController pautaController;
 
     @BeforeEach
     void setUp() {
         pautaService = Mockito.mock(PautaService.class);
         votoService = Mockito.mock(VotoService.class);
-        pautaController = new PautaController(pautaService, votoService);
+        exportacaoVotosService = Mockito.mock(ExportacaoVotosService.class);
+        pautaController = new PautaController(pautaService, votoService, exportacaoVotosService);
     }
 
     //region @Test - Criar Pauta
@@ -67,7 +72,7 @@ class PautaControllerTest {
         when(pautaServiceMock.criarPauta(any()))
                 .thenThrow(new IllegalArgumentException("O título da pauta não pode ser nulo ou vazio"));
 
-        PautaController controller = new PautaController(pautaServiceMock, votoService);
+        PautaController controller = new PautaController(pautaServiceMock, votoService, exportacaoVotosService);
 
         // ACT & ASSERT
         IllegalArgumentException exception = assertThrows(
@@ -97,9 +102,11 @@ class PautaControllerTest {
         String titulo = "Pauta Teste";
         TituloPauta tituloPauta = new TituloPauta(titulo);
         Pauta pauta = new Pauta(tituloPauta);
+        Pauta aberta = new Pauta(tituloPauta);
+        aberta.abrirSessao(5, Instant.parse("2025-01-10T14:30:00Z").toEpochMilli());
 
         when(pautaService.buscarPorTitulo(titulo)).thenReturn(Optional.of(pauta));
-        when(pautaService.abrirSessao(eq(titulo), anyInt())).thenReturn(pauta);
+        when(pautaService.abrirSessao(eq(titulo), anyInt())).thenReturn(aberta);
 
         AbrirSessaoRequestDTO request = new AbrirSessaoRequestDTO(5);
 
@@ -108,6 +115,8 @@ class PautaControllerTest {
 
         // ASSERT
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("2025-01-10T14:30:00Z", response.getBody().abertura());
+        assertEquals("2025-01-10T14:35:00Z", response.getBody().fechamento());
         verify(pautaService, times(1)).abrirSessao(eq(titulo), eq(5));
     }
 
@@ -130,16 +139,12 @@ class PautaControllerTest {
     void votar_deveRetornar201_quandoSucesso() {
         // ARRANGE
         String tituloPauta = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "SIM";
 
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
-        TituloPauta titulo = new TituloPauta(tituloPauta);
-        Pauta pauta = new Pauta(titulo);
-        
-        Cpf cpfObj = new Cpf(cpf);
-        Voto voto = new Voto(cpfObj, Escolha.SIM, pauta);
+        NovoVoto voto = new NovoVoto(1L, new Cpf(cpf).getNumero(), Escolha.SIM);
 
         when(votoService.registrarVotoPorTitulo(tituloPauta, cpf, escolha)).thenReturn(voto);
 
@@ -149,6 +154,7 @@ class PautaControllerTest {
         // ASSERT
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         Assertions.assertNotNull(response.getBody());
+        assertTrue(response.getBody().mensagem().contains(tituloPauta));
         verify(votoService, times(1)).registrarVotoPorTitulo(tituloPauta, cpf, escolha);
     }
 
@@ -174,7 +180,7 @@ class PautaControllerTest {
     void votar_deveRetornar400_quandoSessaoNaoAberta() {
         // ARRANGE
         String titulo = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "SIM";
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
@@ -192,7 +198,7 @@ class PautaControllerTest {
     void votar_deveRetornar400_quandoSessaoFechada() {
         // ARRANGE
         String titulo = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "SIM";
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
@@ -210,7 +216,7 @@ class PautaControllerTest {
     void votar_deveRetornar400_quandoEscolhaInvalida() {
         // ARRANGE
         String titulo = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "TALVEZ"; // inválido
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
@@ -228,7 +234,7 @@ class PautaControllerTest {
     void votar_deveRetornar400_quandoEscolhaVazia() {
         // ARRANGE
         String titulo = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = null; // obrigatório
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
@@ -263,7 +269,7 @@ class PautaControllerTest {
     void votar_deveRetornar404_quandoPautaNaoEncontrada() {
         // ARRANGE
         String titulo = "NaoExiste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "SIM";
 
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
@@ -280,13 +286,13 @@ class PautaControllerTest {
     void votar_deveRetornar409_quandoAssociadoJaVotou() {
         // ARRANGE
         String titulo = "Pauta Teste";
-        String cpf = "12345678900";
+        String cpf = "12345678909";
         String escolha = "SIM";
 
         VotoRequestDTO request = new VotoRequestDTO(cpf, escolha);
 
         when(votoService.registrarVotoPorTitulo(titulo, cpf, escolha))
-                .thenThrow(new VotoDuplicadoException(cpf));
+                .thenThrow(new VotoDuplicadoException());
 
         // ACT & ASSERT
         assertThrows(VotoDuplicadoException.class,
@@ -294,6 +300,44 @@ class PautaControllerTest {
     }
     //endregion
 
+    //region @Test - Votar em Lote
+    @Test
+    void votarEmLote_deveRetornar200_comStatusPorVoto() {
+        // ARRANGE
+        String titulo = "Pauta Teste";
+        List<VotoRequestDTO> votos = List.of(
+                new VotoRequestDTO("12345678909", "SIM"),
+                new VotoRequestDTO("12345678909", "NAO"));
+        VotoLoteResponseDTO esperado = new VotoLoteResponseDTO(titulo, 1, 1, List.of(
+                new VotoLoteResponseDTO.ItemDTO("12345678909", VotoLoteResponseDTO.StatusVotoLote.ACEITO),
+                new VotoLoteResponseDTO.ItemDTO("12345678909", VotoLoteResponseDTO.StatusVotoLote.DUPLICADO)));
+
+        when(votoService.registrarVotosEmLote(titulo, votos)).thenReturn(esperado);
+
+        // ACT
+        ResponseEntity<VotoLoteResponseDTO> response = pautaController.votarEmLote(titulo, new VotoLoteRequestDTO(votos));
+
+        // ASSERT
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(esperado, response.getBody());
+        verify(votoService, times(1)).registrarVotosEmLote(titulo, votos);
+    }
+
+    @Test
+    void votarEmLote_deveRetornar404_quandoPautaNaoEncontrada() {
+        // ARRANGE
+        String titulo = "NaoExiste";
+        List<VotoRequestDTO> votos = List.of(new VotoRequestDTO("12345678909", "SIM"));
+
+        when(votoService.registrarVotosEmLote(titulo, votos))
+                .thenThrow(new PautaNaoEncontradaException(titulo));
+
+        // ACT & ASSERT
+        assertThrows(PautaNaoEncontradaException.class,
+                () -> pautaController.votarEmLote(titulo, new VotoLoteRequestDTO(votos)));
+    }
+    //endregion
+
     //region @Test - Resultado
     @Test
     void resultado_deveRetornar200_quandoSucessoAPROVADA() {
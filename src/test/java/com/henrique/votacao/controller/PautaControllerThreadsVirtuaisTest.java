@@ -0,0 +1,105 @@
+package com.henrique.votacao.controller;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.service.PautaService;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Auditoria de pinagem no caminho do voto com a execução em threads virtuais.
+ *
+ * <p>Uma thread virtual que bloqueia dentro de um bloco {@code synchronized} (ou de código nativo)
+ * prende a thread de plataforma que a carrega. O teste sobe o Tomcat com threads virtuais, registra
+ * votos concorrentes por HTTP, mais do que o pool de conexões comporta, e falha se o JFR registrar
+ * algum evento {@code jdk.VirtualThreadPinned}, mostrando a pilha de onde ele veio.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+class PautaControllerThreadsVirtuaisTest {
+
+    private static final int REQUISICOES = 400;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Test
+    void votar_emThreadsVirtuais_naoDevePrenderThreadDePlataforma() throws Exception {
+        // ARRANGE
+        Pauta pauta = pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Virtual " + System.nanoTime())));
+        pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+        URI uri = URI.create("http://localhost:" + porta + "/api/v1/pautas/"
+                + URLEncoder.encode(pauta.getTituloPauta(), StandardCharsets.UTF_8).replace("+", "%20") + "/votos");
+
+        List<String> pinagens = new CopyOnWriteArrayList<>();
+        List<Integer> status = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream gravacao = new RecordingStream();
+             HttpClient cliente = HttpClient.newHttpClient()) {
+            gravacao.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            gravacao.onEvent("jdk.VirtualThreadPinned", evento -> pinagens.add(pilha(evento)));
+            gravacao.startAsync();
+
+            // ACT
+            List<CompletableFuture<Void>> respostas = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                String corpo = "{\"cpf\":\"" + Cpf.daBase(i + 1) + "\",\"escolha\":\"SIM\"}";
+                HttpRequest requisicao = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                        .build();
+                respostas.add(cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                        .thenAccept(resposta -> status.add(resposta.statusCode())));
+            }
+            CompletableFuture.allOf(respostas.toArray(CompletableFuture[]::new)).join();
+
+            // Garante que os eventos já emitidos chegaram ao stream antes de parar
+            gravacao.stop();
+        }
+
+        // ASSERT - 201 (autorizado) ou 401 (não autorizado pelo client fake)
+        assertEquals(REQUISICOES, status.size());
+        assertTrue(status.stream().allMatch(codigo -> codigo == 201 || codigo == 401), "status inesperado: " + status);
+        assertTrue(pinagens.isEmpty(), "threads virtuais presas no caminho do voto:\n" + String.join("\n\n", pinagens));
+    }
+
+    private static String pilha(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "(sem pilha)";
+        }
+        return evento.getStackTrace().getFrames().stream()
+                .limit(25)
+                .map(RecordedFrame::getMethod)
+                .map(metodo -> "  " + metodo.getType().getName() + "." + metodo.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.henrique.votacao.domain.model.voto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpfTest {
+
+    @Test
+    void criarCpf_valido_deveGuardarComoNumero() {
+        // ACT
+        Cpf cpf = new Cpf("12345678909");
+
+        // ASSERT
+        assertEquals(12345678909L, cpf.getNumero());
+        assertEquals("12345678909", cpf.toString());
+    }
+
+    @Test
+    void criarCpf_comZerosAEsquerda_deveManterOsZerosNoTexto() {
+        // ACT
+        Cpf cpf = new Cpf("00000000191");
+
+        // ASSERT
+        assertEquals(191L, cpf.getNumero());
+        assertEquals("00000000191", cpf.toString());
+        assertEquals(cpf, new Cpf(191L));
+    }
+
+    @Test
+    void criarCpf_digitoVerificadorInvalido_deveLancarExcecao() {
+        // ACT & ASSERT
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new Cpf("12345678901"));
+        assertTrue(ex.getMessage().contains("dígitos verificadores"));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf(12345678901L));
+    }
+
+    @Test
+    void criarCpf_todosOsDigitosIguais_deveLancarExcecao() {
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> new Cpf("00000000000"));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf("11111111111"));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf(99_999_999_999L));
+    }
+
+    @Test
+    void criarCpf_formatoInvalido_deveLancarExcecao() {
+        // ACT & ASSERT
+        assertThrows(IllegalArgumentException.class, () -> new Cpf((String) null));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf(" "));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf("1234567890"));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf("1234567890a"));
+        assertThrows(IllegalArgumentException.class, () -> new Cpf("-1234567890"));
+    }
+
+    @Test
+    void valido_naoDeveLancarExcecao() {
+        // ACT & ASSERT
+        assertTrue(Cpf.valido("98765432100"));
+        assertFalse(Cpf.valido("98765432101"));
+        assertFalse(Cpf.valido("123abc"));
+        assertFalse(Cpf.valido((String) null));
+        assertTrue(Cpf.valido(98765432100L));
+        assertFalse(Cpf.valido(-98765432100L));
+    }
+
+    @Test
+    void daBase_deveCalcularDigitosVerificadores() {
+        // ACT & ASSERT
+        assertEquals(12345678909L, Cpf.daBase(123456789).getNumero());
+        assertEquals(98765432100L, Cpf.daBase(987654321).getNumero());
+        for (int base = 1; base < 10_000; base++) {
+            assertTrue(Cpf.valido(Cpf.daBase(base).toString()));
+        }
+    }
+}
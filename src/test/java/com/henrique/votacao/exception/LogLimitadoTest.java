@@ -0,0 +1,67 @@
+package com.henrique.votacao.exception;
+
+import com.henrique.votacao.domain.exception.SessaoFechadaException;
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogLimitadoTest {
+
+    private Logger logger;
+    private final AtomicLong agoraNs = new AtomicLong();
+    private LogLimitado logLimitado;
+
+    @BeforeEach
+    void setup() {
+        logger = mock(Logger.class);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        logLimitado = new LogLimitado(logger, 2, 1_000, agoraNs::get);
+    }
+
+    @Test
+    void warn_acimaDoLimite_deveSuprimirEResumirNoIntervaloSeguinte() {
+        // ACT
+        boolean primeira = logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "a");
+        boolean segunda = logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "b");
+        boolean terceira = logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "c");
+        boolean quarta = logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "d");
+
+        agoraNs.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        boolean proximoIntervalo = logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "e");
+
+        // ASSERT
+        assertTrue(primeira);
+        assertTrue(segunda);
+        assertFalse(terceira);
+        assertFalse(quarta);
+        assertTrue(proximoIntervalo);
+        verify(logger, times(3)).warn(anyString(), any(Object.class));
+        verify(logger).warn("{}: {} ocorrência(s) suprimida(s) no último intervalo", "VotoDuplicadoException", 2L);
+    }
+
+    @Test
+    void warn_tiposDiferentes_devemTerLimitesSeparados() {
+        // ARRANGE
+        logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "a");
+        logLimitado.warn(VotoDuplicadoException.class, "VotoDuplicadoException: {}", "b");
+
+        // ACT
+        boolean outroTipo = logLimitado.warn(SessaoFechadaException.class, "SessaoFechadaException: {}", "c");
+
+        // ASSERT
+        assertTrue(outroTipo);
+    }
+}
@@ -0,0 +1,143 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.service.PautaService;
+import com.henrique.votacao.service.VotoService;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApuracaoEmMemoriaTest {
+
+    @Autowired
+    private ApuracaoEmMemoria apuracao;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @MockitoBean
+    private CpfClientFake cpfClient;
+
+    private Pauta pauta;
+
+    @BeforeEach
+    void setup() {
+        pauta = pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Apuracao " + System.nanoTime())));
+        pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+    }
+
+    @Test
+    void placar_deveConferirComContagemDoBanco() {
+        // ARRANGE
+        IntStream.range(0, 30).forEach(i -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(i + 1).toString(), i % 3 == 0 ? "NAO" : "SIM"));
+
+        // ACT
+        PlacarPauta placar = apuracao.placar(pauta.getId());
+
+        // ASSERT
+        assertEquals(votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM), placar.getSim());
+        assertEquals(votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO), placar.getNao());
+        assertEquals(20, placar.getSim());
+        assertEquals(10, placar.getNao());
+    }
+
+    @Test
+    void reconstruir_deveRecarregarPlacarDoBanco() {
+        // ARRANGE
+        IntStream.range(0, 7).forEach(i -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(i + 1).toString(), i < 4 ? "SIM" : "NAO"));
+
+        // ACT
+        apuracao.reconstruir();
+        PlacarPauta placar = apuracao.placar(pauta.getId());
+
+        // ASSERT
+        assertEquals(votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM), placar.getSim());
+        assertEquals(votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO), placar.getNao());
+        assertEquals(4, placar.getSim());
+        assertEquals(3, placar.getNao());
+    }
+
+    @Test
+    void placar_pautaSemVotos_deveIniciarZerado() {
+        // ACT
+        PlacarPauta placar = apuracao.placar(pauta.getId());
+
+        // ASSERT
+        assertEquals(0, placar.getTotal());
+    }
+
+    @Test
+    void jaVotou_deveCarregarIndiceDoBancoNoPrimeiroAcesso() {
+        // ARRANGE
+        IntStream.range(0, 5).forEach(i -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(i + 1).toString(), "SIM"));
+        apuracao.reconstruir();
+
+        // ACT
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(pauta.getId());
+
+        // ASSERT
+        assertTrue(apuracaoPauta.jaVotou(Cpf.daBase(4).getNumero()));
+        assertFalse(apuracaoPauta.jaVotou(Cpf.daBase(6).getNumero()));
+        assertTrue(apuracaoPauta.getTamanhoVotantesEmBytes() > 0);
+    }
+
+    @Test
+    void registrarVoto_cpfQueJaVotou_deveSerRejeitadoPeloIndice() {
+        // ARRANGE
+        votoService.registrarVotoPorTitulo(pauta.getTituloPauta(), "12345678909", "SIM");
+
+        // ACT & ASSERT
+        assertThrows(VotoDuplicadoException.class,
+                () -> votoService.registrarVotoPorTitulo(pauta.getTituloPauta(), "12345678909", "NAO"));
+        assertEquals(1, apuracao.placar(pauta.getId()).getTotal());
+    }
+
+    @Test
+    void liberarVotantes_deveRecarregarIndiceNaProximaConsulta() {
+        // ARRANGE
+        votoService.registrarVotoPorTitulo(pauta.getTituloPauta(), "12345678909", "SIM");
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(pauta.getId());
+
+        // ACT
+        apuracao.liberarVotantes(pauta.getId());
+
+        // ASSERT
+        assertEquals(0, apuracaoPauta.getTamanhoVotantesEmBytes());
+        assertTrue(apuracaoPauta.jaVotou(12345678909L));
+        assertEquals(1, apuracaoPauta.getPlacar().getSim());
+    }
+}
@@ -0,0 +1,214 @@
+package com.henrique.votacao.infrastructure.apuracao;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.repository.ConsumidorVoto;
+import com.henrique.votacao.repository.ContagemVotos;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotApuracaoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void gravar_deveSerLidoComPlacarEIndiceDeCadaPauta() throws IOException {
+        // ARRANGE
+        FonteVotosEmMemoria fonte = new FonteVotosEmMemoria(0);
+        votar(fonte, 1L, 0, 300);
+        votar(fonte, 2L, 1000, 5);
+        Path arquivo = diretorio.resolve("apuracao.snapshot");
+
+        // ACT
+        new GeradorSnapshotApuracao(fonte, arquivo, 60_000).gerar();
+        SnapshotApuracao snapshot = SnapshotApuracao.abrir(arquivo);
+
+        // ASSERT
+        assertEquals(305, snapshot.getMarca());
+        assertEquals(150, snapshot.getVotos(1L, Escolha.SIM));
+        assertEquals(150, snapshot.getVotos(1L, Escolha.NAO));
+        assertEquals(3, snapshot.getVotos(2L, Escolha.SIM));
+        assertTrue(snapshot.votantes(1L).contem(Cpf.daBase(299).getNumero()));
+        assertFalse(snapshot.votantes(2L).contem(Cpf.daBase(299).getNumero()));
+        assertEquals(5, snapshot.votantes(2L).getQuantidade());
+    }
+
+    @Test
+    void abrir_comConteudoAlterado_deveFalharPeloCrc() throws IOException {
+        // ARRANGE
+        FonteVotosEmMemoria fonte = new FonteVotosEmMemoria(0);
+        votar(fonte, 1L, 0, 10);
+        Path arquivo = diretorio.resolve("apuracao.snapshot");
+        new GeradorSnapshotApuracao(fonte, arquivo, 60_000).gerar();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{9}), SnapshotApuracao.TAMANHO_CABECALHO + 8);
+        }
+
+        // ACT & ASSERT
+        assertThrows(IllegalStateException.class, () -> SnapshotApuracao.abrir(arquivo));
+        assertNull(ApuracaoEmMemoria.abrirSnapshot(arquivo, fonte));
+    }
+
+    @Test
+    void gerar_comMargemDeReleitura_naoDeveContarDuasVezesOsVotosRelidos() throws IOException {
+        // ARRANGE - a fonte relê os últimos 50 votos antes da marca a cada snapshot
+        FonteVotosEmMemoria fonte = new FonteVotosEmMemoria(50);
+        GeradorSnapshotApuracao gerador = new GeradorSnapshotApuracao(fonte, diretorio.resolve("apuracao.snapshot"), 60_000);
+        votar(fonte, 1L, 0, 100);
+        gerador.gerar();
+
+        // ACT
+        votar(fonte, 1L, 100, 20);
+        votar(fonte, 3L, 0, 4);
+        long marca = gerador.gerar();
+        gerador.gerar();
+
+        // ASSERT
+        SnapshotApuracao snapshot = SnapshotApuracao.abrir(diretorio.resolve("apuracao.snapshot"));
+        assertEquals(124, marca);
+        assertEquals(60, snapshot.getVotos(1L, Escolha.SIM));
+        assertEquals(60, snapshot.getVotos(1L, Escolha.NAO));
+        assertEquals(4, snapshot.votantes(3L).getQuantidade());
+    }
+
+    @Test
+    void reconstruir_comSnapshot_deveLerDaFonteSoOsVotosPosteriores() throws IOException {
+        // ARRANGE
+        FonteVotosEmMemoria fonte = new FonteVotosEmMemoria(0);
+        Path arquivo = diretorio.resolve("apuracao.snapshot");
+        votar(fonte, 1L, 0, 1000);
+        new GeradorSnapshotApuracao(fonte, arquivo, 60_000).gerar();
+        votar(fonte, 1L, 1000, 10);
+        ApuracaoEmMemoria apuracao = new ApuracaoEmMemoria(fonte, true, arquivo, 5000);
+
+        // ACT
+        apuracao.reconstruir();
+        ApuracaoPauta apuracaoPauta = apuracao.porPauta(1L);
+
+        // ASSERT - placar e índice vêm do snapshot mais os 10 votos novos, sem contagem ou leitura completa
+        assertTrue(apuracao.isRecuperada());
+        assertEquals(1010, apuracaoPauta.getPlacar().getTotal());
+        assertTrue(apuracaoPauta.jaVotou(Cpf.daBase(3).getNumero()));
+        assertTrue(apuracaoPauta.jaVotou(Cpf.daBase(1005).getNumero()));
+        assertFalse(apuracaoPauta.jaVotou(Cpf.daBase(1011).getNumero()));
+        assertEquals(0, fonte.contagensCompletas);
+        assertEquals(0, fonte.leiturasDeCpfs);
+    }
+
+    @Test
+    void reconstruir_comSnapshotDeOutraFonte_deveReconstruirPelaFonte() throws IOException {
+        // ARRANGE - snapshot com mais votos que a fonte (banco ou diário recriado)
+        Path arquivo = diretorio.resolve("apuracao.snapshot");
+        FonteVotosEmMemoria antiga = new FonteVotosEmMemoria(0);
+        votar(antiga, 1L, 0, 50);
+        new GeradorSnapshotApuracao(antiga, arquivo, 60_000).gerar();
+        FonteVotosEmMemoria nova = new FonteVotosEmMemoria(0);
+        votar(nova, 1L, 0, 3);
+        ApuracaoEmMemoria apuracao = new ApuracaoEmMemoria(nova, true, arquivo, 5000);
+
+        // ACT
+        apuracao.reconstruir();
+
+        // ASSERT
+        assertEquals(3, apuracao.placar(1L).getTotal());
+        assertEquals(1, nova.contagensCompletas);
+    }
+
+    @Test
+    void porPauta_antesDaRecuperacao_deveRecusarCom503() {
+        // ARRANGE
+        ApuracaoEmMemoria apuracao = new ApuracaoEmMemoria(new FonteVotosEmMemoria(0), false, null, 10);
+
+        // ACT & ASSERT
+        assertFalse(apuracao.isRecuperada());
+        assertEquals("OUT_OF_SERVICE", new ApuracaoHealthIndicator(apuracao).health().getStatus().getCode());
+        ResponseStatusException erro = assertThrows(ResponseStatusException.class, () -> apuracao.porPauta(1L));
+        assertEquals(503, erro.getStatusCode().value());
+    }
+
+    /**
+     * Votos alternando SIM e NAO, com CPFs da base {@code primeiraBase + 1} em diante.
+     */
+    private static void votar(FonteVotosEmMemoria fonte, long pautaId, int primeiraBase, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            long cpf = Cpf.daBase(primeiraBase + i + 1L).getNumero();
+            fonte.votos.add(new VotoFonte(pautaId, cpf, i % 2 == 0 ? Escolha.SIM : Escolha.NAO));
+        }
+    }
+
+    private record VotoFonte(long pautaId, long cpf, Escolha escolha) {
+    }
+
+    /**
+     * Fonte em memória: a marca de cada voto é a sua posição na lista mais um.
+     */
+    private static class FonteVotosEmMemoria implements FonteVotos {
+
+        private final List<VotoFonte> votos = new ArrayList<>();
+        private final long margem;
+        private int contagensCompletas;
+        private int leiturasDeCpfs;
+
+        FonteVotosEmMemoria(long margem) {
+            this.margem = margem;
+        }
+
+        @Override
+        public List<ContagemVotos> contarPorPautaEEscolha() {
+            contagensCompletas++;
+            Map<String, Long> totais = new TreeMap<>();
+            votos.forEach(voto -> totais.merge(voto.pautaId() + ":" + voto.escolha(), 1L, Long::sum));
+            return totais.entrySet().stream().map(total -> {
+                String[] chave = total.getKey().split(":");
+                return new ContagemVotos(Long.valueOf(chave[0]), Escolha.valueOf(chave[1]), total.getValue());
+            }).toList();
+        }
+
+        @Override
+        public List<ContagemVotos> contarPorPauta(Long pautaId) {
+            return contarPorPautaEEscolha().stream().filter(contagem -> contagem.pautaId().equals(pautaId)).toList();
+        }
+
+        @Override
+        public void percorrerCpfsDaPauta(Long pautaId, LongConsumer consumidor) {
+            leiturasDeCpfs++;
+            votos.stream().filter(voto -> voto.pautaId() == pautaId).forEach(voto -> consumidor.accept(voto.cpf()));
+        }
+
+        @Override
+        public long percorrerDesde(long marca, ConsumidorVoto consumidor) {
+            for (int i = (int) marca; i < votos.size(); i++) {
+                VotoFonte voto = votos.get(i);
+                consumidor.aceitar(i + 1, voto.pautaId(), voto.cpf(), voto.escolha());
+            }
+            return Math.max(marca, votos.size());
+        }
+
+        @Override
+        public long getMarcaFinal() {
+            return votos.size();
+        }
+
+        @Override
+        public long getMargemReleitura() {
+            return margem;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.henrique.votacao.infrastructure.cadastro;
+
+import com.henrique.votacao.domain.model.voto.Cpf;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CadastroVotantesTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void importar_listaForaDeOrdemComRepetidos_deveOrdenarEEncontrarTodos() throws IOException {
+        // ARRANGE - CPFs espalhados por toda a faixa, para exercitar todos os bytes do radix sort
+        Random random = new Random(7);
+        List<String> linhas = new ArrayList<>();
+        Set<Long> cpfs = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long cpf = Cpf.daBase(1 + random.nextInt(999_999_998)).getNumero();
+            cpfs.add(cpf);
+            linhas.add(String.format("%011d", cpf));
+        }
+        linhas.addAll(linhas.subList(0, 1_000));
+        Collections.shuffle(linhas, random);
+        linhas.add(3, "");
+        linhas.set(10, linhas.get(10) + "\r");
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), linhas);
+
+        // ACT
+        CadastroVotantes cadastro = CadastroVotantes.importar(lista, diretorio.resolve("aptos.bin"));
+
+        // ASSERT
+        assertEquals(cpfs.size(), cadastro.getQuantidade());
+        assertTrue(cpfs.stream().allMatch(cadastro::contem));
+        long ausentes = random.ints(1_000, 1, 999_999_998)
+                .mapToLong(base -> Cpf.daBase(base).getNumero())
+                .filter(cpf -> !cpfs.contains(cpf))
+                .filter(cadastro::contem)
+                .count();
+        assertEquals(0, ausentes);
+    }
+
+    @Test
+    void abrir_cadastroImportado_deveMapearSemImportarDeNovo() throws IOException {
+        // ARRANGE
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), List.of("12345678909", "98765432100"));
+        Path binario = diretorio.resolve("aptos.bin");
+        CadastroVotantes.importar(lista, binario);
+        Files.delete(lista);
+
+        // ACT
+        CadastroVotantes cadastro = CadastroVotantes.abrir(binario);
+
+        // ASSERT
+        assertEquals(2, cadastro.getQuantidade());
+        assertTrue(cadastro.contem(12345678909L));
+        assertTrue(cadastro.contem(98765432100L));
+        assertFalse(cadastro.contem(11144477735L));
+    }
+
+    @Test
+    void importar_linhaInvalida_deveLancarExcecaoComNumeroDaLinha() throws IOException {
+        // ARRANGE
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), List.of("12345678909", "123.456.789-09"));
+
+        // ACT
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> CadastroVotantes.importar(lista, diretorio.resolve("aptos.bin")));
+
+        // ASSERT
+        assertTrue(ex.getMessage().contains("Linha 2"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.henrique.votacao.infrastructure.client;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElegibilidadeCadastroClientTest {
+
+    @TempDir
+    Path diretorio;
+
+    private ElegibilidadeCadastroClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null && client.isRunning()) {
+            client.stop();
+        }
+    }
+
+    @Test
+    void verificar_cpfNoCadastro_deveSerApto() throws IOException {
+        // ARRANGE
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), List.of("12345678909", "98765432100"));
+        client = new ElegibilidadeCadastroClient(lista, diretorio.resolve("cadastro"), 60_000);
+
+        // ACT
+        client.start();
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, client.verificar("12345678909").join());
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, client.verificar("11144477735").join());
+    }
+
+    @Test
+    void carregar_novaLista_deveTrocarCadastroEmUso() throws IOException {
+        // ARRANGE
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), List.of("12345678909", "98765432100"));
+        client = new ElegibilidadeCadastroClient(lista, diretorio.resolve("cadastro"), 60_000);
+        client.start();
+
+        Files.write(lista, List.of("11144477735"));
+        Files.setLastModifiedTime(lista, FileTime.from(Instant.now().plusSeconds(1)));
+
+        // ACT
+        boolean trocou = client.carregar();
+
+        // ASSERT
+        assertTrue(trocou);
+        assertFalse(client.carregar());
+        assertEquals(1, client.getQuantidade());
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, client.verificar("11144477735").join());
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, client.verificar("12345678909").join());
+        try (var arquivos = Files.list(diretorio.resolve("cadastro"))) {
+            assertEquals(1, arquivos.count());
+        }
+    }
+
+    @Test
+    void carregar_listaInvalida_deveManterCadastroAnterior() throws IOException {
+        // ARRANGE
+        Path lista = Files.write(diretorio.resolve("aptos.txt"), List.of("12345678909"));
+        client = new ElegibilidadeCadastroClient(lista, diretorio.resolve("cadastro"), 60_000);
+        client.start();
+
+        Files.write(lista, List.of("12345678909", "00000000000"));
+        Files.setLastModifiedTime(lista, FileTime.from(Instant.now().plusSeconds(1)));
+
+        // ACT
+        assertThrows(IllegalArgumentException.class, client::carregar);
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, client.verificar("12345678909").join());
+    }
+}
@@ -0,0 +1,266 @@
+package com.henrique.votacao.infrastructure.client;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.infrastructure.cache.CacheElegibilidade;
+import com.henrique.votacao.infrastructure.client.ElegibilidadeHttpClient.PoliticaFalha;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o client contra um servidor HTTP local que simula latência e erros do serviço de elegibilidade.
+ * O servidor responde ABLE_TO_VOTE para {@link #CPF_APTO} e 404 para os demais CPFs.
+ */
+class ElegibilidadeHttpClientTest {
+
+    private static final String CPF_APTO = "12345678909";
+    private static final String CPF_DESCONHECIDO = "98765432100";
+
+    private HttpServer servidor;
+    private final AtomicInteger chamadas = new AtomicInteger();
+    private volatile long latenciaMs;
+    private volatile int statusErro;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ElegibilidadeHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.createContext("/users/", this::responder);
+        servidor.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.fechar();
+        }
+        servidor.stop(0);
+    }
+
+    @Test
+    void verificar_respostaDoServico_deveRetornarStatus() {
+        // ARRANGE
+        client = criarClient(1000, 8, 5, 5000, PoliticaFalha.FECHADA);
+
+        // ACT
+        StatusVotacao apto = client.verificar(CPF_APTO).join();
+        StatusVotacao desconhecido = client.verificar(CPF_DESCONHECIDO).join();
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, apto);
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, desconhecido);
+        assertEquals(2, chamadas.get());
+    }
+
+    @Test
+    void verificar_servicoLento_politicaFechada_deveRecusarComServicoIndisponivel() {
+        // ARRANGE
+        latenciaMs = 1000;
+        client = criarClient(100, 8, 5, 5000, PoliticaFalha.FECHADA);
+
+        // ACT
+        long inicio = System.nanoTime();
+        CompletionException ex = assertThrows(CompletionException.class, () -> client.verificar(CPF_APTO).join());
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        // ASSERT
+        ResponseStatusException causa = assertInstanceOf(ResponseStatusException.class, ex.getCause());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, causa.getStatusCode());
+        assertTrue(duracaoMs < 800, "timeout não respeitado: " + duracaoMs + "ms");
+    }
+
+    @Test
+    void verificar_servicoLento_politicaAberta_deveConsiderarApto() {
+        // ARRANGE
+        latenciaMs = 1000;
+        client = criarClient(100, 8, 5, 5000, PoliticaFalha.ABERTA);
+
+        // ACT
+        StatusVotacao status = client.verificar(CPF_DESCONHECIDO).join();
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, status);
+    }
+
+    @Test
+    void verificar_falhasSeguidas_deveAbrirCircuitoEFecharAposChamadaDeTeste() throws InterruptedException {
+        // ARRANGE
+        statusErro = 500;
+        client = criarClient(1000, 8, 3, 300, PoliticaFalha.FECHADA);
+        for (int i = 1; i <= 3; i++) {
+            String cpf = cpf(i);
+            assertThrows(CompletionException.class, () -> client.verificar(cpf).join());
+        }
+
+        // ACT - com o circuito aberto a chamada não chega ao servidor
+        assertThrows(CompletionException.class, () -> client.verificar(cpf(4)).join());
+        int chamadasComCircuitoAberto = chamadas.get();
+        DisjuntorCircuito.Estado estadoAberto = client.getEstadoCircuito();
+
+        statusErro = 0;
+        Thread.sleep(400);
+        StatusVotacao status = client.verificar(CPF_APTO).join();
+
+        // ASSERT
+        assertEquals(3, chamadasComCircuitoAberto);
+        assertEquals(DisjuntorCircuito.Estado.ABERTO, estadoAberto);
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, status);
+        assertEquals(DisjuntorCircuito.Estado.FECHADO, client.getEstadoCircuito());
+        assertEquals(4, chamadas.get());
+    }
+
+    @Test
+    void verificar_semVagas_deveRecusarSemChamarServico() {
+        // ARRANGE
+        latenciaMs = 300;
+        client = criarClient(2000, 2, 5, 5000, PoliticaFalha.FECHADA);
+        CompletableFuture<StatusVotacao> primeira = client.verificar(cpf(1));
+        CompletableFuture<StatusVotacao> segunda = client.verificar(cpf(2));
+
+        // ACT
+        CompletableFuture<StatusVotacao> terceira = client.verificar(cpf(3));
+
+        // ASSERT
+        assertTrue(terceira.isCompletedExceptionally());
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, primeira.join());
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, segunda.join());
+        assertEquals(2, chamadas.get());
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, client.verificar(CPF_APTO).join());
+    }
+
+    @Test
+    void verificar_urlInvalida_naoDeveOcuparVagas() {
+        // ARRANGE - o espaço na URL base faz a montagem da requisição falhar
+        String url = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/usu arios/";
+        client = new ElegibilidadeHttpClient(new ObjectMapper(), new CacheElegibilidade(meterRegistry, 1000, 60_000, 200),
+                Clock.systemUTC(), url, 500, 1000, 2, 5, 5000, PoliticaFalha.FECHADA);
+
+        // ACT
+        List<CompletionException> falhas = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> assertThrows(CompletionException.class, () -> client.verificar(cpf(i)).join()))
+                .toList();
+
+        // ASSERT - todas recusadas como indisponível, e nenhuma vaga ficou presa
+        falhas.forEach(ex -> assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                assertInstanceOf(ResponseStatusException.class, ex.getCause()).getStatusCode()));
+        assertEquals(2, client.getVagasLivres());
+        assertEquals(0, chamadas.get());
+    }
+
+    @Test
+    void verificar_mesmoCpfConcorrente_deveFazerUmaUnicaChamada() {
+        // ARRANGE
+        latenciaMs = 200;
+        client = criarClient(2000, 64, 5, 5000, PoliticaFalha.FECHADA);
+
+        // ACT
+        List<CompletableFuture<StatusVotacao>> concorrentes = IntStream.range(0, 20)
+                .mapToObj(i -> client.verificar(CPF_APTO))
+                .toList();
+        concorrentes.forEach(CompletableFuture::join);
+        StatusVotacao depois = client.verificar(CPF_APTO).join();
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, depois);
+        assertEquals(1, chamadas.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "elegibilidade").tag("result", "miss").functionCounter().count());
+        assertEquals(20.0, meterRegistry.get("cache.gets").tag("cache", "elegibilidade").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void verificar_inapto_deveExpirarAntesDoApto() throws InterruptedException {
+        // ARRANGE
+        client = criarClient(1000, 8, 5, 5000, PoliticaFalha.FECHADA);
+        client.verificar(CPF_APTO).join();
+        client.verificar(CPF_DESCONHECIDO).join();
+
+        // ACT
+        Thread.sleep(300);
+        client.verificar(CPF_APTO).join();
+        client.verificar(CPF_DESCONHECIDO).join();
+
+        // ASSERT - só o inapto voltou ao servidor
+        assertEquals(3, chamadas.get());
+    }
+
+    @Test
+    void verificar_politicaAberta_naoDeveGuardarDecisaoDaFalhaEmCache() {
+        // ARRANGE
+        statusErro = 500;
+        client = criarClient(1000, 8, 5, 5000, PoliticaFalha.ABERTA);
+        StatusVotacao naFalha = client.verificar(CPF_DESCONHECIDO).join();
+
+        // ACT
+        statusErro = 0;
+        StatusVotacao depois = client.verificar(CPF_DESCONHECIDO).join();
+
+        // ASSERT
+        assertEquals(StatusVotacao.ABLE_TO_VOTE, naFalha);
+        assertEquals(StatusVotacao.UNABLE_TO_VOTE, depois);
+        assertEquals(2, chamadas.get());
+    }
+
+    private ElegibilidadeHttpClient criarClient(long timeoutMs, int maxConcorrentes, int falhasParaAbrir,
+                                                long esperaAbertoMs, PoliticaFalha politicaFalha) {
+        String url = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/users/";
+        CacheElegibilidade cache = new CacheElegibilidade(meterRegistry, 1000, 60_000, 200);
+        return new ElegibilidadeHttpClient(new ObjectMapper(), cache, Clock.systemUTC(), url, 500, timeoutMs,
+                maxConcorrentes, falhasParaAbrir, esperaAbertoMs, politicaFalha);
+    }
+
+    private static String cpf(int base) {
+        return Cpf.daBase(base).toString();
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        chamadas.incrementAndGet();
+        try (troca) {
+            if (latenciaMs > 0) {
+                Thread.sleep(latenciaMs);
+            }
+            if (statusErro != 0) {
+                troca.sendResponseHeaders(statusErro, -1);
+                return;
+            }
+            String cpf = troca.getRequestURI().getPath().substring("/users/".length());
+            if (!CPF_APTO.equals(cpf)) {
+                troca.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] corpo = "{\"status\":\"ABLE_TO_VOTE\"}".getBytes(StandardCharsets.UTF_8);
+            troca.getResponseHeaders().add("Content-Type", "application/json");
+            troca.sendResponseHeaders(200, corpo.length);
+            troca.getResponseBody().write(corpo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
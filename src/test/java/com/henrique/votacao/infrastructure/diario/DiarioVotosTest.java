@@ -0,0 +1,171 @@
+package com.henrique.votacao.infrastructure.diario;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiarioVotosTest {
+
+    private static final int REGISTROS_POR_SEGMENTO = 4;
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void abrir_depoisDeFechar_deveRelerOsVotosSincronizados() throws IOException {
+        // ARRANGE
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            anexar(diario, 10);
+            diario.sincronizar();
+        }
+
+        // ACT
+        try (DiarioVotos reaberto = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            List<RegistroVoto> lidos = lerTodos(reaberto);
+
+            // ASSERT - 10 votos em 3 segmentos de 4 registros, na ordem de gravação
+            assertEquals(10, reaberto.getPosicaoDuravel());
+            assertEquals(0, reaberto.getRegistrosDescartados());
+            assertEquals(3, segmentos().size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(registro(i), lidos.get(i));
+            }
+        }
+    }
+
+    @Test
+    void percorrer_deveLerSoOsVotosSincronizados() throws IOException {
+        // ARRANGE
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            anexar(diario, 3);
+            diario.sincronizar();
+            diario.anexar(registro(3));
+
+            // ACT
+            List<RegistroVoto> lidos = new ArrayList<>();
+            long proxima = diario.percorrer(1, 10, lidos::add);
+
+            // ASSERT
+            assertEquals(List.of(registro(1), registro(2)), lidos);
+            assertEquals(3, proxima);
+        }
+    }
+
+    @Test
+    void abrir_comCaudaCortadaNoMeioDeUmRegistro_deveDescartarOVotoIncompleto() throws IOException {
+        // ARRANGE - queda durante a gravação do 7º voto: o arquivo termina no meio dele
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            anexar(diario, 7);
+            diario.sincronizar();
+        }
+        Path ultimo = segmentos().get(1);
+        try (FileChannel canal = FileChannel.open(ultimo, StandardOpenOption.WRITE)) {
+            canal.truncate(2L * DiarioVotos.TAMANHO_REGISTRO + 13);
+        }
+
+        // ACT
+        try (DiarioVotos reaberto = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            // ASSERT - os 6 votos completos continuam, e o próximo ocupa a posição do descartado
+            assertEquals(6, reaberto.getPosicaoDuravel());
+            assertEquals(1, reaberto.getRegistrosDescartados());
+            assertEquals(6, reaberto.anexar(registro(99)));
+            reaberto.sincronizar();
+        }
+        try (DiarioVotos reaberto = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            List<RegistroVoto> lidos = lerTodos(reaberto);
+            assertEquals(7, lidos.size());
+            assertEquals(registro(99), lidos.get(6));
+        }
+    }
+
+    @Test
+    void abrir_comCaudaDeLixo_deveDescartarRegistrosComCrcInvalido() throws IOException {
+        // ARRANGE - um registro escrito pela metade: conteúdo presente, CRC não confere
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            anexar(diario, 2);
+            diario.sincronizar();
+        }
+        sobrescrever(segmentos().get(0), 2L * DiarioVotos.TAMANHO_REGISTRO, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        // ACT
+        try (DiarioVotos reaberto = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            // ASSERT
+            assertEquals(2, reaberto.getPosicaoDuravel());
+            assertEquals(1, reaberto.getRegistrosDescartados());
+            assertEquals(List.of(registro(0), registro(1)), lerTodos(reaberto));
+        }
+    }
+
+    @Test
+    void abrir_comSegmentoAnteriorCorrompido_deveFalhar() throws IOException {
+        // ARRANGE
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            anexar(diario, 6);
+            diario.sincronizar();
+        }
+        sobrescrever(segmentos().get(0), DiarioVotos.TAMANHO_REGISTRO + 8, new byte[]{42});
+
+        // ACT & ASSERT
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO));
+        assertTrue(erro.getMessage().contains("posição 1"));
+    }
+
+    @Test
+    void gravarMarca_deveSerLidaDepoisDeReabrir() throws IOException {
+        // ARRANGE
+        try (DiarioVotos diario = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            assertEquals(0, diario.lerMarca("voto"));
+
+            // ACT
+            diario.gravarMarca("voto", 42);
+            diario.gravarMarca("voto", 43);
+        }
+
+        // ASSERT
+        try (DiarioVotos reaberto = DiarioVotos.abrir(diretorio, REGISTROS_POR_SEGMENTO)) {
+            assertEquals(43, reaberto.lerMarca("voto"));
+        }
+    }
+
+    private static void anexar(DiarioVotos diario, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            assertEquals(i, diario.anexar(registro(i)));
+        }
+    }
+
+    private static RegistroVoto registro(int i) {
+        return new RegistroVoto(1 + i % 3, 12345678909L + i, i % 2 == 0 ? Escolha.SIM : Escolha.NAO, 1_700_000_000_000L + i);
+    }
+
+    private static List<RegistroVoto> lerTodos(DiarioVotos diario) {
+        List<RegistroVoto> lidos = new ArrayList<>();
+        diario.percorrer(0, Long.MAX_VALUE, lidos::add);
+        return lidos;
+    }
+
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(arquivo -> arquivo.toString().endsWith(".diario")).sorted().toList();
+        }
+    }
+
+    private static void sobrescrever(Path arquivo, long posicao, byte[] bytes) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(bytes), posicao);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.henrique.votacao.infrastructure.encerramento;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RodaTemporizacaoTest {
+
+    private static final long TICK = 100;
+    private static final long INICIO = 1_700_000_000_000L;
+
+    @Test
+    void agendar_vencimentoNoPassado_naoDeveAgendar() {
+        // ARRANGE
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(TICK, 8, INICIO);
+
+        // ACT & ASSERT
+        assertFalse(roda.agendar(INICIO - TICK, "vencido"));
+        assertEquals(0, roda.getQuantidade());
+    }
+
+    @Test
+    void avancar_naoDeveEntregarAntesDoVencimento() {
+        // ARRANGE
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(TICK, 8, INICIO);
+        roda.agendar(INICIO + 250, "item");
+        List<String> vencidos = new ArrayList<>();
+
+        // ACT
+        roda.avancar(INICIO + 250, vencidos::add);
+        List<String> noVencimento = List.copyOf(vencidos);
+        roda.avancar(INICIO + 300, vencidos::add);
+
+        // ASSERT - entregue no primeiro tick depois do vencimento
+        assertTrue(noVencimento.isEmpty());
+        assertEquals(List.of("item"), vencidos);
+        assertEquals(0, roda.getQuantidade());
+    }
+
+    @Test
+    void avancar_vencimentosEmVariosNiveis_deveEntregarTodosNoTickCerto() {
+        // ARRANGE - 8 baldes de 100ms: nível 0 alcança 800ms, nível 1 6,4s, nível 2 51,2s...
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(TICK, 8, INICIO);
+        SplittableRandom random = new SplittableRandom(42);
+        List<Long> vencimentos = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long vencimento = INICIO + 1 + random.nextLong(600_000);
+            vencimentos.add(vencimento);
+            assertTrue(roda.agendar(vencimento, vencimento));
+        }
+
+        // ACT - avança em passos irregulares, conferindo cada entrega
+        List<Long> entregues = new ArrayList<>();
+        long agora = INICIO;
+        while (agora < INICIO + 610_000) {
+            agora += 1 + random.nextLong(3 * TICK);
+            long instante = agora;
+            roda.avancar(instante, vencimento -> {
+                assertTrue(vencimento < instante, "entregue antes do vencimento");
+                entregues.add(vencimento);
+            });
+        }
+
+        // ASSERT
+        assertEquals(vencimentos.size(), entregues.size());
+        assertEquals(0, roda.getQuantidade());
+        assertTrue(entregues.containsAll(vencimentos));
+    }
+
+    @Test
+    void avancar_semItens_devePularDiretoParaAgora() {
+        // ARRANGE
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(TICK, 8, INICIO);
+        long umDiaDepois = INICIO + 86_400_000L;
+        roda.avancar(umDiaDepois, item -> fail());
+        List<String> vencidos = new ArrayList<>();
+
+        // ACT
+        assertFalse(roda.agendar(umDiaDepois - TICK, "passado"));
+        roda.agendar(umDiaDepois + 50, "futuro");
+        roda.avancar(umDiaDepois + TICK, vencidos::add);
+
+        // ASSERT
+        assertEquals(List.of("futuro"), vencidos);
+    }
+}
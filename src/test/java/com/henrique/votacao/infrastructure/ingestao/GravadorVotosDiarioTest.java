@@ -0,0 +1,223 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.PlacarPauta;
+import com.henrique.votacao.infrastructure.diario.DiarioVotos;
+import com.henrique.votacao.infrastructure.diario.FonteVotosDiario;
+import com.henrique.votacao.infrastructure.diario.ProjecaoVotosDiario;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.service.PautaService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Modo {@code diario}: os beans da ingestão são montados à mão sobre um diário em diretório
+ * temporário, no mesmo contexto (e banco) dos demais testes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GravadorVotosDiarioTest {
+
+    private static final int THREADS = 64;
+    private static final int VOTOS = 2000;
+
+    @TempDir
+    Path diretorio;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private VotoJdbcRepository votoJdbcRepository;
+
+    private DiarioVotos diario;
+    private ApuracaoEmMemoria apuracao;
+    private GravadorVotosDiario gravador;
+    private long votosImportados;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() throws IOException {
+        abrir();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        fechar();
+    }
+
+    @Test
+    void gravar_votoDuplicado_deveLancarVotoDuplicadoException() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        gravador.gravar(voto(Cpf.daBase(1), Escolha.SIM, pauta));
+
+        // ACT & ASSERT
+        assertThrows(VotoDuplicadoException.class, () -> gravador.gravar(voto(Cpf.daBase(1), Escolha.NAO, pauta)));
+        assertEquals(1, diario.getPosicaoDuravel() - votosImportados);
+    }
+
+    @Test
+    void gravar_mesmoCpfEmParalelo_deveAnexarUmaUnicaVez() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        AtomicInteger aceitos = new AtomicInteger();
+        AtomicInteger duplicados = new AtomicInteger();
+
+        // ACT
+        emParalelo(() -> {
+            try {
+                gravador.gravar(voto(new Cpf("12345678909"), Escolha.SIM, pauta));
+                aceitos.incrementAndGet();
+            } catch (VotoDuplicadoException e) {
+                duplicados.incrementAndGet();
+            }
+        });
+
+        // ASSERT
+        assertEquals(1, aceitos.get());
+        assertEquals(THREADS - 1, duplicados.get());
+        assertEquals(1, new FonteVotosDiario(diario, votoJdbcRepository, Clock.systemUTC()).contarPorPauta(pauta.getId())
+                .getFirst().total());
+    }
+
+    @Test
+    void reabrir_deveReconstruirAApuracaoPeloDiario() throws IOException {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        votarEmParalelo(pauta);
+
+        // ACT - reinício: a apuração é refeita só com o que está no diário
+        fechar();
+        abrir();
+        PlacarPauta placar = apuracao.placar(pauta.getId());
+
+        // ASSERT
+        assertEquals(VOTOS / 2, placar.getSim());
+        assertEquals(VOTOS / 2, placar.getNao());
+        assertThrows(VotoDuplicadoException.class, () -> gravador.gravar(voto(Cpf.daBase(1007), Escolha.SIM, pauta)));
+    }
+
+    @Test
+    void projetar_devePreencherATabelaUmaUnicaVezMesmoRelendoOLote() throws Exception {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        votarEmParalelo(pauta);
+        ProjecaoVotosDiario projecao = new ProjecaoVotosDiario(diario, votoJdbcRepository, new SimpleMeterRegistry(), 500, 10);
+        projecao.start();
+        long marca = diario.lerMarca("voto");
+
+        // ACT - a tabela alcança o diário; depois simula uma queda antes de a marca avançar
+        aguardarAte(() -> projecao.getAtraso() == 0);
+        projecao.stop();
+        diario.gravarMarca("voto", marca);
+        ProjecaoVotosDiario relida = new ProjecaoVotosDiario(diario, votoJdbcRepository, new SimpleMeterRegistry(), 500, 10);
+        relida.start();
+        aguardarAte(() -> relida.getAtraso() == 0);
+        relida.stop();
+
+        // ASSERT
+        assertEquals(VOTOS / 2, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+        assertEquals(VOTOS / 2, votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO));
+    }
+
+    private void abrir() throws IOException {
+        diario = DiarioVotos.abrir(diretorio, 512);
+        apuracao = new ApuracaoEmMemoria(new FonteVotosDiario(diario, votoJdbcRepository, Clock.systemUTC()),
+                false, null, 5000);
+        // Na primeira abertura os votos dos outros testes são importados da tabela
+        apuracao.reconstruir();
+        votosImportados = diario.getPosicaoDuravel();
+        gravador = new GravadorVotosDiario(diario, apuracao, Clock.systemUTC(), 1000, 50_000);
+        gravador.start();
+    }
+
+    private void fechar() {
+        if (gravador.isRunning()) {
+            gravador.stop();
+        }
+        diario.close();
+    }
+
+    private void votarEmParalelo(Pauta pauta) {
+        AtomicInteger proximo = new AtomicInteger();
+        emParalelo(() -> {
+            int i;
+            while ((i = proximo.getAndIncrement()) < VOTOS) {
+                gravador.gravar(voto(Cpf.daBase(1000 + i), i % 2 == 0 ? Escolha.SIM : Escolha.NAO, pauta));
+            }
+        });
+    }
+
+    /**
+     * Dispara a tarefa em todas as threads ao mesmo tempo e espera todas terminarem.
+     */
+    private void emParalelo(Runnable tarefa) {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tarefas.add(CompletableFuture.runAsync(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                tarefa.run();
+            }, executor));
+        }
+        largada.countDown();
+        tarefas.forEach(CompletableFuture::join);
+    }
+
+    private static void aguardarAte(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < limite, "tempo esgotado");
+            Thread.sleep(10);
+        }
+    }
+
+    private Pauta criarPauta() {
+        return pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Diario " + System.nanoTime())));
+    }
+
+    private static NovoVoto voto(Cpf cpf, Escolha escolha, Pauta pauta) {
+        return new NovoVoto(pauta.getId(), cpf.getNumero(), escolha);
+    }
+}
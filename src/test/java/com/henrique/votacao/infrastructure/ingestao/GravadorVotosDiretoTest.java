@@ -0,0 +1,197 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.service.PautaService;
+import com.henrique.votacao.service.VotoService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GravadorVotosDiretoTest {
+
+    private static final int THREADS = 64;
+    private static final int RODADAS = 20;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Autowired
+    private ApuracaoEmMemoria apuracao;
+
+    @MockitoBean
+    private CpfClientFake cpfClient;
+
+    private GravadorVotosDireto gravador;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        gravador = new GravadorVotosDireto(votoJdbcRepository);
+        executor = Executors.newFixedThreadPool(THREADS);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void gravar_votoDuplicado_deveLancarVotoDuplicadoException() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        gravador.gravar(voto("12345678909", pauta));
+
+        // ACT & ASSERT
+        assertThrows(VotoDuplicadoException.class, () -> gravador.gravar(voto("12345678909", pauta)));
+        assertEquals(1, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+    }
+
+    @Test
+    void gravar_mesmoCpfEmParalelo_deveGravarUmaUnicaVez() {
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            // ARRANGE
+            Pauta pauta = criarPauta();
+            AtomicInteger aceitos = new AtomicInteger();
+            AtomicInteger duplicados = new AtomicInteger();
+
+            // ACT
+            emParalelo(() -> {
+                try {
+                    gravador.gravar(voto("12345678909", pauta));
+                    aceitos.incrementAndGet();
+                } catch (VotoDuplicadoException e) {
+                    duplicados.incrementAndGet();
+                }
+            });
+
+            // ASSERT
+            assertEquals(1, aceitos.get());
+            assertEquals(THREADS - 1, duplicados.get());
+            assertEquals(1, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+        }
+    }
+
+    @Test
+    void gravar_cpfsDistintosEmParaleloComInsertsDoHibernate_devemReceberIdsDistintosDaSequencia() {
+        // ARRANGE - a voto_seq é compartilhada entre o gravador JDBC e o Hibernate
+        Pauta pauta = criarPauta();
+        AtomicInteger proximaBase = new AtomicInteger(1);
+        AtomicInteger aceitos = new AtomicInteger();
+
+        // ACT
+        emParalelo(() -> {
+            for (int i = 0; i < RODADAS; i++) {
+                NovoVoto voto = voto(Cpf.daBase(proximaBase.getAndIncrement()).toString(), pauta);
+                if (i % 2 == 0) {
+                    gravador.gravar(voto);
+                    aceitos.incrementAndGet();
+                } else if (gravador.gravarLote(List.of(voto))[0]) {
+                    aceitos.incrementAndGet();
+                }
+            }
+        });
+        Voto doHibernate = votoRepository.save(new Voto(Cpf.daBase(proximaBase.getAndIncrement()), Escolha.SIM, pauta));
+
+        // ASSERT - uma colisão de ID apareceria como voto duplicado recusado
+        assertEquals(THREADS * RODADAS, aceitos.get());
+        assertEquals(THREADS * RODADAS + 1, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+        assertTrue(votoJdbcRepository.maiorId() >= doHibernate.getId());
+    }
+
+    @Test
+    void registrarVoto_mesmoCpfEmParalelo_deveContabilizarUmaUnicaVez() {
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            // ARRANGE
+            Pauta pauta = criarPauta();
+            pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+            AtomicInteger aceitos = new AtomicInteger();
+            AtomicInteger duplicados = new AtomicInteger();
+
+            // ACT
+            emParalelo(() -> {
+                try {
+                    votoService.registrarVotoPorTitulo(pauta.getTituloPauta(), "98765432100", "NAO");
+                    aceitos.incrementAndGet();
+                } catch (VotoDuplicadoException e) {
+                    duplicados.incrementAndGet();
+                }
+            });
+
+            // ASSERT - nenhuma requisição termina com outro erro e o placar confere com o banco
+            assertEquals(1, aceitos.get());
+            assertEquals(THREADS - 1, duplicados.get());
+            assertEquals(1, votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO));
+            assertEquals(1, apuracao.placar(pauta.getId()).getNao());
+        }
+    }
+
+    /**
+     * Dispara a tarefa em todas as threads ao mesmo tempo e espera todas terminarem.
+     */
+    private void emParalelo(Runnable tarefa) {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tarefas.add(CompletableFuture.runAsync(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                tarefa.run();
+            }, executor));
+        }
+        largada.countDown();
+        tarefas.forEach(CompletableFuture::join);
+    }
+
+    private Pauta criarPauta() {
+        return pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Direta " + System.nanoTime())));
+    }
+
+    private NovoVoto voto(String cpf, Pauta pauta) {
+        return new NovoVoto(pauta.getId(), new Cpf(cpf).getNumero(), Escolha.SIM);
+    }
+}
@@ -0,0 +1,177 @@
+package com.henrique.votacao.infrastructure.ingestao;
+
+import com.henrique.votacao.domain.exception.VotoDuplicadoException;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+import com.henrique.votacao.repository.VotoJdbcRepository;
+import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.service.PautaService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GravadorVotosEmLoteTest {
+
+    private static final int THREADS = 32;
+    private static final int VOTOS_POR_THREAD = 100;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private VotoJdbcRepository votoJdbcRepository;
+
+    private GravadorVotosEmLote gravador;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        gravador = new GravadorVotosEmLote(votoJdbcRepository, 500, 2, 50_000);
+        gravador.start();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (gravador.isRunning()) {
+            gravador.stop();
+        }
+    }
+
+    @Test
+    void gravar_deveGravarTodosOsVotosEmLote() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+
+        // ACT
+        votarEmParalelo(gravador, pauta);
+
+        // ASSERT
+        assertEquals(THREADS * VOTOS_POR_THREAD, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+    }
+
+    @Test
+    void gravar_votoDuplicado_deveLancarVotoDuplicadoException() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        gravador.gravar(voto("12345678909", pauta));
+
+        // ACT & ASSERT
+        assertThrows(VotoDuplicadoException.class, () -> gravador.gravar(voto("12345678909", pauta)));
+        assertEquals(1, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+    }
+
+    @Test
+    void gravar_duplicadosNoMesmoLote_deveAceitarApenasUm() {
+        // ARRANGE
+        Pauta pauta = criarPauta();
+        AtomicInteger aceitos = new AtomicInteger();
+        AtomicInteger duplicados = new AtomicInteger();
+
+        // ACT
+        List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tarefas.add(CompletableFuture.runAsync(() -> {
+                try {
+                    gravador.gravar(voto("12345678909", pauta));
+                    aceitos.incrementAndGet();
+                } catch (VotoDuplicadoException e) {
+                    duplicados.incrementAndGet();
+                }
+            }, executor));
+        }
+        tarefas.forEach(CompletableFuture::join);
+
+        // ASSERT
+        assertEquals(1, aceitos.get());
+        assertEquals(THREADS - 1, duplicados.get());
+        assertEquals(1, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+    }
+
+    @Test
+    void stop_deveGravarVotosPendentesAntesDeEncerrar() throws InterruptedException {
+        // ARRANGE - intervalo longo para os votos ficarem parados na fila
+        gravador.stop();
+        gravador = new GravadorVotosEmLote(votoJdbcRepository, 10_000, 60_000, 50_000);
+        gravador.start();
+        Pauta pauta = criarPauta();
+
+        List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String cpf = Cpf.daBase(i + 1).toString();
+            tarefas.add(CompletableFuture.runAsync(() -> gravador.gravar(voto(cpf, pauta)), executor));
+        }
+
+        // ACT
+        Thread.sleep(500);
+        assertTrue(tarefas.stream().noneMatch(CompletableFuture::isDone));
+        gravador.stop();
+
+        // ASSERT
+        tarefas.forEach(CompletableFuture::join);
+        assertEquals(200, votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM));
+    }
+
+    @Test
+    void compararVazao_diretaVersusLote() {
+        GravadorVotosDireto direto = new GravadorVotosDireto(votoJdbcRepository);
+
+        long inicioDireto = System.nanoTime();
+        votarEmParalelo(direto, criarPauta());
+        long tempoDireto = System.nanoTime() - inicioDireto;
+
+        long inicioLote = System.nanoTime();
+        votarEmParalelo(gravador, criarPauta());
+        long tempoLote = System.nanoTime() - inicioLote;
+
+        int total = THREADS * VOTOS_POR_THREAD;
+        System.out.printf("Vazão direta: %d votos em %dms (%.0f votos/s)%n",
+                total, tempoDireto / 1_000_000, total / (tempoDireto / 1e9));
+        System.out.printf("Vazão em lote: %d votos em %dms (%.0f votos/s)%n",
+                total, tempoLote / 1_000_000, total / (tempoLote / 1e9));
+    }
+
+    private void votarEmParalelo(GravadorVotos gravadorVotos, Pauta pauta) {
+        List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tarefas.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < VOTOS_POR_THREAD; i++) {
+                    gravadorVotos.gravar(voto(Cpf.daBase(thread * VOTOS_POR_THREAD + i + 1).toString(), pauta));
+                }
+            }, executor));
+        }
+        tarefas.forEach(CompletableFuture::join);
+    }
+
+    private Pauta criarPauta() {
+        return pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Lote " + System.nanoTime())));
+    }
+
+    private NovoVoto voto(String cpf, Pauta pauta) {
+        return new NovoVoto(pauta.getId(), new Cpf(cpf).getNumero(), Escolha.SIM);
+    }
+}
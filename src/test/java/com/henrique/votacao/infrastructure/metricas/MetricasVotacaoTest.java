@@ -0,0 +1,70 @@
+package com.henrique.votacao.infrastructure.metricas;
+
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasVotacaoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricasVotacao metricas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricas = new MetricasVotacao(meterRegistry, 2, 10_000);
+    }
+
+    @Test
+    void atualizarTaxas_devePublicarAsMaisVotadasESomarAsDemais() {
+        // ARRANGE
+        metricas.registrarVotos(pauta("Pauta A"), 30);
+        metricas.registrarVotos(pauta("Pauta B"), 20);
+        metricas.registrarVotos(pauta("Pauta C"), 5);
+        metricas.registrarVotos(pauta("Pauta D"), 5);
+
+        // ACT
+        metricas.atualizarTaxas();
+
+        // ASSERT - três séries (as duas mais votadas e "outras"), na proporção dos votos
+        Map<String, Double> taxas = taxas();
+        assertEquals(3, taxas.size());
+        assertEquals(1.5, taxas.get("Pauta A") / taxas.get("Pauta B"), 1e-6);
+        assertEquals(3.0, taxas.get("Pauta A") / taxas.get(MetricasVotacao.OUTRAS_PAUTAS), 1e-6);
+        assertEquals(60.0, meterRegistry.get("votacao.votos.registrados").counter().count());
+    }
+
+    @Test
+    void atualizarTaxas_pautaSemVotosNoIntervalo_deveDeixarDeSerPublicada() {
+        // ARRANGE
+        metricas.registrarVotos(pauta("Pauta A"), 10);
+        metricas.registrarVotos(pauta("Pauta B"), 10);
+        metricas.atualizarTaxas();
+        metricas.registrarVotos(pauta("Pauta B"), 10);
+
+        // ACT
+        metricas.atualizarTaxas();
+
+        // ASSERT
+        assertEquals(Map.of("Pauta B", taxas().get("Pauta B")), taxas());
+    }
+
+    private Map<String, Double> taxas() {
+        return meterRegistry.find("votacao.pauta.votos.taxa").gauges().stream()
+                .collect(Collectors.toMap(gauge -> gauge.getId().getTag("pauta"), Gauge::value));
+    }
+
+    private static Pauta pauta(String titulo) {
+        return new Pauta(new TituloPauta(titulo));
+    }
+}
@@ -0,0 +1,178 @@
+package com.henrique.votacao.infrastructure.transmissao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssinanteResultadosTest {
+
+    private ExecutorService executor;
+    private LongAdder descartados;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        descartados = new LongAdder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void publicar_clienteLento_deveEnviarSomenteOEventoMaisRecente() throws InterruptedException {
+        // ARRANGE - o primeiro envio fica bloqueado até a liberação
+        CountDownLatch liberacao = new CountDownLatch(1);
+        EmitterGravador emitter = new EmitterGravador(liberacao);
+        AssinanteResultados assinante = new AssinanteResultados(emitter, executor, descartados);
+
+        // ACT
+        assinante.publicar(evento("0"));
+        emitter.aguardarPrimeiroEnvio();
+        for (int i = 1; i <= 100; i++) {
+            assinante.publicar(evento(String.valueOf(i)));
+        }
+        liberacao.countDown();
+
+        // ASSERT
+        emitter.aguardarEnvios(2);
+        assertEquals(List.of("0", "100"), emitter.enviados);
+        assertEquals(99, descartados.sum());
+    }
+
+    @Test
+    void publicarFinal_naoDeveSerSubstituidoEDeveEncerrarConexao() throws InterruptedException {
+        // ARRANGE
+        CountDownLatch liberacao = new CountDownLatch(1);
+        EmitterGravador emitter = new EmitterGravador(liberacao);
+        AssinanteResultados assinante = new AssinanteResultados(emitter, executor, descartados);
+
+        // ACT
+        assinante.publicar(evento("0"));
+        emitter.aguardarPrimeiroEnvio();
+        assinante.publicar(evento("1"));
+        assinante.publicarFinal(evento("final"));
+        assinante.publicar(evento("2"));
+        liberacao.countDown();
+
+        // ASSERT
+        emitter.aguardarEnvios(2);
+        assertTrue(emitter.completado.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("0", "final"), emitter.enviados);
+    }
+
+    @Test
+    void descartarLento_envioPreso_deveSairEEncerrarConexao() throws InterruptedException {
+        // ARRANGE - o cliente parou de ler: o envio não volta
+        CountDownLatch liberacao = new CountDownLatch(1);
+        EmitterGravador emitter = new EmitterGravador(liberacao);
+        AssinanteResultados assinante = new AssinanteResultados(emitter, executor, descartados);
+        CountDownLatch saiu = new CountDownLatch(1);
+        assinante.aoSair(saiu::countDown);
+        long limite = TimeUnit.SECONDS.toNanos(10);
+
+        assinante.publicar(evento("0"));
+        emitter.aguardarPrimeiroEnvio();
+        long agora = System.nanoTime();
+        assertFalse(assinante.envioExpirou(agora, limite));
+        assertTrue(assinante.envioExpirou(agora + limite + 1, limite));
+
+        // ACT
+        assinante.descartarLento();
+        assinante.publicar(evento("1"));
+
+        // ASSERT - sai na hora, encerra a conexão sem esperar o envio preso e não envia mais nada
+        assertTrue(saiu.await(5, TimeUnit.SECONDS));
+        assertTrue(emitter.completado.await(5, TimeUnit.SECONDS));
+        liberacao.countDown();
+        emitter.aguardarEnvios(1);
+        assertEquals(List.of("0"), emitter.enviados);
+    }
+
+    @Test
+    void aoSair_conexaoJaEncerrada_deveChamarNaHora() {
+        // ARRANGE - o envio roda na própria thread e falha: o cliente desconectou antes do registro
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> dados) throws IOException {
+                throw new IOException("cliente desconectado");
+            }
+        };
+        AssinanteResultados assinante = new AssinanteResultados(emitter, Runnable::run, descartados);
+        assinante.publicar(evento("0"));
+        AtomicInteger saidas = new AtomicInteger();
+
+        // ACT
+        assinante.aoSair(saidas::incrementAndGet);
+        int saidasNoRegistro = saidas.get();
+        assinante.descartarLento();
+
+        // ASSERT - chamado no registro, e uma única vez
+        assertEquals(1, saidasNoRegistro);
+        assertEquals(1, saidas.get());
+    }
+
+    private static Set<DataWithMediaType> evento(String dado) {
+        return Set.of(new DataWithMediaType(dado, null));
+    }
+
+    /**
+     * Emitter que grava os envios; o primeiro envio espera a liberação, simulando um cliente lento.
+     */
+    private static class EmitterGravador extends SseEmitter {
+
+        private final CountDownLatch liberacao;
+        private final CountDownLatch primeiroEnvio = new CountDownLatch(1);
+        private final CountDownLatch completado = new CountDownLatch(1);
+        private final List<String> enviados = new CopyOnWriteArrayList<>();
+
+        EmitterGravador(CountDownLatch liberacao) {
+            this.liberacao = liberacao;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> dados) throws IOException {
+            primeiroEnvio.countDown();
+            try {
+                liberacao.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            enviados.add((String) dados.iterator().next().getData());
+        }
+
+        @Override
+        public void complete() {
+            completado.countDown();
+        }
+
+        void aguardarPrimeiroEnvio() throws InterruptedException {
+            assertTrue(primeiroEnvio.await(5, TimeUnit.SECONDS));
+        }
+
+        void aguardarEnvios(int quantidade) throws InterruptedException {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (enviados.size() < quantidade && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
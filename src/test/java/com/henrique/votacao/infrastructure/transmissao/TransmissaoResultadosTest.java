@@ -0,0 +1,118 @@
+package com.henrique.votacao.infrastructure.transmissao;
+
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.service.EncerramentoSessaoService;
+import com.henrique.votacao.service.PautaService;
+import com.henrique.votacao.service.VotoService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "votacao.resultados.stream.intervalo-ms=50")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class TransmissaoResultadosTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private EncerramentoSessaoService encerramentoSessao;
+
+    @MockitoBean
+    private CpfClientFake cpfClient;
+
+    private Pauta pauta;
+
+    @BeforeEach
+    void setup() {
+        pauta = pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Stream " + System.nanoTime())));
+        pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+    }
+
+    @Test
+    void stream_deveEnviarPlacarAtualizadoEResultadoFinal() throws Exception {
+        // ARRANGE
+        MvcResult inscricao = mockMvc.perform(get("/api/v1/pautas/{titulo}/resultados/stream", pauta.getTituloPauta())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        aguardar(inscricao, corpo -> corpo.contains("event:resultado\n"));
+
+        // ACT
+        IntStream.range(0, 4).forEach(i -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(i + 1).toString(), i == 0 ? "NAO" : "SIM"));
+        aguardar(inscricao, corpo -> corpo.contains("\"sim\":75.0"));
+        encerramentoSessao.encerrar(pauta.getId());
+
+        // ASSERT
+        String corpo = aguardar(inscricao, c -> c.contains("event:resultado-final"));
+        assertTrue(corpo.substring(corpo.indexOf("event:resultado-final")).contains("\"status\":\"APROVADA\""));
+    }
+
+    @Test
+    void stream_pautaEncerrada_deveEnviarResultadoFinalImediatamente() throws Exception {
+        // ARRANGE
+        encerramentoSessao.encerrar(pauta.getId());
+
+        // ACT
+        MvcResult inscricao = mockMvc.perform(get("/api/v1/pautas/{titulo}/resultados/stream", pauta.getTituloPauta())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // ASSERT
+        String corpo = aguardar(inscricao, c -> c.contains("event:resultado-final"));
+        assertTrue(corpo.contains("SEM_VOTOS"));
+    }
+
+    @Test
+    void stream_pautaInexistente_deveRetornar404() throws Exception {
+        mockMvc.perform(get("/api/v1/pautas/{titulo}/resultados/stream", "Pauta Inexistente " + System.nanoTime())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String aguardar(MvcResult inscricao, Predicate<String> condicao) throws Exception {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String corpo = inscricao.getResponse().getContentAsString();
+        while (!condicao.test(corpo) && System.nanoTime() < limite) {
+            Thread.sleep(20);
+            corpo = inscricao.getResponse().getContentAsString();
+        }
+        assertTrue(condicao.test(corpo), "evento não recebido: " + corpo);
+        return corpo;
+    }
+}
@@ -0,0 +1,205 @@
+package com.henrique.votacao.repository;
+
+import com.henrique.votacao.domain.model.voto.Escolha;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Distribuição dos IDs de voto em blocos da sequência, com threads virtuais e um banco que demora
+ * para reservar cada bloco.
+ */
+class VotoJdbcRepositoryTest {
+
+    private static final long INCREMENTO = 5;
+    private static final int THREADS = 200;
+    private static final int VOTOS_POR_THREAD = 10;
+
+    @Test
+    void inserirSeAusente_emThreadsVirtuais_naoDevePrenderThreadNemRepetirIds() throws Exception {
+        // ARRANGE - reservar um bloco estaciona a thread, como uma ida ao banco pela rede
+        Queue<Long> ids = new ConcurrentLinkedQueue<>();
+        VotoJdbcRepository repository = new VotoJdbcRepository(new BancoLento(ids));
+        List<String> pinagens = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream gravacao = new RecordingStream();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            gravacao.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            gravacao.onEvent("jdk.VirtualThreadPinned", evento -> pinagens.add(pilha(evento)));
+            gravacao.startAsync();
+
+            // ACT
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int v = 0; v < VOTOS_POR_THREAD; v++) {
+                        repository.inserirSeAusente(new NovoVoto(1L, 12345678909L, Escolha.SIM));
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+
+            // Garante que os eventos já emitidos chegaram ao stream antes de parar
+            gravacao.stop();
+        }
+
+        // ASSERT
+        Set<Long> distintos = new HashSet<>(ids);
+        assertEquals(THREADS * VOTOS_POR_THREAD, ids.size());
+        assertEquals(ids.size(), distintos.size(), "IDs repetidos");
+        assertTrue(pinagens.isEmpty(), "threads virtuais presas ao reservar IDs:\n" + String.join("\n\n", pinagens));
+    }
+
+    @Test
+    void inserir_emLoteEAvulsoComPoolPequeno_naoDeveTravarOPool() throws Exception {
+        // ARRANGE - sequência com incremento 1: cada ID reserva um bloco. Os lotes reservam dentro da
+        // transação, segurando a conexão; os avulsos reservam fora, com uma conexão a mais
+        HikariConfig configuracao = new HikariConfig();
+        configuracao.setJdbcUrl("jdbc:h2:mem:ids-pool-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        configuracao.setMaximumPoolSize(2);
+        configuracao.setConnectionTimeout(2000);
+        try (HikariDataSource dataSource = new HikariDataSource(configuracao);
+             ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE SEQUENCE voto_seq START WITH 1 INCREMENT BY 1");
+            jdbcTemplate.execute("CREATE TABLE voto (id BIGINT PRIMARY KEY, cpf_id BIGINT, escolha VARCHAR(3), pauta_id BIGINT)");
+            VotoJdbcRepository repository = new VotoJdbcRepository(jdbcTemplate);
+            TransactionTemplate transacao = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            AtomicLong cpfs = new AtomicLong();
+
+            // ACT
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                boolean emLote = t % 2 == 0;
+                tarefas.add(executor.submit(() -> {
+                    for (int v = 0; v < 100; v++) {
+                        NovoVoto voto = new NovoVoto(1L, cpfs.incrementAndGet(), Escolha.SIM);
+                        if (emLote) {
+                            transacao.executeWithoutResult(status -> repository.inserirEmLote(List.of(voto)));
+                        } else {
+                            repository.inserirSeAusente(voto);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+
+            // ASSERT
+            assertEquals(800, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM voto", Long.class));
+        }
+    }
+
+    @Test
+    void inserirSeAusente_colisaoDeId_deveRelancarEmVezDeTratarComoDuplicado() {
+        // ARRANGE - a sequência devolve um ID que já está na tabela, de outro CPF
+        HikariConfig configuracao = new HikariConfig();
+        configuracao.setJdbcUrl("jdbc:h2:mem:ids-colisao-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        try (HikariDataSource dataSource = new HikariDataSource(configuracao)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE SEQUENCE voto_seq START WITH 1 INCREMENT BY 1");
+            jdbcTemplate.execute("CREATE TABLE voto (id BIGINT PRIMARY KEY, cpf_id BIGINT, escolha VARCHAR(3), pauta_id BIGINT, "
+                    + "CONSTRAINT uk_cpf_pauta UNIQUE (cpf_id, pauta_id))");
+            jdbcTemplate.update("INSERT INTO voto VALUES (1, 12345678909, 'SIM', 1)");
+            VotoJdbcRepository repository = new VotoJdbcRepository(jdbcTemplate);
+
+            // ACT & ASSERT - a colisão de ID não é um voto repetido; o CPF que já votou continua sendo
+            assertThrows(DuplicateKeyException.class,
+                    () -> repository.inserirSeAusente(new NovoVoto(1L, 98765432100L, Escolha.NAO)));
+            assertFalse(repository.inserirSeAusente(new NovoVoto(1L, 12345678909L, Escolha.NAO)));
+            assertTrue(repository.inserirSeAusente(new NovoVoto(1L, 98765432100L, Escolha.NAO)));
+        }
+    }
+
+    /**
+     * JdbcTemplate sem banco: a sequência devolve blocos de {@value #INCREMENTO} IDs depois de uma
+     * pausa, e cada insert só registra o ID recebido.
+     */
+    private static final class BancoLento extends JdbcTemplate {
+
+        private final AtomicLong sequencia = new AtomicLong(1);
+        private final Queue<Long> ids;
+
+        private BancoLento(Queue<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> tipo) {
+            if (sql.contains("information_schema")) {
+                return (T) Long.valueOf(INCREMENTO);
+            }
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return (T) Long.valueOf(sequencia.getAndAdd(INCREMENTO));
+        }
+
+        @Override
+        public int update(String sql, PreparedStatementSetter setter) {
+            PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, metodo, argumentos) -> {
+                        if (metodo.getName().equals("setLong") && (int) argumentos[0] == 1) {
+                            ids.add((Long) argumentos[1]);
+                        }
+                        return null;
+                    });
+            try {
+                setter.setValues(statement);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return 1;
+        }
+    }
+
+    private static String pilha(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "(sem pilha)";
+        }
+        return evento.getStackTrace().getFrames().stream()
+                .limit(25)
+                .map(RecordedFrame::getMethod)
+                .map(metodo -> "  " + metodo.getType().getName() + "." + metodo.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
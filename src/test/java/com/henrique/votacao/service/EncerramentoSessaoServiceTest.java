@@ -0,0 +1,176 @@
+package com.henrique.votacao.service;
+
+import com.henrique.votacao.DesafioVotacaoApplication;
+import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
+import com.henrique.votacao.domain.exception.SessaoFechadaException;
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
+import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
+import com.henrique.votacao.domain.model.pauta.StatusResultado;
+import com.henrique.votacao.domain.model.pauta.TituloPauta;
+import com.henrique.votacao.domain.model.voto.Cpf;
+import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.repository.PautaRepository;
+import com.henrique.votacao.repository.ResultadoPautaRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EncerramentoSessaoServiceTest {
+
+    @Autowired
+    private EncerramentoSessaoService encerramentoSessao;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private ResultadoPautaRepository resultadoPautaRepository;
+
+    @Autowired
+    private Clock relogio;
+
+    @MockitoBean
+    private CpfClientFake cpfClient;
+
+    @BeforeEach
+    void setup() {
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+    }
+
+    @Test
+    void encerrar_deveGravarResultadoEFecharSessao() {
+        // ARRANGE
+        Pauta pauta = pautaService.criarPauta(new Pauta(new TituloPauta("Pauta Encerramento " + System.nanoTime())));
+        pautaService.abrirSessao(pauta.getTituloPauta(), 5);
+        IntStream.range(0, 4).forEach(i -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(i + 1).toString(), i == 0 ? "NAO" : "SIM"));
+
+        // ACT
+        ResultadoPauta resultado = encerramentoSessao.encerrar(pauta.getId());
+
+        // ASSERT
+        assertEquals(StatusResultado.APROVADA, resultado.getStatus());
+        ResultadoPauta gravado = resultadoPautaRepository.findById(pauta.getId()).orElseThrow();
+        assertEquals(3, gravado.getVotosSim());
+        assertEquals(1, gravado.getVotosNao());
+        assertTrue(pautaRepository.findById(pauta.getId()).orElseThrow().sessaoEncerrada());
+
+        ResultadoVotacaoResponseDTO response = votoService.calcularResultadoPorTitulo(pauta.getTituloPauta());
+        assertEquals(75, response.resultado().sim());
+        assertEquals(25, response.resultado().nao());
+
+        // A sessão de 5 minutos ainda estaria no prazo, mas já foi encerrada
+        assertThrows(SessaoFechadaException.class, () -> votoService.registrarVotoPorTitulo(
+                pauta.getTituloPauta(), Cpf.daBase(99).toString(), "SIM"));
+        assertNull(encerramentoSessao.encerrar(pauta.getId()));
+    }
+
+    @Test
+    void recuperarSessoes_deveEncerrarSessoesVencidasComAplicacaoParada() {
+        // ARRANGE - sessão que venceu antes da inicialização
+        Pauta pauta = new Pauta(new TituloPauta("Pauta Vencida " + System.nanoTime()));
+        pauta.abrirSessao(1, relogio.millis() - Duration.ofMinutes(10).toMillis());
+        pauta = pautaRepository.save(pauta);
+
+        // ACT
+        encerramentoSessao.recuperarSessoes();
+
+        // ASSERT
+        assertTrue(resultadoPautaRepository.findById(pauta.getId()).isPresent());
+        assertTrue(pautaRepository.findById(pauta.getId()).orElseThrow().sessaoEncerrada());
+    }
+
+    @Test
+    void inicializacaoDiario_sessaoVencidaNaTabelaVoto_deveApurarOsVotosImportados(@TempDir Path diretorio)
+            throws InterruptedException {
+        // ARRANGE - banco já em uso no modo direta, com uma sessão que venceu com a aplicação parada
+        String banco = "--spring.datasource.url=jdbc:h2:file:" + diretorio.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE";
+        long pautaId;
+        try (ConfigurableApplicationContext contexto = iniciar(banco)) {
+            Pauta pauta = new Pauta(new TituloPauta("Pauta Vencida no Diário"));
+            pauta.abrirSessao(1, relogio.millis() - Duration.ofMinutes(10).toMillis());
+            pautaId = contexto.getBean(PautaRepository.class).save(pauta).getId();
+            JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+            for (int i = 1; i <= 3; i++) {
+                jdbcTemplate.update("INSERT INTO voto (id, cpf_id, escolha, pauta_id) VALUES (NEXT VALUE FOR voto_seq, ?, ?, ?)",
+                        Cpf.daBase(i).getNumero(), i == 1 ? "NAO" : "SIM", pautaId);
+            }
+        }
+
+        // ACT - primeira subida no modo diario: o diário começa vazio e importa a tabela voto
+        Optional<ResultadoPauta> resultado = Optional.empty();
+        try (ConfigurableApplicationContext contexto = iniciar(banco, "--votacao.ingestao.modo=diario",
+                "--votacao.diario.diretorio=" + diretorio.resolve("diario"))) {
+            ResultadoPautaRepository resultados = contexto.getBean(ResultadoPautaRepository.class);
+            for (int tentativa = 0; tentativa < 50 && resultado.isEmpty(); tentativa++) {
+                Thread.sleep(100);
+                resultado = resultados.findById(pautaId);
+            }
+        }
+
+        // ASSERT - apurado com os votos importados, e não 0x0
+        assertEquals(2, resultado.orElseThrow().getVotosSim());
+        assertEquals(1, resultado.orElseThrow().getVotosNao());
+    }
+
+    @Test
+    void agendar_sessaoVencida_deveSerEncerradaPelaRoda() throws InterruptedException {
+        // ARRANGE
+        Pauta pauta = new Pauta(new TituloPauta("Pauta Agendada " + System.nanoTime()));
+        long abertura = relogio.millis() - Duration.ofMinutes(2).toMillis();
+        pauta.abrirSessao(1, abertura);
+        pauta = pautaRepository.save(pauta);
+
+        // ACT
+        encerramentoSessao.agendar(pauta.getId(), pauta.getFechamentoEpochMs());
+
+        // ASSERT
+        Optional<ResultadoPauta> resultado = Optional.empty();
+        for (int tentativa = 0; tentativa < 50 && resultado.isEmpty(); tentativa++) {
+            Thread.sleep(100);
+            resultado = resultadoPautaRepository.findById(pauta.getId());
+        }
+        assertEquals(StatusResultado.SEM_VOTOS, resultado.orElseThrow().getStatus());
+    }
+
+    private static ConfigurableApplicationContext iniciar(String... argumentos) {
+        String[] comuns = {"--spring.main.banner-mode=off", "--spring.jpa.hibernate.ddl-auto=update"};
+        String[] todos = Arrays.copyOf(comuns, comuns.length + argumentos.length);
+        System.arraycopy(argumentos, 0, todos, comuns.length, argumentos.length);
+        return new SpringApplicationBuilder(DesafioVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(todos);
+    }
+}
@@ -1,15 +1,28 @@
 package com.henrique.votacao.service;
 
+import com.henrique.votacao.application.dto.response.PautaPaginaResponseDTO;
 import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.StatusSessao;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
 import com.henrique.votacao.domain.exception.PautaNaoEncontradaException;
+import com.henrique.votacao.exception.BusinessException;
+import com.henrique.votacao.infrastructure.cache.CachePautas;
+import com.henrique.votacao.repository.PautaJdbcRepository;
 import com.henrique.votacao.repository.PautaRepository;
+import com.henrique.votacao.repository.ResumoPauta;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.Mockito;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,13 +30,23 @@ import static org.mockito.Mockito.*;
 
 class PautaServiceTest {
 
+    private static final Instant AGORA = Instant.parse("2025-01-10T14:30:00Z");
+
     private PautaRepository pautaRepository;
+    private PautaJdbcRepository pautaJdbcRepository;
+    private EncerramentoSessaoService encerramentoSessao;
     private PautaService pautaService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         pautaRepository = Mockito.mock(PautaRepository.class);
-        pautaService = new PautaService(pautaRepository);
+        pautaJdbcRepository = Mockito.mock(PautaJdbcRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        CachePautas cachePautas = new CachePautas(meterRegistry, 100, 30_000, 2_000);
+        encerramentoSessao = Mockito.mock(EncerramentoSessaoService.class);
+        pautaService = new PautaService(pautaRepository, pautaJdbcRepository, cachePautas, Mockito.mock(EntityManager.class),
+                encerramentoSessao, Clock.fixed(AGORA, ZoneOffset.UTC));
     }
 
     @Test
@@ -56,11 +79,11 @@ class PautaServiceTest {
         Pauta result = pautaService.abrirSessao(titulo, null);
 
         // ASSERT
-        assertNotNull(result.getAbertura());
-        assertNotNull(result.getFechamento());
-        assertFalse(result.getAbertura().isEmpty());
-        assertFalse(result.getFechamento().isEmpty());
+        assertEquals(AGORA.toEpochMilli(), result.getAberturaEpochMs());
+        assertEquals(AGORA.plusSeconds(60).toEpochMilli(), result.getFechamentoEpochMs());
+        assertEquals(1, result.getDuracaoMinutos());
         verify(pautaRepository, times(1)).save(pauta);
+        verify(encerramentoSessao, times(1)).agendar(result.getId(), result.getFechamentoEpochMs());
     }
 
     @Test
@@ -76,4 +99,96 @@ class PautaServiceTest {
         // ASSERT
         assertTrue(ex.getMessage().contains("Pauta não encontrada"));
     }
+
+    @Test
+    void buscarPorTitulo_deveConsultarBancoUmaVezEUsarCache() {
+        // ARRANGE
+        Pauta pauta = new Pauta(new TituloPauta("Pauta Cache"));
+        when(pautaRepository.findByTituloPauta("Pauta Cache")).thenReturn(Optional.of(pauta));
+
+        // ACT
+        pautaService.buscarPorTitulo("Pauta Cache");
+        Optional<Pauta> result = pautaService.buscarPorTitulo("Pauta Cache");
+
+        // ASSERT
+        assertSame(pauta, result.orElseThrow());
+        verify(pautaRepository, times(1)).findByTituloPauta("Pauta Cache");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "pautas").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void buscarPorTitulo_inexistente_deveGuardarResultadoNegativo() {
+        // ARRANGE
+        when(pautaRepository.findByTituloPauta("Inexistente")).thenReturn(Optional.empty());
+
+        // ACT
+        pautaService.buscarPorTitulo("Inexistente");
+        Optional<Pauta> result = pautaService.buscarPorTitulo("Inexistente");
+
+        // ASSERT
+        assertTrue(result.isEmpty());
+        verify(pautaRepository, times(1)).findByTituloPauta("Inexistente");
+    }
+
+    @Test
+    void criarPauta_deveInvalidarResultadoNegativoEmCache() {
+        // ARRANGE
+        Pauta pauta = new Pauta(new TituloPauta("Pauta Nova"));
+        when(pautaRepository.findByTituloPauta("Pauta Nova")).thenReturn(Optional.empty(), Optional.of(pauta));
+        when(pautaRepository.save(pauta)).thenReturn(pauta);
+        pautaService.buscarPorTitulo("Pauta Nova");
+
+        // ACT
+        pautaService.criarPauta(pauta);
+
+        // ASSERT
+        assertSame(pauta, pautaService.buscarPorTitulo("Pauta Nova").orElseThrow());
+    }
+
+    @Test
+    void abrirSessao_deveInvalidarPautaEmCache() {
+        // ARRANGE
+        Pauta emCache = new Pauta(new TituloPauta("Pauta Sessao"));
+        Pauta doBanco = new Pauta(new TituloPauta("Pauta Sessao"));
+        when(pautaRepository.findByTituloPauta("Pauta Sessao")).thenReturn(Optional.of(emCache), Optional.of(doBanco));
+        when(pautaRepository.save(doBanco)).thenReturn(doBanco);
+        pautaService.buscarPorTitulo("Pauta Sessao");
+
+        // ACT
+        pautaService.abrirSessao("Pauta Sessao", 5);
+
+        // ASSERT
+        Pauta atual = pautaService.buscarPorTitulo("Pauta Sessao").orElseThrow();
+        assertTrue(atual.podeReceberVoto(AGORA.toEpochMilli()));
+        assertFalse(emCache.temSessaoAberta());
+    }
+
+    @Test
+    void listarPautas_comMaisPautasQueOTamanho_deveRetornarCursorDaUltimaDaPagina() {
+        // ARRANGE - o repositório recebe um a mais que o tamanho para saber se há próxima página
+        long agora = AGORA.toEpochMilli();
+        when(pautaJdbcRepository.listar(StatusSessao.ABERTA, 10L, agora, 3)).thenReturn(List.of(
+                new ResumoPauta(11, "Pauta A", agora + 60_000, null),
+                new ResumoPauta(15, "Pauta B", agora - 1, false),
+                new ResumoPauta(20, "Pauta C", agora + 60_000, null)));
+
+        // ACT
+        PautaPaginaResponseDTO pagina = pautaService.listarPautas("aberta", 10L, 2);
+
+        // ASSERT
+        assertEquals(2, pagina.pautas().size());
+        assertEquals(15L, pagina.proximoCursor());
+        assertEquals(new PautaPaginaResponseDTO.ItemDTO("Pauta A", StatusSessao.ABERTA, "2025-01-10T14:31:00Z"),
+                pagina.pautas().get(0));
+        assertEquals(StatusSessao.ENCERRADA, pagina.pautas().get(1).status());
+    }
+
+    @Test
+    void listarPautas_parametrosInvalidos_deveLancarBusinessException() {
+        // ACT + ASSERT
+        assertThrows(BusinessException.class, () -> pautaService.listarPautas("FECHADA", null, 20));
+        assertThrows(BusinessException.class, () -> pautaService.listarPautas(null, null, 0));
+        assertThrows(BusinessException.class, () -> pautaService.listarPautas(null, -1L, 20));
+        verifyNoInteractions(pautaJdbcRepository);
+    }
 }
@@ -1,113 +1,190 @@
 package com.henrique.votacao.service;
 
-import com.henrique.votacao.infrastructure.client.CpfClientFake;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoEmMemoria;
+import com.henrique.votacao.infrastructure.apuracao.ApuracaoPauta;
+import com.henrique.votacao.infrastructure.apuracao.IndiceVotantes;
+import com.henrique.votacao.infrastructure.apuracao.PlacarPauta;
+import com.henrique.votacao.infrastructure.cache.CacheElegibilidade;
+import com.henrique.votacao.infrastructure.client.ElegibilidadeClient;
+import com.henrique.votacao.infrastructure.client.ElegibilidadeHttpClient;
+import com.henrique.votacao.infrastructure.client.ElegibilidadeHttpClient.PoliticaFalha;
+import com.henrique.votacao.infrastructure.ingestao.GravadorVotos;
+import com.henrique.votacao.infrastructure.metricas.MetricasVotacao;
+import com.henrique.votacao.infrastructure.transmissao.TransmissaoResultados;
+import com.henrique.votacao.domain.model.associado.StatusVotacao;
 import com.henrique.votacao.domain.model.pauta.Pauta;
+import com.henrique.votacao.domain.model.pauta.ResultadoPauta;
 import com.henrique.votacao.domain.model.pauta.TituloPauta;
-import com.henrique.votacao.domain.model.voto.Voto;
+import com.henrique.votacao.domain.model.voto.NovoVoto;
 import com.henrique.votacao.domain.model.voto.Escolha;
 import com.henrique.votacao.domain.model.voto.Cpf;
 import com.henrique.votacao.domain.exception.*;
 import com.henrique.votacao.application.dto.response.ResultadoVotacaoResponseDTO;
 import com.henrique.votacao.exception.*;
-import com.henrique.votacao.repository.VotoRepository;
+import com.henrique.votacao.application.dto.request.VotoRequestDTO;
+import com.henrique.votacao.application.dto.response.VotoLoteResponseDTO;
+import com.henrique.votacao.application.dto.response.VotoLoteResponseDTO.StatusVotoLote;
+import com.henrique.votacao.repository.ResultadoPautaRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.Mockito;
 
-import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class VotoServiceTest {
 
-    private VotoRepository votoRepository;
+    private static final Instant AGORA = Instant.parse("2025-01-10T14:30:00Z");
+
+    private GravadorVotos gravadorVotos;
     private PautaService pautaService;
-    private CpfClientFake cpfClient;
+    private ElegibilidadeClient cpfClient;
+    private ApuracaoEmMemoria apuracao;
+    private ResultadoPautaRepository resultadoPautaRepository;
+    private SimpleMeterRegistry meterRegistry;
     private VotoService votoService;
 
     @BeforeEach
     void setUp() {
-        votoRepository = Mockito.mock(VotoRepository.class);
+        gravadorVotos = Mockito.mock(GravadorVotos.class);
         pautaService = Mockito.mock(PautaService.class);
-        cpfClient = Mockito.mock(CpfClientFake.class);
-        votoService = new VotoService(pautaService, votoRepository, cpfClient);
+        cpfClient = Mockito.mock(ElegibilidadeClient.class);
+        apuracao = Mockito.mock(ApuracaoEmMemoria.class);
+        resultadoPautaRepository = Mockito.mock(ResultadoPautaRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        votoService = new VotoService(pautaService, gravadorVotos, cpfClient, apuracao,
+                resultadoPautaRepository, Mockito.mock(TransmissaoResultados.class),
+                new MetricasVotacao(meterRegistry, 10, 10_000), Clock.fixed(AGORA, ZoneOffset.UTC));
     }
 
     @Test
     void registrarVoto_deveSalvarVoto() {
         // ARRANGE
         TituloPauta titulo = new TituloPauta("Pauta Teste");
-        Pauta pauta = new Pauta(titulo);
-        pauta.abrirSessao(5); // Opens session for 5 minutes
+        Pauta pauta = pautaComId(titulo);
+        pauta.abrirSessao(5, AGORA.toEpochMilli()); // Opens session for 5 minutes
 
         when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
-        when(votoRepository.existsBycpfIdAndPautaId("12345678901", pauta.getId())).thenReturn(false);
-        when(cpfClient.verificarCpf()).thenReturn(Map.of("status", "ABLE_TO_VOTE"));
-        when(votoRepository.save(any(Voto.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+        ApuracaoPauta apuracaoPauta = apuracaoComVotantes();
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoPauta);
 
         // ACT
-        Voto voto = votoService.registrarVotoPorTitulo("Pauta Teste", "12345678901", "SIM");
+        NovoVoto voto = votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM");
 
-        // ASSERT
-        assertNotNull(voto);
-        assertEquals("12345678901", voto.getCpfId());
-        assertEquals(Escolha.SIM, voto.getEscolha());
-        assertNotNull(voto.getPauta());
-        verify(votoRepository, times(1)).save(any(Voto.class));
+        // ASSERT - o voto é gravado só com o ID da pauta
+        assertEquals(new NovoVoto(pauta.getId(), 12345678909L, Escolha.SIM), voto);
+        verify(gravadorVotos, times(1)).gravar(voto);
+        assertEquals(1, apuracaoPauta.getPlacar().getSim());
+        assertTrue(apuracaoPauta.jaVotou(12345678909L));
+        for (String etapa : List.of("pauta", "votantes", "elegibilidade", "gravacao")) {
+            assertEquals(1, meterRegistry.get("votacao.etapa").tag("operacao", "voto").tag("etapa", etapa).timer().count());
+        }
+        assertEquals(1.0, meterRegistry.get("votacao.votos.registrados").counter().count());
     }
 
     @Test
     void registrarVoto_sessaoFechada_deveLancarExcecao() {
         // ARRANGE
         TituloPauta titulo = new TituloPauta("Pauta Teste");
-        Pauta pauta = new Pauta(titulo);
+        Pauta pauta = pautaComId(titulo);
         // Não abre a sessão ou cria uma sessão que já fechou (manualmente)
         // Simulamos uma pauta sem sessão aberta
 
         when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
-        when(cpfClient.verificarCpf()).thenReturn(Map.of("status", "ABLE_TO_VOTE"));
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
 
         // ACT & ASSERT - Como a sessão não foi aberta, deve lançar SessaoNaoAbertaException
         SessaoNaoAbertaException ex = assertThrows(SessaoNaoAbertaException.class,
-                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678901", "SIM"));
+                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM"));
 
         assertTrue(ex.getMessage().contains("não foi aberta"));
-        verify(votoRepository, never()).save(any(Voto.class));
+        verify(gravadorVotos, never()).gravar(any(NovoVoto.class));
+    }
+
+    @Test
+    void registrarVoto_sessaoEncerrada_deveLancarExcecaoELiberarVotantes() {
+        // ARRANGE - sessão de 5 minutos aberta 10 minutos antes do relógio
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.minus(Duration.ofMinutes(10)).toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+
+        // ACT & ASSERT
+        assertThrows(SessaoFechadaException.class,
+                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM"));
+
+        verify(apuracao, times(1)).liberarVotantes(pauta.getId());
+        verify(gravadorVotos, never()).gravar(any(NovoVoto.class));
     }
 
     @Test
     void registrarVoto_jaVotou_deveLancarExcecao() {
         // ARRANGE
         TituloPauta titulo = new TituloPauta("Pauta Teste");
-        Pauta pauta = new Pauta(titulo);
-        pauta.abrirSessao(5);
+        Pauta pauta = pautaComId(titulo);
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
 
         when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
-        when(votoRepository.existsBycpfIdAndPautaId("12345678901", pauta.getId())).thenReturn(true);
-        when(cpfClient.verificarCpf()).thenReturn(Map.of("status", "ABLE_TO_VOTE"));
+        ApuracaoPauta apuracaoPauta = apuracaoComVotantes(12345678909L);
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoPauta);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
 
         // ACT & ASSERT
         VotoDuplicadoException ex = assertThrows(VotoDuplicadoException.class,
-                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678901", "SIM"));
+                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM"));
 
         assertTrue(ex.getMessage().contains("já votou"));
-        verify(votoRepository, never()).save(any(Voto.class));
+        assertEquals(0, ex.getStackTrace().length);
+        verify(gravadorVotos, never()).gravar(any(NovoVoto.class));
+        assertEquals(0, apuracaoPauta.getPlacar().getTotal());
+        assertEquals(1.0, meterRegistry.get("votacao.votos.rejeitados").tag("motivo", "VotoDuplicadoException").counter().count());
+        assertEquals(0.0, meterRegistry.get("votacao.votos.rejeitados").tag("motivo", "AssociadoNaoAutorizadoException").counter().count());
+        assertEquals(0.0, meterRegistry.get("votacao.votos.registrados").counter().count());
     }
 
     @Test
     void calcularResultado_deveContabilizarCorretamente() {
         // ARRANGE
         TituloPauta titulo = new TituloPauta("Pauta Teste");
-        Pauta pauta = new Pauta(titulo);
+        Pauta pauta = pautaComId(titulo);
 
         when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
-        when(votoRepository.countByPautaAndEscolha(pauta, Escolha.SIM)).thenReturn(4L);
-        when(votoRepository.countByPautaAndEscolha(pauta, Escolha.NAO)).thenReturn(2L);
+        PlacarPauta placar = new PlacarPauta();
+        placar.adicionar(Escolha.SIM, 4);
+        placar.adicionar(Escolha.NAO, 2);
+        when(apuracao.placar(pauta.getId())).thenReturn(placar);
 
         // ACT
         ResultadoVotacaoResponseDTO response = votoService.calcularResultadoPorTitulo("Pauta Teste");
@@ -117,5 +194,281 @@ class VotoServiceTest {
         assertEquals(66, response.resultado().sim());
         assertEquals(33, response.resultado().nao());
         assertEquals("APROVADA", response.resultado().status());
+        verifyNoInteractions(resultadoPautaRepository);
+        assertEquals(1, meterRegistry.get("votacao.etapa").tag("operacao", "resultado").tag("etapa", "apuracao").timer().count());
+    }
+
+    @Test
+    void calcularResultado_sessaoEncerrada_deveLerResultadoGravado() {
+        // ARRANGE
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.minus(Duration.ofMinutes(10)).toEpochMilli());
+        pauta.encerrarSessao();
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(resultadoPautaRepository.findById(pauta.getId()))
+                .thenReturn(Optional.of(ResultadoPauta.apurar(pauta.getId(), 1, 3, AGORA.toEpochMilli())));
+
+        // ACT
+        ResultadoVotacaoResponseDTO response = votoService.calcularResultadoPorTitulo("Pauta Teste");
+
+        // ASSERT
+        assertEquals(25, response.resultado().sim());
+        assertEquals(75, response.resultado().nao());
+        assertEquals("REPROVADA", response.resultado().status());
+        verify(apuracao, never()).placar(any());
+    }
+
+    @Test
+    void registrarVotosEmLote_deveRetornarStatusPorVoto() {
+        // ARRANGE
+        TituloPauta titulo = new TituloPauta("Pauta Teste");
+        Pauta pauta = pautaComId(titulo);
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        ApuracaoPauta apuracaoPauta = apuracaoComVotantes(22222222303L);
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoPauta);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+        when(gravadorVotos.gravarLote(anyList())).thenAnswer(invocacao -> {
+            boolean[] gravados = new boolean[invocacao.<List<?>>getArgument(0).size()];
+            Arrays.fill(gravados, true);
+            return gravados;
+        });
+
+        List<VotoRequestDTO> votos = List.of(
+                new VotoRequestDTO("11111111200", "SIM"),
+                new VotoRequestDTO("22222222303", "NAO"),
+                new VotoRequestDTO("11111111200", "NAO"),
+                new VotoRequestDTO("123abc", "SIM"),
+                new VotoRequestDTO("33333333414", "TALVEZ"));
+
+        // ACT
+        VotoLoteResponseDTO response = votoService.registrarVotosEmLote("Pauta Teste", votos);
+
+        // ASSERT
+        assertEquals(1, response.aceitos());
+        assertEquals(4, response.rejeitados());
+        assertEquals(List.of(StatusVotoLote.ACEITO, StatusVotoLote.DUPLICADO, StatusVotoLote.DUPLICADO,
+                        StatusVotoLote.CPF_INVALIDO, StatusVotoLote.ESCOLHA_INVALIDA),
+                response.votos().stream().map(VotoLoteResponseDTO.ItemDTO::status).toList());
+        verify(gravadorVotos, times(1)).gravarLote(argThat(lote -> lote.size() == 1));
+        assertEquals(1, apuracaoPauta.getPlacar().getSim());
+        assertEquals(0, apuracaoPauta.getPlacar().getNao());
+    }
+
+    @Test
+    void registrarVotosEmLote_naoAutorizado_deveRejeitarVoto() {
+        // ARRANGE
+        TituloPauta titulo = new TituloPauta("Pauta Teste");
+        Pauta pauta = pautaComId(titulo);
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoComVotantes());
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.UNABLE_TO_VOTE));
+
+        // ACT
+        VotoLoteResponseDTO response = votoService.registrarVotosEmLote("Pauta Teste",
+                List.of(new VotoRequestDTO("11111111200", "SIM")));
+
+        // ASSERT
+        assertEquals(0, response.aceitos());
+        assertEquals(StatusVotoLote.NAO_AUTORIZADO, response.votos().get(0).status());
+        verify(gravadorVotos, never()).gravarLote(any());
+    }
+
+    @Test
+    void registrarVoto_elegibilidadeIndisponivel_deveRepassarErroSemGravar() {
+        // ARRANGE
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoComVotantes());
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "indisponível")));
+
+        // ACT
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "11111111200", "SIM"));
+
+        // ASSERT
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        verify(gravadorVotos, never()).gravar(any());
+    }
+
+    @Test
+    void registrarVotosEmLote_maiorQueOBulkhead_deveAceitarTodosSemPassarDasVagas() throws IOException {
+        // ARRANGE - serviço de elegibilidade com 50 ms de latência e 4 vagas no client, lote de 20 votos
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger pico = new AtomicInteger();
+        HttpServer servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.createContext("/users/", troca -> {
+            pico.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            try (troca) {
+                dormir(50);
+                byte[] corpo = "{\"status\":\"ABLE_TO_VOTE\"}".getBytes(StandardCharsets.UTF_8);
+                troca.sendResponseHeaders(200, corpo.length);
+                troca.getResponseBody().write(corpo);
+            } finally {
+                emAndamento.decrementAndGet();
+            }
+        });
+        servidor.start();
+        ElegibilidadeHttpClient client = new ElegibilidadeHttpClient(new ObjectMapper(),
+                new CacheElegibilidade(meterRegistry, 1000, 60_000, 200), Clock.systemUTC(),
+                "http://127.0.0.1:" + servidor.getAddress().getPort() + "/users/", 500, 2000, 4, 5, 5000,
+                PoliticaFalha.FECHADA);
+        VotoService servico = new VotoService(pautaService, gravadorVotos, client, apuracao,
+                resultadoPautaRepository, Mockito.mock(TransmissaoResultados.class),
+                new MetricasVotacao(meterRegistry, 10, 10_000), Clock.fixed(AGORA, ZoneOffset.UTC));
+
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoComVotantes());
+        when(gravadorVotos.gravarLote(anyList())).thenAnswer(invocacao -> {
+            boolean[] gravados = new boolean[invocacao.<List<?>>getArgument(0).size()];
+            Arrays.fill(gravados, true);
+            return gravados;
+        });
+        List<VotoRequestDTO> votos = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new VotoRequestDTO(Cpf.daBase(i).toString(), "SIM"))
+                .toList();
+
+        // ACT
+        VotoLoteResponseDTO response;
+        try {
+            response = servico.registrarVotosEmLote("Pauta Teste", votos);
+        } finally {
+            client.fechar();
+            servidor.stop(0);
+        }
+
+        // ASSERT - nenhum voto recusado por falta de vaga, e a janela deixou vagas livres
+        assertEquals(20, response.aceitos());
+        assertTrue(pico.get() <= 2, "chamadas simultâneas: " + pico.get());
+    }
+
+    @Test
+    void registrarVotosEmLote_elegibilidadeIndisponivel_deveMarcarSoOVotoAfetado() {
+        // ARRANGE
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoComVotantes());
+        when(cpfClient.maxConcorrentes()).thenReturn(Integer.MAX_VALUE);
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.ABLE_TO_VOTE));
+        when(cpfClient.verificar("11111111200")).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "indisponível")));
+        when(gravadorVotos.gravarLote(anyList())).thenReturn(new boolean[] {true});
+
+        // ACT
+        VotoLoteResponseDTO response = votoService.registrarVotosEmLote("Pauta Teste", List.of(
+                new VotoRequestDTO("11111111200", "SIM"),
+                new VotoRequestDTO("22222222303", "NAO")));
+
+        // ASSERT
+        assertEquals(1, response.aceitos());
+        assertEquals(List.of(StatusVotoLote.INDISPONIVEL, StatusVotoLote.ACEITO),
+                response.votos().stream().map(VotoLoteResponseDTO.ItemDTO::status).toList());
+    }
+
+    @Test
+    void registrarVotosEmLote_sessaoNaoAberta_deveLancarExcecao() {
+        // ARRANGE
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+
+        // ACT & ASSERT
+        assertThrows(SessaoNaoAbertaException.class, () -> votoService.registrarVotosEmLote("Pauta Teste",
+                List.of(new VotoRequestDTO("11111111200", "SIM"))));
+        verify(gravadorVotos, never()).gravarLote(any());
+    }
+
+    @Test
+    void registrarVoto_duplicadoENaoAutorizado_deveManterPrecedenciaDoDuplicado() {
+        // ARRANGE
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenReturn(apuracaoComVotantes(12345678909L));
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.completedFuture(StatusVotacao.UNABLE_TO_VOTE));
+
+        // ACT & ASSERT - 409, como quando a elegibilidade só era consultada depois
+        assertThrows(VotoDuplicadoException.class,
+                () -> votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM"));
+    }
+
+    @Test
+    void registrarVoto_pautaInexistenteEElegibilidadeIndisponivel_deveLancarPautaNaoEncontrada() {
+        // ARRANGE
+        when(pautaService.buscarPorTitulo("Inexistente")).thenReturn(Optional.empty());
+        when(cpfClient.verificar(anyString())).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "indisponível")));
+
+        // ACT & ASSERT
+        assertThrows(PautaNaoEncontradaException.class,
+                () -> votoService.registrarVotoPorTitulo("Inexistente", "12345678909", "SIM"));
+    }
+
+    @Test
+    void registrarVoto_elegibilidadeLenta_deveCorrerJuntoComCargaDosVotantes() {
+        // ARRANGE - a carga do índice de votantes só termina depois que a verificação começou; em
+        // sequência (verificação depois da carga) ela esperaria o limite e registraria o atraso
+        CountDownLatch verificacaoIniciada = new CountDownLatch(1);
+        AtomicBoolean cargaEsperouVerificacao = new AtomicBoolean();
+        Pauta pauta = pautaComId(new TituloPauta("Pauta Teste"));
+        pauta.abrirSessao(5, AGORA.toEpochMilli());
+
+        when(pautaService.buscarPorTitulo("Pauta Teste")).thenReturn(Optional.of(pauta));
+        when(apuracao.porPauta(pauta.getId())).thenAnswer(i -> new ApuracaoPauta(new PlacarPauta(), () -> {
+            try {
+                cargaEsperouVerificacao.set(!verificacaoIniciada.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new IndiceVotantes();
+        }));
+        when(cpfClient.verificar(anyString())).thenAnswer(i -> {
+            verificacaoIniciada.countDown();
+            return new CompletableFuture<StatusVotacao>().completeOnTimeout(StatusVotacao.ABLE_TO_VOTE, 20, TimeUnit.MILLISECONDS);
+        });
+
+        // ACT
+        NovoVoto voto = votoService.registrarVotoPorTitulo("Pauta Teste", "12345678909", "SIM");
+
+        // ASSERT - a verificação já corria quando a carga dos votantes começou
+        assertEquals(Escolha.SIM, voto.escolha());
+        assertFalse(cargaEsperouVerificacao.get(), "a verificação de elegibilidade só começou depois da carga dos votantes");
+    }
+
+    private ApuracaoPauta apuracaoComVotantes(long... cpfs) {
+        IndiceVotantes votantes = new IndiceVotantes();
+        for (long cpf : cpfs) {
+            votantes.adicionar(cpf);
+        }
+        return new ApuracaoPauta(new PlacarPauta(), () -> votantes);
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Pauta como sai do banco, com ID: o voto é gravado só com o ID da pauta.
+     */
+    private static Pauta pautaComId(TituloPauta titulo) {
+        Pauta pauta = new Pauta(titulo);
+        ReflectionTestUtils.setField(pauta, "id", 1L);
+        return pauta;
     }
 }